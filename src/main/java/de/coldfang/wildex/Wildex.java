@@ -18,6 +18,7 @@ import de.coldfang.wildex.server.WildexShareOfferCommands;
 import de.coldfang.wildex.world.WildexGiveBookOnFirstJoinEvents;
 import de.coldfang.wildex.world.WildexLecternEvents;
 import de.coldfang.wildex.world.WildexPedestalProtectionEvents;
+import de.coldfang.wildex.world.WildexPlayerShardEvents;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
@@ -57,6 +58,7 @@ public class Wildex {
         NeoForge.EVENT_BUS.register(WildexKillSyncEvents.class);
         NeoForge.EVENT_BUS.register(WildexSpyglassDiscoveryEvents.class);
         NeoForge.EVENT_BUS.register(WildexRuntimeCacheEvents.class);
+        NeoForge.EVENT_BUS.register(WildexPlayerShardEvents.class);
         NeoForge.EVENT_BUS.register(WildexKubeJsLifecycleEvents.class);
         NeoForge.EVENT_BUS.register(WildexGiveBookOnFirstJoinEvents.class);
         NeoForge.EVENT_BUS.register(WildexLecternEvents.class);
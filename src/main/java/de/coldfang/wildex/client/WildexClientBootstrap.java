@@ -1,5 +1,7 @@
 package de.coldfang.wildex.client;
 
+import de.coldfang.wildex.client.render.WildexImpostorCache;
+import de.coldfang.wildex.client.render.WildexPedestalRenderLod;
 import de.coldfang.wildex.client.render.WildexPedestalRendererRegistry;
 import de.coldfang.wildex.network.WildexSpyglassPulseEvents;
 import de.coldfang.wildex.registry.ModBlocks;
@@ -19,11 +21,14 @@ public final class WildexClientBootstrap {
         modEventBus.addListener(WildexClientBootstrap::onClientSetup);
         WildexClientItemProperties.register(modEventBus);
         WildexPedestalRendererRegistry.register(modEventBus);
+        modEventBus.addListener(WildexImpostorCache::onRegisterReloadListeners);
         NeoForge.EVENT_BUS.register(WildexAccessorifyClientEvents.class);
         NeoForge.EVENT_BUS.register(WildexSpyglassPulseEvents.class);
         NeoForge.EVENT_BUS.register(WildexClientSessionEvents.class);
         NeoForge.EVENT_BUS.register(WildexCompletionClientEvents.class);
         NeoForge.EVENT_BUS.register(WildexSpyglassKnownMobOverlayClient.class);
+        NeoForge.EVENT_BUS.register(WildexPedestalRenderLod.class);
+        NeoForge.EVENT_BUS.register(WildexImpostorCache.class);
     }
 
     @SuppressWarnings("deprecation")
@@ -20,9 +20,11 @@ public final class WildexClientConfigView {
     private static final boolean DEFAULT_HIDE_GUI_SCALE_SLIDER = true;
     private static final boolean DEFAULT_SHOW_MOB_VARIANTS = true;
     private static final boolean DEFAULT_BACKGROUND_MOB_VARIANT_PROBE = true;
+    private static final boolean DEFAULT_SHOW_MOB_LIST_ICONS = false;
     private static final ClientConfig.DesignStyle DEFAULT_DESIGN_STYLE = ClientConfig.DesignStyle.VINTAGE;
     private static final boolean DEFAULT_SHOW_DISCOVERED_SPYGLASS_OVERLAY = true;
     private static final double DEFAULT_WILDEX_UI_SCALE = 2.0d;
+    private static final int DEFAULT_PEDESTAL_MODELS_PER_FRAME = 8;
 
     private WildexClientConfigView() {
     }
@@ -100,6 +102,10 @@ public final class WildexClientConfigView {
         return configValue(() -> ClientConfig.INSTANCE.backgroundMobVariantProbe.get(), DEFAULT_BACKGROUND_MOB_VARIANT_PROBE);
     }
 
+    public static boolean showMobListIcons() {
+        return configValue(() -> ClientConfig.INSTANCE.showMobListIcons.get(), DEFAULT_SHOW_MOB_LIST_ICONS);
+    }
+
     public static ClientConfig.DesignStyle designStyle() {
         return configValue(() -> ClientConfig.INSTANCE.designStyle.get(), DEFAULT_DESIGN_STYLE);
     }
@@ -115,6 +121,10 @@ public final class WildexClientConfigView {
         return configValue(() -> ClientConfig.INSTANCE.wildexUiScale.get(), DEFAULT_WILDEX_UI_SCALE);
     }
 
+    public static int pedestalModelsPerFrame() {
+        return configValue(() -> ClientConfig.INSTANCE.pedestalModelsPerFrame.get(), DEFAULT_PEDESTAL_MODELS_PER_FRAME);
+    }
+
     private static <T> T configValue(Supplier<T> supplier, T fallback) {
         try {
             return supplier.get();
@@ -14,7 +14,10 @@ import de.coldfang.wildex.client.data.WildexPlayerUiStateCache;
 import de.coldfang.wildex.client.data.WildexSpawnCache;
 import de.coldfang.wildex.client.data.WildexVariantStatsCatalog;
 import de.coldfang.wildex.client.data.WildexViewedMobEntriesCache;
+import de.coldfang.wildex.client.render.WildexImpostorCache;
+import de.coldfang.wildex.client.render.WildexPedestalRenderEntityPool;
 import de.coldfang.wildex.client.screen.MobListWidget;
+import de.coldfang.wildex.util.WildexEntityProbe;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
@@ -43,7 +46,10 @@ public final class WildexClientSessionEvents {
         WildexEntityVariantCatalog.clearCache();
         WildexVariantStatsCatalog.clearCache();
         WildexMobIndexModel.clearCaches();
+        WildexEntityProbe.clearClient();
         MobListWidget.clearVariantUiCache();
+        WildexPedestalRenderEntityPool.clear();
+        WildexImpostorCache.clear();
 
         WildexNetworkClient.requestDiscoveredMobs();
         if (WildexClientConfigView.hiddenMode()) {
@@ -72,7 +78,10 @@ public final class WildexClientSessionEvents {
         WildexEntityVariantCatalog.clearCache();
         WildexVariantStatsCatalog.clearCache();
         WildexMobIndexModel.clearCaches();
+        WildexEntityProbe.clearClient();
         MobListWidget.clearVariantUiCache();
+        WildexPedestalRenderEntityPool.clear();
+        WildexImpostorCache.clear();
     }
 
     @SubscribeEvent
@@ -40,9 +40,11 @@ import de.coldfang.wildex.network.C2SSendShareOfferPayload;
 import de.coldfang.wildex.network.C2SSetShareAcceptOffersPayload;
 import de.coldfang.wildex.network.S2CDiscoveredMobPayload;
 import de.coldfang.wildex.network.S2CDiscoveredMobsPayload;
+import de.coldfang.wildex.network.S2CMobKillsBatchPayload;
 import de.coldfang.wildex.network.S2CMobKillsPayload;
 import de.coldfang.wildex.network.S2CMobLootPayload;
 import de.coldfang.wildex.network.S2CMobBreedingPayload;
+import de.coldfang.wildex.network.S2CMobBreedingProgressPayload;
 import de.coldfang.wildex.network.S2CMobDiscoveryDetailsPayload;
 import de.coldfang.wildex.network.S2CMobEntryViewedPayload;
 import de.coldfang.wildex.network.S2CMobFavoriteStatePayload;
@@ -98,6 +100,12 @@ public final class WildexNetworkClient {
                 (payload, ctx) -> ctx.enqueueWork(() -> WildexKillCache.set(payload.mobId(), payload.kills()))
         );
 
+        r.playToClient(
+                S2CMobKillsBatchPayload.TYPE,
+                S2CMobKillsBatchPayload.STREAM_CODEC,
+                (payload, ctx) -> ctx.enqueueWork(() -> WildexKillCache.setAll(payload.kills()))
+        );
+
         r.playToClient(
                 S2CMobDiscoveryDetailsPayload.TYPE,
                 S2CMobDiscoveryDetailsPayload.STREAM_CODEC,
@@ -216,6 +224,12 @@ public final class WildexNetworkClient {
                 )
         );
 
+        r.playToClient(
+                S2CMobBreedingProgressPayload.TYPE,
+                S2CMobBreedingProgressPayload.STREAM_CODEC,
+                (payload, ctx) -> ctx.enqueueWork(() -> WildexMiscCache.setProgress(payload.mobId(), payload.percent()))
+        );
+
         r.playToClient(
                 S2CMobSpawnsPayload.TYPE,
                 S2CMobSpawnsPayload.STREAM_CODEC,
@@ -24,16 +24,21 @@ public final class WildexDiscoveryCache {
 
     public static void setAll(Collection<ResourceLocation> mobIds) {
         DISCOVERED.clear();
-        if (mobIds == null || mobIds.isEmpty()) return;
-        DISCOVERED.addAll(mobIds);
+        if (mobIds != null && !mobIds.isEmpty()) {
+            DISCOVERED.addAll(mobIds);
+        }
+        WildexMobFacetIndex.onDiscoveriesReset();
     }
 
     public static void add(ResourceLocation mobId) {
         if (mobId == null) return;
-        DISCOVERED.add(mobId);
+        if (DISCOVERED.add(mobId)) {
+            WildexMobFacetIndex.onDiscovered(mobId);
+        }
     }
 
     public static void clear() {
         DISCOVERED.clear();
+        WildexMobFacetIndex.onDiscoveriesReset();
     }
 }
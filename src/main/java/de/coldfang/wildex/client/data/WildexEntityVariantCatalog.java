@@ -3,6 +3,7 @@ package de.coldfang.wildex.client.data;
 import de.coldfang.wildex.integration.cobblemon.WildexCobblemonBridge;
 import de.coldfang.wildex.integration.vanillabackport.WildexVanillaBackportBridge;
 import de.coldfang.wildex.util.WildexEntityFactory;
+import de.coldfang.wildex.util.WildexEntityProbe;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
@@ -20,16 +21,19 @@ import java.util.concurrent.atomic.AtomicLong;
 
 public final class WildexEntityVariantCatalog {
 
-    private static final int PROBE_INTERVAL_TICKS = 3;
-    private static final int MAX_JOBS_PER_CYCLE = 1;
     private static final long PROBE_TIME_BUDGET_NS = 2_000_000L;
+    // Support checks are requested while their row renders; one that goes unrequested this long scrolled away.
+    private static final int STALE_SUPPORT_JOB_TICKS = 20;
     private static final Map<ResourceLocation, Boolean> SUPPORT_CACHE = new ConcurrentHashMap<>();
     private static final Map<ResourceLocation, List<WildexEntityVariantProbe.VariantOption>> OPTIONS_CACHE = new ConcurrentHashMap<>();
     private static final Map<ResourceLocation, ProbeJob> PENDING_JOBS = new ConcurrentHashMap<>();
     private static final Queue<ResourceLocation> PROBE_QUEUE = new ConcurrentLinkedQueue<>();
     private static final AtomicLong CACHE_REVISION = new AtomicLong(0L);
 
-    private static int clientTickCounter = 0;
+    private static long clientTickCounter = 0L;
+    private static ResourceLocation activeId = null;
+    private static Entity activeEntity = null;
+    private static WildexEntityVariantProbe.Discovery activeDiscovery = null;
 
     private WildexEntityVariantCatalog() {
     }
@@ -44,41 +48,110 @@ public final class WildexEntityVariantCatalog {
         if (level == null) return;
 
         clientTickCounter++;
-        if ((clientTickCounter % PROBE_INTERVAL_TICKS) != 0) return;
-
         long deadlineNs = System.nanoTime() + PROBE_TIME_BUDGET_NS;
-        int processed = 0;
-
-        while (processed < MAX_JOBS_PER_CYCLE && System.nanoTime() <= deadlineNs) {
-            ResourceLocation id = PROBE_QUEUE.poll();
-            if (id == null) break;
-
-            ProbeJob job = PENDING_JOBS.remove(id);
-            if (job == null) continue;
-
-            if (job.mode() == ProbeMode.SUPPORT) {
-                boolean supported;
-                try {
-                    supported = probeSupport(job.type(), level);
-                } catch (Throwable ignored) {
-                    supported = false;
-                }
-                SUPPORT_CACHE.put(id, supported);
-                if (!supported) {
-                    OPTIONS_CACHE.put(id, List.of());
-                }
-            } else {
-                List<WildexEntityVariantProbe.VariantOption> discovered;
-                try {
-                    discovered = discoverOptions(job.type(), level);
-                } catch (Throwable ignored) {
-                    discovered = List.of();
-                }
-                OPTIONS_CACHE.put(id, discovered);
-                SUPPORT_CACHE.put(id, !discovered.isEmpty());
+        int waitingBudget = PROBE_QUEUE.size();
+
+        while (System.nanoTime() < deadlineNs) {
+            if (activeId == null) {
+                // Jobs still waiting for their background scan go back into the queue once per tick.
+                if (waitingBudget-- <= 0) break;
+                ResourceLocation id = PROBE_QUEUE.poll();
+                if (id == null) break;
+                startJob(id, level);
+                continue;
+            }
+
+            if (!PENDING_JOBS.containsKey(activeId)) {
+                cancelActive();
+                continue;
+            }
+
+            boolean done;
+            try {
+                done = activeDiscovery.step(deadlineNs);
+            } catch (Throwable ignored) {
+                done = true;
+            }
+            if (done) {
+                ResourceLocation id = activeId;
+                List<WildexEntityVariantProbe.VariantOption> discovered = activeDiscovery.result();
+                cancelActive();
+                PENDING_JOBS.remove(id);
+                storeOptions(id, discovered);
+            }
+        }
+    }
+
+    private static void startJob(ResourceLocation id, Level level) {
+        ProbeJob job = PENDING_JOBS.get(id);
+        if (job == null) return;
+
+        if (job.mode() == ProbeMode.SUPPORT && clientTickCounter - job.requestedTick() > STALE_SUPPORT_JOB_TICKS) {
+            PENDING_JOBS.remove(id, job);
+            return;
+        }
+
+        Class<?> entityClass = WildexEntityProbe.of(job.type(), level).entityClass();
+        if (entityClass == null || !Mob.class.isAssignableFrom(entityClass)) {
+            PENDING_JOBS.remove(id);
+            storeOptions(id, List.of());
+            return;
+        }
+        if (!WildexEntityVariantProbe.prepare(entityClass).isDone()) {
+            PROBE_QUEUE.offer(id);
+            return;
+        }
+
+        if (job.mode() == ProbeMode.SUPPORT) {
+            boolean supported;
+            try {
+                supported = probeSupport(job.type(), level);
+            } catch (Throwable ignored) {
+                supported = false;
+            }
+            PENDING_JOBS.remove(id, job);
+            SUPPORT_CACHE.put(id, supported);
+            if (!supported) {
+                OPTIONS_CACHE.put(id, List.of());
             }
             CACHE_REVISION.incrementAndGet();
-            processed++;
+            return;
+        }
+
+        Entity entity = WildexEntityFactory.tryCreate(job.type(), level);
+        if (!(entity instanceof Mob)) {
+            WildexEntityFactory.discardQuietly(entity);
+            PENDING_JOBS.remove(id);
+            storeOptions(id, List.of());
+            return;
+        }
+        activeId = id;
+        activeEntity = entity;
+        activeDiscovery = WildexEntityVariantProbe.beginDiscovery(entity, Integer.MAX_VALUE);
+    }
+
+    private static void storeOptions(ResourceLocation id, List<WildexEntityVariantProbe.VariantOption> discovered) {
+        OPTIONS_CACHE.put(id, discovered);
+        SUPPORT_CACHE.put(id, !discovered.isEmpty());
+        CACHE_REVISION.incrementAndGet();
+    }
+
+    private static void cancelActive() {
+        WildexEntityFactory.discardQuietly(activeEntity);
+        activeId = null;
+        activeEntity = null;
+        activeDiscovery = null;
+    }
+
+    /**
+     * Drops the pending probe for {@code type}, for example when its list entry is collapsed.
+     */
+    public static void cancel(EntityType<?> type) {
+        ResourceLocation id = idOf(type);
+        if (id == null) return;
+        PENDING_JOBS.remove(id);
+        if (id.equals(activeId)) {
+            cancelActive();
         }
     }
 
@@ -97,12 +170,13 @@ public final class WildexEntityVariantCatalog {
             return cachedSupport ? SupportState.SUPPORTED : SupportState.UNSUPPORTED;
         }
 
-        ProbeJob existing = PENDING_JOBS.get(id);
-        if (existing != null) return SupportState.PENDING;
-
-        PENDING_JOBS.computeIfAbsent(id, key -> {
-            PROBE_QUEUE.offer(key);
-            return new ProbeJob(type, ProbeMode.SUPPORT);
+        long tick = clientTickCounter;
+        PENDING_JOBS.compute(id, (key, existing) -> {
+            if (existing == null) {
+                PROBE_QUEUE.offer(key);
+                return new ProbeJob(type, ProbeMode.SUPPORT, tick);
+            }
+            return existing.requestedTick() == tick ? existing : new ProbeJob(existing.type(), existing.mode(), tick);
         });
         return SupportState.PENDING;
     }
@@ -120,13 +194,14 @@ public final class WildexEntityVariantCatalog {
         Boolean supported = SUPPORT_CACHE.get(id);
         if (Boolean.FALSE.equals(supported)) return ProbeState.UNSUPPORTED;
 
+        long tick = clientTickCounter;
         PENDING_JOBS.compute(id, (key, existing) -> {
             if (existing == null) {
                 PROBE_QUEUE.offer(key);
-                return new ProbeJob(type, ProbeMode.OPTIONS);
+                return new ProbeJob(type, ProbeMode.OPTIONS, tick);
             }
             if (existing.mode() == ProbeMode.SUPPORT) {
-                return new ProbeJob(type, ProbeMode.OPTIONS);
+                return new ProbeJob(type, ProbeMode.OPTIONS, tick);
             }
             return existing;
         });
@@ -174,7 +249,7 @@ public final class WildexEntityVariantCatalog {
         WildexCobblemonBridge.clearCache();
         WildexVanillaBackportBridge.clearCache();
         CACHE_REVISION.incrementAndGet();
-        clientTickCounter = 0;
+        clientTickCounter = 0L;
     }
 
     private static boolean probeSupport(EntityType<?> type, Level level) {
@@ -206,6 +281,7 @@ public final class WildexEntityVariantCatalog {
     }
 
     private static void clearPendingJobs() {
+        cancelActive();
         PENDING_JOBS.clear();
         PROBE_QUEUE.clear();
     }
@@ -232,6 +308,6 @@ public final class WildexEntityVariantCatalog {
         OPTIONS
     }
 
-    private record ProbeJob(EntityType<?> type, ProbeMode mode) {
+    private record ProbeJob(EntityType<?> type, ProbeMode mode, long requestedTick) {
     }
 }
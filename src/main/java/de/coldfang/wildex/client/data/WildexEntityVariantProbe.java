@@ -4,6 +4,8 @@ import de.coldfang.wildex.client.WildexClientConfigView;
 import de.coldfang.wildex.integration.cobblemon.WildexCobblemonBridge;
 import de.coldfang.wildex.integration.vanillabackport.WildexVanillaBackportBridge;
 import de.coldfang.wildex.util.WildexIdFilterMatcher;
+import de.coldfang.wildex.util.WildexReflectiveAccess;
+import net.minecraft.Util;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
@@ -21,6 +23,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -28,6 +31,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
@@ -45,6 +49,7 @@ public final class WildexEntityVariantProbe {
 
     private static final int[] INT_CANDIDATES = {15, 7, 3, 2, 1, 4, 5, 6, 8};
     private static final Map<Class<?>, List<Accessor>> ACCESSOR_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, CompletableFuture<ClassPlan>> PLAN_CACHE = new ConcurrentHashMap<>();
     private static final int HOLDER_REGISTRY_SCAN_CAP = 256;
     private static final int RESOURCE_KEY_SCAN_CAP = 256;
     private static final int RESOURCE_KEY_PER_REGISTRY_CAP = 128;
@@ -135,42 +140,32 @@ public final class WildexEntityVariantProbe {
     }
 
     public static List<VariantOption> discoverOptions(Entity entity, int maxOptions) {
-        if (!isClientPreviewEntity(entity)) return List.of();
-        if (isVariantProbeExcluded(entity)) return List.of();
-        if (!(entity instanceof Mob mob)) return List.of();
-        int cap = Math.max(1, maxOptions);
-
-        List<VariantOption> bridged = WildexCobblemonBridge.discoverVariantOptions(entity, cap);
-        if (!bridged.isEmpty()) {
-            return bridged;
-        }
-        bridged = WildexVanillaBackportBridge.discoverVariantOptions(entity, cap);
-        if (!bridged.isEmpty()) {
-            return bridged;
-        }
-
-        List<Accessor> accessors = resolveAccessors(mob.getClass());
-        if (accessors.isEmpty()) return List.of();
+        Discovery discovery = new Discovery(entity, maxOptions, false);
+        discovery.step(Long.MAX_VALUE);
+        return discovery.result();
+    }
 
-        Map<String, VariantOption> out = new LinkedHashMap<>();
-        for (Accessor accessor : accessors) {
-            int remaining = cap - out.size();
-            if (remaining <= 0) break;
-
-            List<VariantOption> options = switch (accessor.kind()) {
-                case INT -> discoverIntOptions(mob, accessor, remaining);
-                case ENUM -> discoverEnumOptions(mob, accessor, remaining);
-                case STRING -> discoverStringOptions(mob, accessor, remaining);
-                case OBJECT -> discoverObjectOptions(mob, accessor, remaining);
-            };
+    /**
+     * Starts a resumable option discovery for {@code entity}. Accessor scanning and the entity-independent
+     * candidate lookups run on a background worker; {@link Discovery#step} only mutates the entity.
+     */
+    public static Discovery beginDiscovery(Entity entity, int maxOptions) {
+        return new Discovery(entity, maxOptions, true);
+    }
 
-            for (VariantOption option : options) {
-                out.putIfAbsent(option.id(), option);
-                if (out.size() >= cap) break;
-            }
-        }
+    /**
+     * Prepares the variant accessors of {@code entityClass} off-thread. The future is shared per class.
+     */
+    public static CompletableFuture<?> prepare(Class<?> entityClass) {
+        return planFuture(entityClass);
+    }
 
-        return out.isEmpty() ? List.of() : List.copyOf(out.values());
+    private static CompletableFuture<ClassPlan> planFuture(Class<?> entityClass) {
+        if (entityClass == null) return CompletableFuture.completedFuture(ClassPlan.EMPTY);
+        return PLAN_CACHE.computeIfAbsent(
+                entityClass,
+                type -> CompletableFuture.supplyAsync(() -> buildPlan(type), Util.backgroundExecutor())
+        );
     }
 
     public static boolean applyOption(Entity entity, String optionId) {
@@ -205,107 +200,6 @@ public final class WildexEntityVariantProbe {
         };
     }
 
-    private static List<VariantOption> discoverIntOptions(Mob entity, Accessor accessor, int cap) {
-        Integer original = readInt(accessor.getter(), entity);
-        if (original == null) return List.of();
-
-        String baseName = safeEntityName(entity);
-        Map<String, VariantOption> out = new LinkedHashMap<>();
-        int ordinal = 1;
-
-        for (int candidate : INT_CANDIDATES) {
-            if (candidate == original) continue;
-            if (!writeAndVerifyInt(entity, accessor, candidate)) continue;
-
-            String label = optionLabelFromState(entity, baseName, accessor.suffix(), ordinal, candidate);
-            String optionId = accessor.setter().getName() + "|" + candidate;
-            out.putIfAbsent(optionId, new VariantOption(optionId, label));
-            ordinal++;
-            if (out.size() >= cap) break;
-        }
-
-        writeInt(entity, accessor, original);
-        return new ArrayList<>(out.values());
-    }
-
-    private static List<VariantOption> discoverEnumOptions(Mob entity, Accessor accessor, int cap) {
-        Object original = read(accessor.getter(), entity);
-        if (original == null) return List.of();
-
-        Object[] constants = accessor.valueType().getEnumConstants();
-        if (constants == null || constants.length <= 1) return List.of();
-
-        String baseName = safeEntityName(entity);
-        List<VariantOption> out = new ArrayList<>();
-        int ordinal = 1;
-
-        for (Object candidate : constants) {
-            if (candidate == null || candidate.equals(original)) continue;
-            if (!writeAndVerifyEnum(entity, accessor, candidate)) continue;
-
-            String raw = ((Enum<?>) candidate).name();
-            String label = optionLabelFromState(entity, baseName, accessor.suffix(), ordinal, raw);
-            String optionId = accessor.setter().getName() + "|" + raw;
-            out.add(new VariantOption(optionId, label));
-            ordinal++;
-            if (out.size() >= cap) break;
-        }
-
-        write(accessor.setter(), entity, original);
-        return out;
-    }
-
-    private static List<VariantOption> discoverStringOptions(Mob entity, Accessor accessor, int cap) {
-        Object current = read(accessor.getter(), entity);
-        if (!(current instanceof String original)) return List.of();
-
-        String baseName = safeEntityName(entity);
-        Map<String, VariantOption> out = new LinkedHashMap<>();
-        int ordinal = 1;
-
-        List<String> candidates = discoverStringCandidates(entity, accessor, original);
-        for (String candidate : candidates) {
-            if (candidate == null || candidate.isBlank() || Objects.equals(candidate, original)) continue;
-            if (!writeAndVerifyString(entity, accessor, candidate)) continue;
-
-            String label = optionLabelFromState(entity, baseName, accessor.suffix(), ordinal, candidate);
-            String optionId = accessor.setter().getName() + "|" + candidate;
-            out.putIfAbsent(optionId, new VariantOption(optionId, label));
-            ordinal++;
-            if (out.size() >= cap) break;
-        }
-
-        write(accessor.setter(), entity, original);
-        return new ArrayList<>(out.values());
-    }
-
-    private static List<VariantOption> discoverObjectOptions(Mob entity, Accessor accessor, int cap) {
-        Object original = read(accessor.getter(), entity);
-        String originalToken = stableToken(original);
-        String baseName = safeEntityName(entity);
-
-        Map<String, VariantOption> out = new LinkedHashMap<>();
-        int ordinal = 1;
-
-        List<Object> candidates = discoverObjectCandidates(entity, accessor);
-        candidates.sort(WildexEntityVariantProbe::compareObjectCandidates);
-        for (Object candidate : candidates) {
-            if (candidate == null) continue;
-            String token = stableToken(candidate);
-            if (token == null || token.isBlank()) continue;
-            if (originalToken != null && originalToken.equals(token)) continue;
-            if (!writeAndVerifyObjectIsolated(entity, accessor, candidate)) continue;
-
-            String label = optionLabelFromState(entity, baseName, accessor.suffix(), ordinal, token);
-            String optionId = accessor.setter().getName() + "|" + token;
-            out.putIfAbsent(optionId, new VariantOption(optionId, label));
-            ordinal++;
-            if (out.size() >= cap) break;
-        }
-
-        return new ArrayList<>(out.values());
-    }
-
     private static int compareObjectCandidates(Object a, Object b) {
         String ta = stableToken(a);
         String tb = stableToken(b);
@@ -436,7 +330,7 @@ public final class WildexEntityVariantProbe {
     }
 
     private static boolean tryApplyIntAccessor(Mob entity, Accessor accessor) {
-        Integer original = readInt(accessor.getter(), entity);
+        Integer original = readInt(accessor.reader(), entity);
         if (original == null) return false;
 
         for (int candidate : INT_CANDIDATES) {
@@ -452,7 +346,7 @@ public final class WildexEntityVariantProbe {
     }
 
     private static boolean tryApplyEnumAccessor(Mob entity, Accessor accessor) {
-        Object original = read(accessor.getter(), entity);
+        Object original = read(accessor.reader(), entity);
         if (original == null) return false;
 
         Object[] constants = accessor.valueType().getEnumConstants();
@@ -463,12 +357,12 @@ public final class WildexEntityVariantProbe {
             if (writeAndVerifyEnum(entity, accessor, candidate)) return true;
         }
 
-        write(accessor.setter(), entity, original);
+        write(accessor.writer(), entity, original);
         return false;
     }
 
     private static boolean tryApplyStringAccessor(Mob entity, Accessor accessor) {
-        Object current = read(accessor.getter(), entity);
+        Object current = read(accessor.reader(), entity);
         if (!(current instanceof String original)) return false;
 
         List<String> candidates = discoverStringCandidates(entity, accessor, original);
@@ -477,12 +371,12 @@ public final class WildexEntityVariantProbe {
             if (writeAndVerifyString(entity, accessor, candidate)) return true;
         }
 
-        write(accessor.setter(), entity, original);
+        write(accessor.writer(), entity, original);
         return false;
     }
 
     private static boolean tryApplyObjectAccessor(Mob entity, Accessor accessor) {
-        Object original = read(accessor.getter(), entity);
+        Object original = read(accessor.reader(), entity);
         List<Object> candidates = discoverObjectCandidates(entity, accessor);
 
         for (Object candidate : candidates) {
@@ -492,32 +386,32 @@ public final class WildexEntityVariantProbe {
         }
 
         if (original != null) {
-            write(accessor.setter(), entity, original);
+            write(accessor.writer(), entity, original);
         }
         return false;
     }
 
     private static boolean writeAndVerifyInt(Mob entity, Accessor accessor, int candidate) {
         if (!writeInt(entity, accessor, candidate)) return false;
-        Integer after = readInt(accessor.getter(), entity);
+        Integer after = readInt(accessor.reader(), entity);
         return after != null && after == candidate;
     }
 
     private static boolean writeAndVerifyEnum(Mob entity, Accessor accessor, Object candidate) {
-        if (!write(accessor.setter(), entity, candidate)) return false;
-        Object after = read(accessor.getter(), entity);
+        if (!write(accessor.writer(), entity, candidate)) return false;
+        Object after = read(accessor.reader(), entity);
         return candidate.equals(after);
     }
 
     private static boolean writeAndVerifyString(Mob entity, Accessor accessor, String candidate) {
-        if (!write(accessor.setter(), entity, candidate)) return false;
-        Object after = read(accessor.getter(), entity);
+        if (!write(accessor.writer(), entity, candidate)) return false;
+        Object after = read(accessor.reader(), entity);
         return after instanceof String out && Objects.equals(out, candidate);
     }
 
     private static boolean writeAndVerifyObject(Mob entity, Accessor accessor, Object candidate) {
-        if (!write(accessor.setter(), entity, candidate)) return false;
-        Object after = read(accessor.getter(), entity);
+        if (!write(accessor.writer(), entity, candidate)) return false;
+        Object after = read(accessor.reader(), entity);
         String wanted = stableToken(candidate);
         String actual = stableToken(after);
         return wanted != null && !wanted.isBlank() && wanted.equals(actual);
@@ -555,7 +449,7 @@ public final class WildexEntityVariantProbe {
         Class<?> paramType = accessor.setter().getParameterTypes()[0];
         Object converted = convertInt(paramType, value);
         if (converted == null) return false;
-        return write(accessor.setter(), entity, converted);
+        return write(accessor.writer(), entity, converted);
     }
 
     private static Object convertInt(Class<?> paramType, int value) {
@@ -566,7 +460,7 @@ public final class WildexEntityVariantProbe {
         return null;
     }
 
-    private static Integer readInt(Method getter, Object target) {
+    private static Integer readInt(WildexReflectiveAccess.Invoker getter, Object target) {
         Object out = read(getter, target);
         if (out instanceof Integer i) return i;
         if (out instanceof Byte b) return (int) b;
@@ -576,6 +470,10 @@ public final class WildexEntityVariantProbe {
     }
 
     private static Object read(Method getter, Object target) {
+        return read(WildexReflectiveAccess.of(getter), target);
+    }
+
+    private static Object read(WildexReflectiveAccess.Invoker getter, Object target) {
         try {
             return getter.invoke(target);
         } catch (Throwable ignored) {
@@ -583,7 +481,7 @@ public final class WildexEntityVariantProbe {
         }
     }
 
-    private static boolean write(Method setter, Object target, Object value) {
+    private static boolean write(WildexReflectiveAccess.Invoker setter, Object target, Object value) {
         try {
             setter.invoke(target, value);
             return true;
@@ -618,7 +516,16 @@ public final class WildexEntityVariantProbe {
 
             trySetAccessible(getter);
             trySetAccessible(setter);
-            candidates.add(new Accessor(getter, setter, getter.getReturnType(), suffix, kind, score));
+            candidates.add(new Accessor(
+                    getter,
+                    setter,
+                    WildexReflectiveAccess.of(getter),
+                    WildexReflectiveAccess.of(setter),
+                    getter.getReturnType(),
+                    suffix,
+                    kind,
+                    score
+            ));
         }
 
         candidates.sort(Comparator.comparingInt(Accessor::score).reversed());
@@ -762,13 +669,16 @@ public final class WildexEntityVariantProbe {
     }
 
     private static List<Object> discoverObjectCandidates(Mob entity, Accessor accessor) {
+        return discoverObjectCandidates(entity, accessor, staticObjectCandidates(entity.getClass(), accessor));
+    }
+
+    private static List<Object> discoverObjectCandidates(Mob entity, Accessor accessor, StaticCandidates statics) {
         Class<?> setterType = accessor.setter().getParameterTypes()[0];
-        Class<?> entityClass = entity.getClass();
         Map<String, Object> out = new LinkedHashMap<>();
 
-        Object current = read(accessor.getter(), entity);
+        Object current = read(accessor.reader(), entity);
         addCandidate(out, current);
-        discoverValueTypeCandidates(accessor, out);
+        addCapped(out, statics.valueType());
 
         if (current instanceof Holder<?> holder) {
             discoverHolderCandidates(setterType, holder, entity.level(), out);
@@ -776,34 +686,68 @@ public final class WildexEntityVariantProbe {
         if (out.size() < RESOURCE_KEY_SCAN_CAP) {
             discoverResourceKeyCandidates(entity, accessor, out);
         }
+        addCapped(out, statics.registryClass());
 
+        return new ArrayList<>(out.values());
+    }
+
+    private static void addCapped(Map<String, Object> out, List<Object> candidates) {
+        for (Object candidate : candidates) {
+            if (out.size() >= RESOURCE_KEY_SCAN_CAP) return;
+            addCandidate(out, candidate);
+        }
+    }
+
+    // Entity-independent part of the object candidate lookup; safe to run off the render thread.
+    private static StaticCandidates staticObjectCandidates(Class<?> entityClass, Accessor accessor) {
+        Class<?> setterType = accessor.setter().getParameterTypes()[0];
+
+        Map<String, Object> valueType = new LinkedHashMap<>();
+        discoverValueTypeCandidates(accessor, valueType);
+
+        Map<String, Object> registryClass = new LinkedHashMap<>();
         for (String className : registryClassNameCandidates(entityClass, setterType)) {
-            if (out.size() >= RESOURCE_KEY_SCAN_CAP) break;
-            Class<?> registryClass = tryLoadClass(entityClass, className);
-            if (registryClass == null) continue;
+            if (registryClass.size() >= RESOURCE_KEY_SCAN_CAP) break;
+            Class<?> type = tryLoadClass(entityClass, className);
+            if (type == null) continue;
 
-            for (Method method : registryClass.getMethods()) {
+            for (Method method : type.getMethods()) {
                 if (!isLikelyVariantRegistryMethod(method, setterType)) continue;
 
                 Object result = read(method, null);
                 if (result == null) continue;
 
                 if (setterType.isInstance(result)) {
-                    addCandidate(out, result);
+                    addCandidate(registryClass, result);
                     continue;
                 }
 
                 for (Object element : extractElements(result)) {
                     if (setterType.isInstance(element)) {
-                        addCandidate(out, element);
-                        if (out.size() >= RESOURCE_KEY_SCAN_CAP) break;
+                        addCandidate(registryClass, element);
+                        if (registryClass.size() >= RESOURCE_KEY_SCAN_CAP) break;
                     }
                 }
-                if (out.size() >= RESOURCE_KEY_SCAN_CAP) break;
+                if (registryClass.size() >= RESOURCE_KEY_SCAN_CAP) break;
             }
         }
 
-        return new ArrayList<>(out.values());
+        return new StaticCandidates(List.copyOf(valueType.values()), List.copyOf(registryClass.values()));
+    }
+
+    private static ClassPlan buildPlan(Class<?> entityClass) {
+        try {
+            List<Accessor> accessors = resolveAccessors(entityClass);
+            Map<Accessor, StaticCandidates> statics = new HashMap<>();
+            for (Accessor accessor : accessors) {
+                if (accessor.kind() != Kind.OBJECT) continue;
+                statics.put(accessor, staticObjectCandidates(entityClass, accessor));
+            }
+            return new ClassPlan(accessors, Map.copyOf(statics));
+        } catch (Throwable ignored) {
+            // Fall back to resolving on the render thread for classes that cannot be scanned off-thread.
+            return null;
+        }
     }
 
     private static void discoverValueTypeCandidates(Accessor accessor, Map<String, Object> out) {
@@ -1244,13 +1188,7 @@ public final class WildexEntityVariantProbe {
 
     private static Object tryCallZeroArg(Object target, String methodName) {
         if (target == null || methodName == null || methodName.isBlank()) return null;
-        try {
-            Method method = target.getClass().getMethod(methodName);
-            trySetAccessible(method);
-            return method.invoke(target);
-        } catch (Throwable ignored) {
-            return null;
-        }
+        return WildexReflectiveAccess.invokeNoArgs(target, methodName);
     }
 
     private static Object tryCallOneArg(Object target, String methodName, Object arg) {
@@ -1264,8 +1202,7 @@ public final class WildexEntityVariantProbe {
             if (!isParameterCompatible(paramType, arg)) continue;
 
             try {
-                trySetAccessible(method);
-                return method.invoke(target, arg);
+                return WildexReflectiveAccess.of(method).invoke(target, arg);
             } catch (Throwable ignored) {
             }
         }
@@ -1369,6 +1306,225 @@ public final class WildexEntityVariantProbe {
         return null;
     }
 
+    /**
+     * Resumable option discovery for one entity. Each {@link #step} call tests candidates until the deadline
+     * passes, so a slow accessor only delays the remaining ones instead of stalling a frame.
+     */
+    public static final class Discovery {
+
+        private final Mob mob;
+        private final int cap;
+        private final boolean background;
+        private final Map<String, VariantOption> out = new LinkedHashMap<>();
+        private List<Accessor> accessors = null;
+        private Map<Accessor, StaticCandidates> statics = Map.of();
+        private int accessorIndex = 0;
+        private AccessorPass pass = null;
+        private boolean bridgesChecked = false;
+        private List<VariantOption> result = null;
+
+        private Discovery(Entity entity, int maxOptions, boolean background) {
+            this.cap = Math.max(1, maxOptions);
+            this.background = background;
+            if (isClientPreviewEntity(entity) && !isVariantProbeExcluded(entity) && entity instanceof Mob mob) {
+                this.mob = mob;
+            } else {
+                this.mob = null;
+                this.result = List.of();
+            }
+        }
+
+        /**
+         * Advances the discovery until it completes or {@code deadlineNs} passes; returns true once done.
+         */
+        public boolean step(long deadlineNs) {
+            if (result != null) return true;
+
+            if (!bridgesChecked) {
+                bridgesChecked = true;
+                List<VariantOption> bridged = WildexCobblemonBridge.discoverVariantOptions(mob, cap);
+                if (bridged.isEmpty()) {
+                    bridged = WildexVanillaBackportBridge.discoverVariantOptions(mob, cap);
+                }
+                if (!bridged.isEmpty()) {
+                    result = bridged;
+                    return true;
+                }
+            }
+
+            if (accessors == null && !resolvePlan()) return false;
+
+            do {
+                if (pass == null) {
+                    if (accessorIndex >= accessors.size() || out.size() >= cap) {
+                        result = out.isEmpty() ? List.of() : List.copyOf(out.values());
+                        return true;
+                    }
+                    Accessor accessor = accessors.get(accessorIndex++);
+                    StaticCandidates candidates = accessor.kind() == Kind.OBJECT ? statics.get(accessor) : null;
+                    if (accessor.kind() == Kind.OBJECT && candidates == null) {
+                        candidates = staticObjectCandidates(mob.getClass(), accessor);
+                    }
+                    pass = AccessorPass.begin(mob, accessor, candidates, cap - out.size());
+                    continue;
+                }
+
+                if (pass.step()) {
+                    for (VariantOption option : pass.options()) {
+                        out.putIfAbsent(option.id(), option);
+                        if (out.size() >= cap) break;
+                    }
+                    pass = null;
+                }
+            } while (System.nanoTime() < deadlineNs);
+            return false;
+        }
+
+        public List<VariantOption> result() {
+            return result == null ? List.of() : result;
+        }
+
+        private boolean resolvePlan() {
+            ClassPlan plan = null;
+            if (background) {
+                CompletableFuture<ClassPlan> future = planFuture(mob.getClass());
+                if (!future.isDone()) return false;
+                plan = future.getNow(null);
+            }
+            if (plan == null) {
+                accessors = resolveAccessors(mob.getClass());
+                return true;
+            }
+            accessors = plan.accessors();
+            statics = plan.statics();
+            return true;
+        }
+    }
+
+    private static final class AccessorPass {
+
+        private final Mob entity;
+        private final Accessor accessor;
+        private final int cap;
+        private final String baseName;
+        private final Object original;
+        private final String originalToken;
+        private final boolean restoreOriginal;
+        private final List<?> candidates;
+        private final Map<String, VariantOption> out = new LinkedHashMap<>();
+        private int index = 0;
+        private int ordinal = 1;
+
+        private AccessorPass(Mob entity, Accessor accessor, int cap, Object original, boolean restoreOriginal, List<?> candidates) {
+            this.entity = entity;
+            this.accessor = accessor;
+            this.cap = cap;
+            this.baseName = safeEntityName(entity);
+            this.original = original;
+            this.originalToken = accessor.kind() == Kind.OBJECT ? stableToken(original) : null;
+            this.restoreOriginal = restoreOriginal;
+            this.candidates = candidates;
+        }
+
+        private static AccessorPass begin(Mob entity, Accessor accessor, StaticCandidates statics, int cap) {
+            switch (accessor.kind()) {
+                case INT -> {
+                    Integer original = readInt(accessor.reader(), entity);
+                    if (original == null) return empty(entity, accessor);
+                    List<Integer> candidates = new ArrayList<>(INT_CANDIDATES.length);
+                    for (int candidate : INT_CANDIDATES) {
+                        if (candidate != original) candidates.add(candidate);
+                    }
+                    return new AccessorPass(entity, accessor, cap, original, true, candidates);
+                }
+                case ENUM -> {
+                    Object original = read(accessor.reader(), entity);
+                    if (original == null) return empty(entity, accessor);
+                    Object[] constants = accessor.valueType().getEnumConstants();
+                    if (constants == null || constants.length <= 1) return empty(entity, accessor);
+                    List<Object> candidates = new ArrayList<>(constants.length);
+                    for (Object candidate : constants) {
+                        if (candidate != null && !candidate.equals(original)) candidates.add(candidate);
+                    }
+                    return new AccessorPass(entity, accessor, cap, original, true, candidates);
+                }
+                case STRING -> {
+                    Object current = read(accessor.reader(), entity);
+                    if (!(current instanceof String original)) return empty(entity, accessor);
+                    List<String> candidates = new ArrayList<>();
+                    for (String candidate : discoverStringCandidates(entity, accessor, original)) {
+                        if (candidate == null || candidate.isBlank() || Objects.equals(candidate, original)) continue;
+                        candidates.add(candidate);
+                    }
+                    return new AccessorPass(entity, accessor, cap, original, true, candidates);
+                }
+                case OBJECT -> {
+                    Object original = read(accessor.reader(), entity);
+                    List<Object> candidates = discoverObjectCandidates(entity, accessor, statics);
+                    candidates.sort(WildexEntityVariantProbe::compareObjectCandidates);
+                    return new AccessorPass(entity, accessor, cap, original, false, candidates);
+                }
+            }
+            return empty(entity, accessor);
+        }
+
+        private static AccessorPass empty(Mob entity, Accessor accessor) {
+            return new AccessorPass(entity, accessor, 0, null, false, List.of());
+        }
+
+        /**
+         * Tests one candidate; returns true once the pass is complete and the original value is restored.
+         */
+        private boolean step() {
+            if (index < candidates.size() && out.size() < cap) {
+                Object candidate = candidates.get(index++);
+                String raw = tryCandidate(candidate);
+                if (raw != null) {
+                    String label = optionLabelFromState(entity, baseName, accessor.suffix(), ordinal, raw);
+                    String optionId = accessor.setter().getName() + "|" + raw;
+                    out.putIfAbsent(optionId, new VariantOption(optionId, label));
+                    ordinal++;
+                }
+                return false;
+            }
+
+            if (restoreOriginal) {
+                if (accessor.kind() == Kind.INT) {
+                    writeInt(entity, accessor, (Integer) original);
+                } else {
+                    write(accessor.writer(), entity, original);
+                }
+            }
+            return true;
+        }
+
+        private List<VariantOption> options() {
+            return new ArrayList<>(out.values());
+        }
+
+        private String tryCandidate(Object candidate) {
+            return switch (accessor.kind()) {
+                case INT -> writeAndVerifyInt(entity, accessor, (Integer) candidate) ? String.valueOf(candidate) : null;
+                case ENUM -> writeAndVerifyEnum(entity, accessor, candidate) ? ((Enum<?>) candidate).name() : null;
+                case STRING -> writeAndVerifyString(entity, accessor, (String) candidate) ? (String) candidate : null;
+                case OBJECT -> {
+                    if (candidate == null) yield null;
+                    String token = stableToken(candidate);
+                    if (token == null || token.isBlank()) yield null;
+                    if (originalToken != null && originalToken.equals(token)) yield null;
+                    yield writeAndVerifyObjectIsolated(entity, accessor, candidate) ? token : null;
+                }
+            };
+        }
+    }
+
+    private record ClassPlan(List<Accessor> accessors, Map<Accessor, StaticCandidates> statics) {
+        private static final ClassPlan EMPTY = new ClassPlan(List.of(), Map.of());
+    }
+
+    private record StaticCandidates(List<Object> valueType, List<Object> registryClass) {
+    }
+
     private record RegistryEntryView(Object registryKey, Object registry) {
     }
 
@@ -1382,6 +1538,15 @@ public final class WildexEntityVariantProbe {
     public record VariantOption(String id, String label) {
     }
 
-    private record Accessor(Method getter, Method setter, Class<?> valueType, String suffix, Kind kind, int score) {
+    private record Accessor(
+            Method getter,
+            Method setter,
+            WildexReflectiveAccess.Invoker reader,
+            WildexReflectiveAccess.Invoker writer,
+            Class<?> valueType,
+            String suffix,
+            Kind kind,
+            int score
+    ) {
     }
 }
@@ -17,15 +17,18 @@ public final class WildexFavoriteMobEntriesCache {
     public static void clear() {
         FAVORITES.clear();
         REQUESTED.set(false);
+        WildexMobFacetIndex.onFavoritesReset();
     }
 
     public static void setAll(Set<ResourceLocation> mobIds) {
         FAVORITES.clear();
         REQUESTED.set(true);
-        if (mobIds == null || mobIds.isEmpty()) return;
-        for (ResourceLocation id : mobIds) {
-            if (id != null) FAVORITES.add(id);
+        if (mobIds != null) {
+            for (ResourceLocation id : mobIds) {
+                if (id != null) FAVORITES.add(id);
+            }
         }
+        WildexMobFacetIndex.onFavoritesReset();
     }
 
     public static void setFavorite(ResourceLocation mobId, boolean favorite) {
@@ -36,6 +39,7 @@ public final class WildexFavoriteMobEntriesCache {
         } else {
             FAVORITES.remove(mobId);
         }
+        WildexMobFacetIndex.onFavoriteChanged(mobId, favorite);
     }
 
     public static boolean isFavorite(ResourceLocation mobId) {
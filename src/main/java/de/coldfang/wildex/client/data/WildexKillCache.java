@@ -44,6 +44,15 @@ public final class WildexKillCache {
         KILLS.put(id, Math.max(0, kills));
     }
 
+    public static void setAll(Map<ResourceLocation, Integer> kills) {
+        ensureSession();
+        if (kills == null) return;
+        for (Map.Entry<ResourceLocation, Integer> e : kills.entrySet()) {
+            if (e.getKey() == null || e.getValue() == null) continue;
+            KILLS.put(e.getKey(), Math.max(0, e.getValue()));
+        }
+    }
+
     public static void clear() {
         KILLS.clear();
         REQUESTED.clear();
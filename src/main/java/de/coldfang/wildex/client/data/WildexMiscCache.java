@@ -12,6 +12,7 @@ public final class WildexMiscCache {
     private static final long REQUEST_RETRY_MS = 750L;
     private static final Map<ResourceLocation, WildexMiscData> CACHE = new ConcurrentHashMap<>();
     private static final Map<ResourceLocation, Long> REQUESTED_AT = new ConcurrentHashMap<>();
+    private static final Map<ResourceLocation, Integer> PROGRESS = new ConcurrentHashMap<>();
 
     private WildexMiscCache() {
     }
@@ -19,6 +20,7 @@ public final class WildexMiscCache {
     public static void clear() {
         CACHE.clear();
         REQUESTED_AT.clear();
+        PROGRESS.clear();
     }
 
     public static void set(
@@ -38,6 +40,20 @@ public final class WildexMiscCache {
                 )
         );
         REQUESTED_AT.remove(mobId);
+        PROGRESS.remove(mobId);
+    }
+
+    public static void setProgress(ResourceLocation mobId, int percent) {
+        if (mobId == null || CACHE.containsKey(mobId)) return;
+        PROGRESS.put(mobId, Math.max(0, Math.min(100, percent)));
+    }
+
+    /**
+     * Server-side extraction progress for a mob that is still loading, or -1 if none was reported.
+     */
+    public static int progress(ResourceLocation mobId) {
+        if (mobId == null) return -1;
+        return PROGRESS.getOrDefault(mobId, -1);
     }
 
     public static WildexMiscData get(ResourceLocation mobId) {
@@ -0,0 +1,147 @@
+package de.coldfang.wildex.client.data;
+
+import de.coldfang.wildex.client.data.model.WildexAggression;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.EntityType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * One bitset per list filter over a sorted mob list, so the Wildex screen filters with bitset intersections.
+ * Discovery and favorite bits are kept current by their caches; the other facets never change for a list.
+ */
+public final class WildexMobFacetIndex {
+
+    private static volatile WildexMobFacetIndex current = null;
+
+    private final List<EntityType<?>> types;
+    private final Map<ResourceLocation, Integer> ordinals;
+    private final BitSet friendly = new BitSet();
+    private final BitSet neutral = new BitSet();
+    private final BitSet hostile = new BitSet();
+    private final BitSet tameable = new BitSet();
+    private final BitSet discovered = new BitSet();
+    private final BitSet favorite = new BitSet();
+    private final Map<String, BitSet> byNamespace = new HashMap<>();
+
+    private WildexMobFacetIndex(List<EntityType<?>> types, WildexMobIndexModel model) {
+        this.types = types;
+        this.ordinals = new HashMap<>(types.size() * 2);
+        for (int i = 0; i < types.size(); i++) {
+            EntityType<?> type = types.get(i);
+            ResourceLocation id = BuiltInRegistries.ENTITY_TYPE.getKey(type);
+            ordinals.put(id, i);
+            byNamespace.computeIfAbsent(id.getNamespace(), ignored -> new BitSet()).set(i);
+
+            WildexAggression aggression = model.aggressionOf(type);
+            switch (aggression) {
+                case FRIENDLY -> friendly.set(i);
+                case NEUTRAL -> neutral.set(i);
+                case HOSTILE -> hostile.set(i);
+            }
+            if (model.tameableOf(type)) tameable.set(i);
+            if (WildexDiscoveryCache.isDiscovered(id)) discovered.set(i);
+            if (WildexFavoriteMobEntriesCache.isFavorite(id)) favorite.set(i);
+        }
+    }
+
+    /**
+     * Returns the index for {@code types}, which must be the sorted list its bit positions refer to. Only the
+     * most recently requested list receives incremental discovery and favorite updates.
+     */
+    static WildexMobFacetIndex of(List<EntityType<?>> types, WildexMobIndexModel model) {
+        WildexMobFacetIndex existing = current;
+        if (existing != null && existing.types == types) return existing;
+
+        WildexMobFacetIndex built = new WildexMobFacetIndex(types, model);
+        current = built;
+        return built;
+    }
+
+    public static void clear() {
+        current = null;
+    }
+
+    static void onDiscovered(ResourceLocation mobId) {
+        WildexMobFacetIndex index = current;
+        if (index != null) index.setBit(index.discovered, mobId, true);
+    }
+
+    static void onDiscoveriesReset() {
+        WildexMobFacetIndex index = current;
+        if (index != null) index.resync(index.discovered, WildexDiscoveryCache::isDiscovered);
+    }
+
+    static void onFavoriteChanged(ResourceLocation mobId, boolean isFavorite) {
+        WildexMobFacetIndex index = current;
+        if (index != null) index.setBit(index.favorite, mobId, isFavorite);
+    }
+
+    static void onFavoritesReset() {
+        WildexMobFacetIndex index = current;
+        if (index != null) index.resync(index.favorite, WildexFavoriteMobEntriesCache::isFavorite);
+    }
+
+    public int size() {
+        return types.size();
+    }
+
+    public synchronized BitSet mask(
+            boolean discoveredOnly,
+            boolean friendlyOnly,
+            boolean neutralOnly,
+            boolean hostileOnly,
+            boolean tameableOnly,
+            boolean favoritesOnly
+    ) {
+        BitSet out = new BitSet(types.size());
+        out.set(0, types.size());
+        if (discoveredOnly) out.and(discovered);
+        if (friendlyOnly || neutralOnly || hostileOnly) {
+            BitSet aggression = new BitSet(types.size());
+            if (friendlyOnly) aggression.or(friendly);
+            if (neutralOnly) aggression.or(neutral);
+            if (hostileOnly) aggression.or(hostile);
+            out.and(aggression);
+        }
+        if (tameableOnly) out.and(tameable);
+        if (favoritesOnly) out.and(favorite);
+        return out;
+    }
+
+    public BitSet namespaceMask(Predicate<String> namespaceFilter) {
+        BitSet out = new BitSet(types.size());
+        for (Map.Entry<String, BitSet> entry : byNamespace.entrySet()) {
+            if (namespaceFilter.test(entry.getKey())) out.or(entry.getValue());
+        }
+        return out;
+    }
+
+    public List<EntityType<?>> select(BitSet mask) {
+        ArrayList<EntityType<?>> out = new ArrayList<>(mask.cardinality());
+        for (int i = mask.nextSetBit(0); i >= 0 && i < types.size(); i = mask.nextSetBit(i + 1)) {
+            out.add(types.get(i));
+        }
+        return List.copyOf(out);
+    }
+
+    private synchronized void setBit(BitSet facet, ResourceLocation mobId, boolean value) {
+        if (mobId == null) return;
+        Integer ordinal = ordinals.get(mobId);
+        if (ordinal == null) return;
+        facet.set(ordinal, value);
+    }
+
+    private synchronized void resync(BitSet facet, Predicate<ResourceLocation> source) {
+        facet.clear();
+        for (Map.Entry<ResourceLocation, Integer> entry : ordinals.entrySet()) {
+            if (source.test(entry.getKey())) facet.set(entry.getValue());
+        }
+    }
+}
@@ -3,18 +3,16 @@ package de.coldfang.wildex.client.data;
 import de.coldfang.wildex.client.data.extractor.HeaderExtractor;
 import de.coldfang.wildex.client.data.model.WildexAggression;
 import de.coldfang.wildex.util.WildexMobFilters;
-import de.coldfang.wildex.util.WildexEntityFactory;
+import de.coldfang.wildex.util.WildexEntityProbe;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.entity.Mob;
-import net.minecraft.world.entity.OwnableEntity;
 import net.minecraft.world.level.Level;
 import net.neoforged.fml.ModList;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
@@ -33,18 +31,31 @@ public final class WildexMobIndexModel {
     private static volatile String ALL_CACHE_LANGUAGE = "";
 
     private final List<EntityType<?>> all;
+    private final WildexMobFacetIndex facets;
+    private final WildexMobSearchIndex search;
     private List<EntityType<?>> filtered;
+    private BitSet filteredMask;
 
     private String query = "";
+    private String lastText = "";
+    private BitSet lastTextMask = null;
+    private List<String> lastModPrefixes = List.of();
+    private BitSet lastModMask = null;
 
     public WildexMobIndexModel() {
         this.all = loadAll();
+        this.facets = WildexMobFacetIndex.of(this.all, this);
+        this.search = WildexMobSearchIndex.of(this.all, WildexMobIndexModel::normalizedDisplayName);
+        this.filteredMask = applyFilter(this.query);
         this.filtered = this.all;
     }
 
     public void setQuery(String query) {
         this.query = normalize(query);
-        this.filtered = applyFilter(this.all, this.query);
+        this.filteredMask = applyFilter(this.query);
+        this.filtered = this.filteredMask.cardinality() == this.all.size()
+                ? this.all
+                : this.facets.select(this.filteredMask);
     }
 
     public int totalCount() {
@@ -59,11 +70,24 @@ public final class WildexMobIndexModel {
         return filtered;
     }
 
+    public WildexMobFacetIndex facets() {
+        return facets;
+    }
+
+    /**
+     * Query matches as bit positions in {@link #facets()}; the returned set is a copy the caller may modify.
+     */
+    public BitSet filteredMask() {
+        return (BitSet) filteredMask.clone();
+    }
+
     public static void clearCaches() {
         MOD_DISPLAY_NAME_CACHE.clear();
         NORMALIZED_NAME_CACHE.clear();
         AGGRESSION_CACHE.clear();
         TAMEABLE_CACHE.clear();
+        WildexMobFacetIndex.clear();
+        WildexMobSearchIndex.clear();
         NAME_CACHE_LANGUAGE = "";
         ALL_CACHE = List.of();
         ALL_CACHE_LANGUAGE = "";
@@ -139,64 +163,62 @@ public final class WildexMobIndexModel {
     }
 
     private static boolean isMobType(EntityType<?> type, Level level) {
-        Entity e = WildexEntityFactory.tryCreate(type, level, false);
-        if (e == null) return false;
-
-        boolean ok = e instanceof Mob;
-        WildexEntityFactory.discardQuietly(e);
-        return ok;
+        return WildexEntityProbe.of(type, level).mob();
     }
 
     private static boolean resolveTameable(EntityType<?> type, Level level) {
         if (type == null || level == null) return false;
-
-        Entity entity = WildexEntityFactory.tryCreate(type, level, false);
-        if (entity == null) return false;
-
-        try {
-            return entity instanceof OwnableEntity;
-        } finally {
-            WildexEntityFactory.discardQuietly(entity);
-        }
+        return WildexEntityProbe.of(type, level).ownable();
     }
 
-    private static List<EntityType<?>> applyFilter(
-            List<EntityType<?>> base,
-            String query
-    ) {
-        if (query.isBlank()) return base;
+    private BitSet applyFilter(String query) {
+        BitSet out = new BitSet(this.all.size());
+        out.set(0, this.all.size());
+        if (query.isBlank()) return out;
 
         ParsedQuery pq = parseQuery(query);
 
         boolean hasText = !pq.textQuery.isBlank();
         boolean hasMods = !pq.modPrefixes.isEmpty();
 
-        if (!hasText && !hasMods) return base;
+        if (!hasText && !hasMods) return out;
 
-        List<EntityType<?>> out = new ArrayList<>();
-
-        for (EntityType<?> type : base) {
-            ResourceLocation rl = BuiltInRegistries.ENTITY_TYPE.getKey(type);
+        if (hasMods) {
+            out.and(modMask(pq.modPrefixes));
+        }
 
-            if (hasMods) {
-                if (!matchesAnyPrefix(rl, pq.modPrefixes)) continue;
-            }
+        if (hasText) {
+            out.and(textMask(pq.textQuery));
+        }
 
-            if (hasText) {
-                String id = rl.toString();
-                String name = normalizedDisplayName(type);
+        return out;
+    }
 
-                if (!name.contains(pq.textQuery) && !id.contains(pq.textQuery)) continue;
-            }
+    private BitSet modMask(List<String> prefixes) {
+        if (this.lastModMask == null || !this.lastModPrefixes.equals(prefixes)) {
+            this.lastModMask = this.facets.namespaceMask(namespace -> matchesAnyPrefix(namespace, prefixes));
+            this.lastModPrefixes = prefixes;
+        }
+        return this.lastModMask;
+    }
 
-            out.add(type);
+    private BitSet textMask(String text) {
+        BitSet candidates;
+        if (this.lastTextMask != null && !this.lastText.isEmpty() && text.contains(this.lastText)) {
+            // Every match of a longer query also matched the shorter one it extends.
+            candidates = this.lastTextMask;
+        } else {
+            candidates = new BitSet(this.all.size());
+            candidates.set(0, this.all.size());
         }
 
-        return List.copyOf(out);
+        BitSet matched = this.search.match(text, candidates);
+        this.lastText = text;
+        this.lastTextMask = matched;
+        return matched;
     }
 
-    private static boolean matchesAnyPrefix(ResourceLocation id, List<String> prefixes) {
-        String namespace = id.getNamespace();
+    private static boolean matchesAnyPrefix(String namespace, List<String> prefixes) {
         String modDisplay = modDisplayNameLower(namespace);
         for (String p : prefixes) {
             if (p == null || p.isBlank()) continue;
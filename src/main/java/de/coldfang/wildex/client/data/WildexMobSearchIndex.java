@@ -0,0 +1,136 @@
+package de.coldfang.wildex.client.data;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.EntityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * N-gram postings over the normalized display names and ids of a sorted mob list. Grams of up to three
+ * characters are indexed, so short queries resolve from a single posting list and longer ones only verify
+ * the mobs that contain every trigram of the query.
+ */
+final class WildexMobSearchIndex {
+
+    private static final int MAX_GRAM = 3;
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private static volatile WildexMobSearchIndex current = null;
+
+    private final List<EntityType<?>> types;
+    private final String[] names;
+    private final String[] ids;
+    private final Map<String, int[]> postings;
+
+    private WildexMobSearchIndex(List<EntityType<?>> types, Function<EntityType<?>, String> nameOf) {
+        this.types = types;
+        this.names = new String[types.size()];
+        this.ids = new String[types.size()];
+
+        HashMap<String, int[]> grams = new HashMap<>();
+        HashMap<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < types.size(); i++) {
+            EntityType<?> type = types.get(i);
+            names[i] = nameOf.apply(type);
+            ids[i] = BuiltInRegistries.ENTITY_TYPE.getKey(type).toString();
+            addGrams(grams, counts, names[i], i);
+            addGrams(grams, counts, ids[i], i);
+        }
+
+        HashMap<String, int[]> trimmed = new HashMap<>(grams.size() * 2);
+        for (Map.Entry<String, int[]> entry : grams.entrySet()) {
+            trimmed.put(entry.getKey(), Arrays.copyOf(entry.getValue(), counts.get(entry.getKey())));
+        }
+        this.postings = trimmed;
+    }
+
+    static WildexMobSearchIndex of(List<EntityType<?>> types, Function<EntityType<?>, String> nameOf) {
+        WildexMobSearchIndex existing = current;
+        if (existing != null && existing.types == types) return existing;
+
+        WildexMobSearchIndex built = new WildexMobSearchIndex(types, nameOf);
+        current = built;
+        return built;
+    }
+
+    static void clear() {
+        current = null;
+    }
+
+    /**
+     * Returns the positions in {@code candidates} whose name or id contains {@code text}. The candidate set is
+     * not modified.
+     */
+    BitSet match(String text, BitSet candidates) {
+        BitSet out = new BitSet(types.size());
+        if (text == null || text.isEmpty()) {
+            out.or(candidates);
+            return out;
+        }
+
+        if (text.length() <= MAX_GRAM) {
+            for (int position : postings.getOrDefault(text, NO_POSTINGS)) {
+                if (candidates.get(position)) out.set(position);
+            }
+            return out;
+        }
+
+        ArrayList<int[]> lists = new ArrayList<>(text.length() - MAX_GRAM + 1);
+        for (int i = 0; i + MAX_GRAM <= text.length(); i++) {
+            int[] list = postings.get(text.substring(i, i + MAX_GRAM));
+            if (list == null) return out;
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] shortest = lists.getFirst();
+        int[] cursors = new int[lists.size()];
+        for (int position : shortest) {
+            if (!candidates.get(position)) continue;
+            if (!inAll(lists, cursors, position)) continue;
+            if (names[position].contains(text) || ids[position].contains(text)) out.set(position);
+        }
+        return out;
+    }
+
+    private static boolean inAll(List<int[]> lists, int[] cursors, int position) {
+        for (int l = 1; l < lists.size(); l++) {
+            int[] list = lists.get(l);
+            int cursor = cursors[l];
+            while (cursor < list.length && list[cursor] < position) cursor++;
+            cursors[l] = cursor;
+            if (cursor >= list.length || list[cursor] != position) return false;
+        }
+        return true;
+    }
+
+    private static void addGrams(Map<String, int[]> grams, Map<String, Integer> counts, String text, int position) {
+        if (text == null || text.isEmpty()) return;
+        for (int start = 0; start < text.length(); start++) {
+            int maxEnd = Math.min(text.length(), start + MAX_GRAM);
+            for (int end = start + 1; end <= maxEnd; end++) {
+                String gram = text.substring(start, end);
+                int count = counts.getOrDefault(gram, 0);
+                int[] list = grams.get(gram);
+                if (list == null) {
+                    list = new int[4];
+                    grams.put(gram, list);
+                } else if (list[count - 1] == position) {
+                    continue;
+                } else if (count == list.length) {
+                    list = Arrays.copyOf(list, count * 2);
+                    grams.put(gram, list);
+                }
+                list[count] = position;
+                counts.put(gram, count + 1);
+            }
+        }
+    }
+}
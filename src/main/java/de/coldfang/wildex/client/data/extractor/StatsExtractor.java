@@ -4,6 +4,7 @@ import de.coldfang.wildex.client.data.WildexEntityVariantProbe;
 import de.coldfang.wildex.client.data.model.WildexStatsData;
 import de.coldfang.wildex.integration.cobblemon.WildexCobblemonBridge;
 import de.coldfang.wildex.util.WildexEntityFactory;
+import de.coldfang.wildex.util.WildexEntityProbe;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.Holder;
 import net.minecraft.world.entity.Entity;
@@ -19,6 +20,10 @@ import java.util.OptionalDouble;
 public final class StatsExtractor {
 
     public WildexStatsData extract(EntityType<?> type) {
+        if (!WildexCobblemonBridge.isCobblemonPokemon(type)) {
+            return readFromSnapshot(type);
+        }
+
         LivingEntity living = createLiving(type);
         if (living == null) return WildexStatsData.empty();
 
@@ -56,6 +61,23 @@ public final class StatsExtractor {
         return living;
     }
 
+    private static WildexStatsData readFromSnapshot(EntityType<?> type) {
+        Level level = Minecraft.getInstance().level;
+        if (type == null || level == null) return WildexStatsData.empty();
+
+        WildexEntityProbe.Snapshot snapshot = WildexEntityProbe.of(type, level);
+        if (!snapshot.living()) return WildexStatsData.empty();
+
+        return new WildexStatsData(
+                snapshot.attribute(Attributes.MAX_HEALTH),
+                snapshot.attribute(Attributes.ARMOR),
+                snapshot.attribute(Attributes.MOVEMENT_SPEED),
+                snapshot.attribute(Attributes.ATTACK_DAMAGE),
+                snapshot.attribute(Attributes.FOLLOW_RANGE),
+                snapshot.attribute(Attributes.KNOCKBACK_RESISTANCE)
+        );
+    }
+
     private static OptionalDouble read(AttributeMap attrs, Holder<Attribute> attribute) {
         if (!attrs.hasAttribute(attribute)) return OptionalDouble.empty();
         return OptionalDouble.of(attrs.getValue(attribute));
@@ -0,0 +1,379 @@
+package de.coldfang.wildex.client.render;
+
+import com.mojang.blaze3d.pipeline.RenderTarget;
+import com.mojang.blaze3d.pipeline.TextureTarget;
+import com.mojang.blaze3d.platform.Lighting;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferUploader;
+import com.mojang.blaze3d.vertex.ByteBufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.blaze3d.vertex.VertexSorting;
+import com.mojang.math.Axis;
+import de.coldfang.wildex.Wildex;
+import de.coldfang.wildex.util.WildexEntityFactory;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
+import net.minecraft.client.renderer.texture.AbstractTexture;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
+import net.neoforged.neoforge.client.event.RenderFrameEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.lwjgl.opengl.GL11;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Renders mobs once into cells of an offscreen atlas so small or distant previews can draw a textured quad
+ * instead of the full entity model. Requests are queued and rendered at the start of a frame, a few per frame;
+ * callers keep their live rendering until {@link #get} returns an impostor. Cells are reused least recently
+ * used first, and everything is dropped on resource reload and logout. Render thread only.
+ */
+public final class WildexImpostorCache {
+
+    public static final int MAX_SIZE_PX = 64;
+    // Share of the cell taken by the larger entity dimension.
+    public static final float FILL = 0.85f;
+    // Shared three-quarter view. Callers should request a fixed yaw: every yaw bucket takes its own cell.
+    public static final float PREVIEW_YAW = 210.0f;
+
+    private static final ResourceLocation ATLAS_ID = ResourceLocation.fromNamespaceAndPath(Wildex.MODID, "impostor_atlas");
+    private static final int ATLAS_SIZE = 1024;
+    private static final int CELLS_PER_ROW = ATLAS_SIZE / MAX_SIZE_PX;
+    private static final int CELL_COUNT = CELLS_PER_ROW * CELLS_PER_ROW;
+    private static final int YAW_BUCKETS = 32;
+    private static final int MAX_RENDERS_PER_FRAME = 4;
+    private static final int MAX_PENDING = 128;
+
+    private static final Map<Key, Impostor> IMPOSTORS = new LinkedHashMap<>(64, 0.75f, true);
+    private static final Map<Key, Pending> PENDING = new LinkedHashMap<>(64, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Pending> eldest) {
+            return size() > MAX_PENDING;
+        }
+    };
+    private static final Set<Key> FAILED = new HashSet<>();
+    private static final ArrayDeque<Integer> FREE_CELLS = new ArrayDeque<>();
+
+    @Nullable
+    private static TextureTarget atlas = null;
+    @Nullable
+    private static ByteBufferBuilder buffer = null;
+
+    private WildexImpostorCache() {
+    }
+
+    public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+        event.registerReloadListener((ResourceManagerReloadListener) resourceManager -> clear());
+    }
+
+    @SubscribeEvent
+    public static void onRenderFramePre(RenderFrameEvent.Pre event) {
+        if (PENDING.isEmpty()) return;
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level == null) return;
+
+        int budget = MAX_RENDERS_PER_FRAME;
+        Iterator<Map.Entry<Key, Pending>> it = PENDING.entrySet().iterator();
+        while (budget > 0 && it.hasNext()) {
+            Map.Entry<Key, Pending> entry = it.next();
+            it.remove();
+            renderPending(mc, entry.getKey(), entry.getValue());
+            budget--;
+        }
+    }
+
+    /**
+     * Returns the impostor for {@code mobId} at the nearest cached yaw, or queues it and returns null. The entity
+     * from {@code source} is posed and restored but never discarded; without a source a fresh entity is created
+     * and discarded after rendering. {@code variantKey} must identify whatever variant the source applies.
+     */
+    public static @Nullable Impostor get(
+            ResourceLocation mobId,
+            String variantKey,
+            float yawDeg,
+            int sizePx,
+            @Nullable Supplier<? extends Entity> source
+    ) {
+        if (mobId == null) return null;
+        int size = Math.max(8, Math.min(MAX_SIZE_PX, sizePx));
+        int yawBucket = Math.floorMod(Math.round(yawDeg * YAW_BUCKETS / 360.0f), YAW_BUCKETS);
+        Key key = new Key(mobId, variantKey == null ? "" : variantKey, yawBucket, size);
+
+        Impostor cached = IMPOSTORS.get(key);
+        if (cached != null) return cached;
+        if (!FAILED.contains(key)) {
+            PENDING.putIfAbsent(key, new Pending(source));
+        }
+        return null;
+    }
+
+    public static void clear() {
+        IMPOSTORS.clear();
+        PENDING.clear();
+        FAILED.clear();
+        FREE_CELLS.clear();
+        if (atlas != null) {
+            for (int cell = 0; cell < CELL_COUNT; cell++) {
+                FREE_CELLS.add(cell);
+            }
+        }
+    }
+
+    private static void renderPending(Minecraft mc, Key key, Pending pending) {
+        Entity entity = pending.source() == null ? createEntity(mc, key.mobId()) : pending.source().get();
+        if (entity == null) {
+            FAILED.add(key);
+            return;
+        }
+
+        try {
+            int cell = claimCell();
+            if (renderIntoCell(mc, cell, key, entity)) {
+                IMPOSTORS.put(key, new Impostor(cell, key.size()));
+            } else {
+                FREE_CELLS.add(cell);
+                FAILED.add(key);
+            }
+        } finally {
+            if (pending.source() == null) {
+                WildexEntityFactory.discardQuietly(entity);
+            }
+        }
+    }
+
+    private static @Nullable Entity createEntity(Minecraft mc, ResourceLocation mobId) {
+        EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(mobId).orElse(null);
+        if (type == null || mc.level == null) return null;
+        return WildexEntityFactory.tryCreate(type, mc.level);
+    }
+
+    private static int claimCell() {
+        ensureAtlas();
+        Integer free = FREE_CELLS.poll();
+        if (free != null) return free;
+
+        Iterator<Impostor> eldest = IMPOSTORS.values().iterator();
+        Impostor evicted = eldest.next();
+        eldest.remove();
+        return evicted.cell();
+    }
+
+    private static void ensureAtlas() {
+        if (atlas != null) return;
+
+        TextureTarget target = new TextureTarget(ATLAS_SIZE, ATLAS_SIZE, true, Minecraft.ON_OSX);
+        target.setClearColor(0.0f, 0.0f, 0.0f, 0.0f);
+        target.clear(Minecraft.ON_OSX);
+        atlas = target;
+        buffer = new ByteBufferBuilder(1 << 18);
+        Minecraft.getInstance().getTextureManager().register(ATLAS_ID, new AtlasTexture());
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            FREE_CELLS.add(cell);
+        }
+    }
+
+    private static boolean renderIntoCell(Minecraft mc, int cell, Key key, Entity entity) {
+        RenderTarget target = atlas;
+        if (target == null || buffer == null) return false;
+
+        int size = key.size();
+        int cellX = (cell % CELLS_PER_ROW) * MAX_SIZE_PX;
+        int cellY = (cell / CELLS_PER_ROW) * MAX_SIZE_PX;
+
+        Matrix4f previousProjection = new Matrix4f(RenderSystem.getProjectionMatrix());
+        VertexSorting previousSorting = RenderSystem.getVertexSorting();
+        EntityRenderDispatcher dispatcher = mc.getEntityRenderDispatcher();
+
+        float yaw = key.yawBucket() * (360.0f / YAW_BUCKETS);
+        float prevYRot = entity.getYRot();
+        float prevXRot = entity.getXRot();
+        float prevHead = 0.0f;
+        float prevHeadO = 0.0f;
+        float prevBody = 0.0f;
+        float prevBodyO = 0.0f;
+        if (entity instanceof LivingEntity living) {
+            prevHead = living.yHeadRot;
+            prevHeadO = living.yHeadRotO;
+            prevBody = living.yBodyRot;
+            prevBodyO = living.yBodyRotO;
+            living.yHeadRot = yaw;
+            living.yHeadRotO = yaw;
+            living.yBodyRot = yaw;
+            living.yBodyRotO = yaw;
+        }
+        entity.setYRot(yaw);
+        entity.setXRot(0.0f);
+
+        target.bindWrite(false);
+        RenderSystem.viewport(cellX, cellY, size, size);
+        RenderSystem.enableScissor(cellX, cellY, MAX_SIZE_PX, MAX_SIZE_PX);
+        RenderSystem.clearColor(0.0f, 0.0f, 0.0f, 0.0f);
+        RenderSystem.clear(GL11.GL_COLOR_BUFFER_BIT | GL11.GL_DEPTH_BUFFER_BIT, Minecraft.ON_OSX);
+        RenderSystem.disableScissor();
+
+        RenderSystem.setProjectionMatrix(
+                new Matrix4f().setOrtho(0.0f, size, size, 0.0f, 1000.0f, 21000.0f),
+                VertexSorting.ORTHOGRAPHIC_Z
+        );
+        var modelView = RenderSystem.getModelViewStack();
+        modelView.pushMatrix();
+        modelView.translation(0.0f, 0.0f, -11000.0f);
+        RenderSystem.applyModelViewMatrix();
+        Lighting.setupForEntityInInventory();
+        RenderSystem.enableDepthTest();
+
+        boolean rendered = false;
+        try {
+            float bbW = Math.max(0.01f, entity.getBbWidth());
+            float bbH = Math.max(0.01f, entity.getBbHeight());
+            float scale = size * FILL / Math.max(bbW, bbH);
+
+            PoseStack pose = new PoseStack();
+            pose.translate(size * 0.5f, size * 0.5f + bbH * scale * 0.5f, 50.0f);
+            pose.scale(scale, scale, scale);
+            pose.mulPose(Axis.ZP.rotationDegrees(180.0f));
+            pose.mulPose(Axis.YP.rotationDegrees(180.0f));
+
+            MultiBufferSource.BufferSource buffers = MultiBufferSource.immediate(buffer);
+            dispatcher.setRenderShadow(false);
+            dispatcher.render(entity, 0.0, 0.0, 0.0, 0.0f, 1.0f, pose, buffers, LightTexture.FULL_BRIGHT);
+            buffers.endBatch();
+            rendered = true;
+        } catch (Throwable ignored) {
+        } finally {
+            dispatcher.setRenderShadow(true);
+            Lighting.setupFor3DItems();
+            modelView.popMatrix();
+            RenderSystem.applyModelViewMatrix();
+            RenderSystem.setProjectionMatrix(previousProjection, previousSorting);
+            mc.getMainRenderTarget().bindWrite(true);
+
+            entity.setYRot(prevYRot);
+            entity.setXRot(prevXRot);
+            if (entity instanceof LivingEntity living) {
+                living.yHeadRot = prevHead;
+                living.yHeadRotO = prevHeadO;
+                living.yBodyRot = prevBody;
+                living.yBodyRotO = prevBodyO;
+            }
+        }
+        return rendered;
+    }
+
+    private record Key(ResourceLocation mobId, String variantKey, int yawBucket, int size) {
+    }
+
+    private record Pending(@Nullable Supplier<? extends Entity> source) {
+    }
+
+    /**
+     * A rendered cell. The entity stands centered with its larger dimension filling {@code FILL} of the square.
+     * Framebuffer rows run bottom-up, so the top edge of the image samples the larger v coordinate.
+     */
+    public static final class Impostor {
+
+        private final int cell;
+        private final float u0;
+        private final float u1;
+        private final float vTop;
+        private final float vBottom;
+
+        private Impostor(int cell, int size) {
+            this.cell = cell;
+            float x = (cell % CELLS_PER_ROW) * MAX_SIZE_PX;
+            float y = (cell / CELLS_PER_ROW) * MAX_SIZE_PX;
+            this.u0 = x / ATLAS_SIZE;
+            this.u1 = (x + size) / ATLAS_SIZE;
+            this.vBottom = y / ATLAS_SIZE;
+            this.vTop = (y + size) / ATLAS_SIZE;
+        }
+
+        private int cell() {
+            return cell;
+        }
+
+        public void blit(GuiGraphics graphics, int x, int y, int size, int argb) {
+            RenderTarget target = atlas;
+            if (target == null) return;
+
+            float a = ((argb >>> 24) & 0xFF) / 255.0f;
+            float r = ((argb >>> 16) & 0xFF) / 255.0f;
+            float g = ((argb >>> 8) & 0xFF) / 255.0f;
+            float b = (argb & 0xFF) / 255.0f;
+
+            Matrix4f mat = graphics.pose().last().pose();
+            RenderSystem.setShaderTexture(0, target.getColorTextureId());
+            RenderSystem.setShader(GameRenderer::getPositionTexColorShader);
+            RenderSystem.enableBlend();
+            RenderSystem.defaultBlendFunc();
+            BufferBuilder builder = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX_COLOR);
+            builder.addVertex(mat, x, y, 0.0f).setUv(u0, vTop).setColor(r, g, b, a);
+            builder.addVertex(mat, x, y + size, 0.0f).setUv(u0, vBottom).setColor(r, g, b, a);
+            builder.addVertex(mat, x + size, y + size, 0.0f).setUv(u1, vBottom).setColor(r, g, b, a);
+            builder.addVertex(mat, x + size, y, 0.0f).setUv(u1, vTop).setColor(r, g, b, a);
+            BufferUploader.drawWithShader(builder.buildOrThrow());
+            RenderSystem.disableBlend();
+        }
+
+        /**
+         * Adds a quad of the given side length centered on the current pose origin, for world rendering.
+         */
+        public void addQuad(PoseStack poseStack, MultiBufferSource bufferSource, float side, int red, int green, int blue, int alpha) {
+            VertexConsumer vertices = bufferSource.getBuffer(RenderType.entityTranslucent(ATLAS_ID));
+            PoseStack.Pose pose = poseStack.last();
+            float half = side * 0.5f;
+            vertices.addVertex(pose, -half, -half, 0.0f).setColor(red, green, blue, alpha).setUv(u0, vBottom)
+                    .setOverlay(OverlayTexture.NO_OVERLAY).setLight(LightTexture.FULL_BRIGHT).setNormal(pose, 0.0f, 0.0f, 1.0f);
+            vertices.addVertex(pose, half, -half, 0.0f).setColor(red, green, blue, alpha).setUv(u1, vBottom)
+                    .setOverlay(OverlayTexture.NO_OVERLAY).setLight(LightTexture.FULL_BRIGHT).setNormal(pose, 0.0f, 0.0f, 1.0f);
+            vertices.addVertex(pose, half, half, 0.0f).setColor(red, green, blue, alpha).setUv(u1, vTop)
+                    .setOverlay(OverlayTexture.NO_OVERLAY).setLight(LightTexture.FULL_BRIGHT).setNormal(pose, 0.0f, 0.0f, 1.0f);
+            vertices.addVertex(pose, -half, half, 0.0f).setColor(red, green, blue, alpha).setUv(u0, vTop)
+                    .setOverlay(OverlayTexture.NO_OVERLAY).setLight(LightTexture.FULL_BRIGHT).setNormal(pose, 0.0f, 0.0f, 1.0f);
+        }
+    }
+
+    // Exposes the atlas color buffer to render types; the cache owns and never releases it.
+    private static final class AtlasTexture extends AbstractTexture {
+
+        @Override
+        public int getId() {
+            RenderTarget target = atlas;
+            return target == null ? 0 : target.getColorTextureId();
+        }
+
+        @Override
+        public void releaseId() {
+        }
+
+        @Override
+        public void load(@NotNull ResourceManager resourceManager) {
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
+import de.coldfang.wildex.util.WildexEntityProbe;
 import de.coldfang.wildex.world.block.entity.WildexPedestalBlockEntity;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.LightTexture;
@@ -14,9 +15,12 @@ import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
 import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
 import net.minecraft.client.renderer.entity.EntityRenderer;
 import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.FastColor;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
@@ -29,8 +33,6 @@ public final class WildexPedestalBlockEntityRenderer implements BlockEntityRende
 
     private static final double MAX_RENDER_DISTANCE = 32.0;
     private static final double MAX_RENDER_DISTANCE_SQ = MAX_RENDER_DISTANCE * MAX_RENDER_DISTANCE;
-    private static final double MID_DETAIL_DISTANCE_SQ = 24.0 * 24.0;
-    private static final double NEAR_DETAIL_DISTANCE_SQ = 14.0 * 14.0;
     private static final float BASE_HEIGHT = 2.10f;
     private static final float BOB_AMPLITUDE = 0.07f;
     private static final float ROTATION_DEG_PER_TICK = 2.1f;
@@ -45,6 +47,7 @@ public final class WildexPedestalBlockEntityRenderer implements BlockEntityRende
     private static final int CONE_SEGMENTS_NEAR = 12;
     private static final int CONE_SEGMENTS_MID = 8;
     private static final int CONE_SEGMENTS_FAR = 6;
+    private static final int MID_ANIMATION_STEP_TICKS = 2;
     private final ItemRenderer itemRenderer;
 
     public WildexPedestalBlockEntityRenderer(BlockEntityRendererProvider.Context context) {
@@ -95,27 +98,38 @@ public final class WildexPedestalBlockEntityRenderer implements BlockEntityRende
         if (!hasBook) return;
         if (blockEntity.isRedstonePowered()) return;
 
-        if (blockEntity.getDisplayMobId() == null) return;
+        ResourceLocation mobId = blockEntity.getDisplayMobId();
+        if (mobId == null) return;
 
-        Entity entity = blockEntity.getOrCreateClientRenderEntity();
-        if (!(entity instanceof LivingEntity living)) return;
-        if (living.isRemoved()) return;
-
-        float time = mc.level.getGameTime() + partialTick;
+        WildexPedestalRenderLod.Tier tier = WildexPedestalRenderLod.tierFor(distSq);
+        long gameTime = mc.level.getGameTime();
+        float time = switch (tier) {
+            case NEAR -> gameTime + partialTick;
+            case MID -> gameTime - Math.floorMod(gameTime, MID_ANIMATION_STEP_TICKS);
+            case FAR -> gameTime;
+        };
         float bob = (float) Math.sin(time * 0.16f) * BOB_AMPLITUDE;
         float yaw = (time * ROTATION_DEG_PER_TICK) % 360.0f;
+        float pulse = 0.5f + 0.5f * (float) Math.sin(time * 0.21f);
+        float hologramY = BASE_HEIGHT + bob;
+
+        if (tier == WildexPedestalRenderLod.Tier.FAR) {
+            renderFarHologram(mc, mobId, poseStack, buffer, yaw, hologramY, pulse);
+            return;
+        }
+
+        Entity entity = WildexPedestalRenderEntityPool.get(mobId, mc.level);
+        if (!(entity instanceof LivingEntity living)) return;
+        if (living.isRemoved()) return;
 
         float bbW = Math.max(0.01f, living.getBbWidth());
         float bbH = Math.max(0.01f, living.getBbHeight());
-        float dim = Math.max(bbW, bbH);
-        float scale = clampScale(0.70f / dim);
-        float hologramY = BASE_HEIGHT + bob;
-        float coneTopY = hologramY - Math.max(0.14f, Math.min(0.34f, bbH * scale * 0.38f));
-        float coneRadius = Math.max(0.18f, Math.min(0.48f, bbW * scale * 0.95f + 0.12f));
-        float pulse = 0.5f + 0.5f * (float) Math.sin(time * 0.21f);
-        int coneSegments = distSq <= MID_DETAIL_DISTANCE_SQ ? (distSq <= NEAR_DETAIL_DISTANCE_SQ ? CONE_SEGMENTS_NEAR : CONE_SEGMENTS_MID) : CONE_SEGMENTS_FAR;
-        boolean renderShellPass = distSq <= MID_DETAIL_DISTANCE_SQ;
-        boolean renderGhostPass = distSq <= NEAR_DETAIL_DISTANCE_SQ;
+        float scale = clampScale(0.70f / Math.max(bbW, bbH));
+        float coneTopY = coneTopY(hologramY, bbH, scale);
+        float coneRadius = coneRadius(bbW, scale);
+        int coneSegments = tier == WildexPedestalRenderLod.Tier.NEAR ? CONE_SEGMENTS_NEAR : CONE_SEGMENTS_MID;
+        boolean renderShellPass = true;
+        boolean renderGhostPass = tier == WildexPedestalRenderLod.Tier.NEAR;
         float renderPartialTick = 0.0f;
 
         float prevYRot = living.getYRot();
@@ -255,6 +269,77 @@ public final class WildexPedestalBlockEntityRenderer implements BlockEntityRende
         return Math.max(MIN_SCALE, Math.min(MAX_SCALE, value));
     }
 
+    private static float coneTopY(float hologramY, float bbH, float scale) {
+        return hologramY - Math.max(0.14f, Math.min(0.34f, bbH * scale * 0.38f));
+    }
+
+    private static float coneRadius(float bbW, float scale) {
+        return Math.max(0.18f, Math.min(0.48f, bbW * scale * 0.95f + 0.12f));
+    }
+
+    /**
+     * Far and over-budget pedestals skip the model: the cone plus a camera-facing impostor of the mob at a fixed
+     * yaw, or a plain card in the hologram tint while the impostor is still queued.
+     */
+    private static void renderFarHologram(
+            Minecraft mc,
+            ResourceLocation mobId,
+            PoseStack poseStack,
+            MultiBufferSource buffer,
+            float yaw,
+            float hologramY,
+            float pulse
+    ) {
+        EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(mobId).orElse(null);
+        if (type == null || mc.level == null) return;
+        WildexEntityProbe.Snapshot probe = WildexEntityProbe.of(type, mc.level);
+        if (!probe.available() || !probe.living()) return;
+
+        float bbW = Math.max(0.01f, probe.width());
+        float bbH = Math.max(0.01f, probe.height());
+        float scale = clampScale(0.70f / Math.max(bbW, bbH));
+        renderProjectionCone(
+                poseStack,
+                buffer,
+                yaw,
+                coneTopY(hologramY, bbH, scale),
+                coneRadius(bbW, scale),
+                pulse,
+                CONE_SEGMENTS_FAR
+        );
+
+        float halfW = bbW * scale * 0.5f;
+        float height = bbH * scale;
+        poseStack.pushPose();
+        poseStack.translate(0.5f, hologramY + height * 0.5f, 0.5f);
+        poseStack.mulPose(mc.getEntityRenderDispatcher().cameraOrientation());
+
+        WildexImpostorCache.Impostor impostor = WildexImpostorCache.get(
+                mobId,
+                "",
+                WildexImpostorCache.PREVIEW_YAW,
+                WildexImpostorCache.MAX_SIZE_PX,
+                () -> WildexPedestalRenderEntityPool.get(mobId, mc.level)
+        );
+        if (impostor != null) {
+            float side = Math.max(bbW, bbH) * scale / WildexImpostorCache.FILL;
+            impostor.addQuad(poseStack, buffer, side, 26, 235, 255, (int) (200 + 40 * pulse));
+            poseStack.popPose();
+            return;
+        }
+
+        Matrix4f mat = poseStack.last().pose();
+        VertexConsumer vertices = buffer.getBuffer(RenderType.debugStructureQuads());
+        int topAlpha = (int) (36 + 14 * pulse);
+        int bottomAlpha = (int) (70 + 20 * pulse);
+        float halfH = height * 0.5f;
+        vertices.addVertex(mat, -halfW, -halfH, 0.0f).setColor(26, 235, 255, bottomAlpha);
+        vertices.addVertex(mat, halfW, -halfH, 0.0f).setColor(26, 235, 255, bottomAlpha);
+        vertices.addVertex(mat, halfW, halfH, 0.0f).setColor(82, 250, 255, topAlpha);
+        vertices.addVertex(mat, -halfW, halfH, 0.0f).setColor(82, 250, 255, topAlpha);
+        poseStack.popPose();
+    }
+
     private static void renderProjectionCone(
             PoseStack poseStack,
             MultiBufferSource buffer,
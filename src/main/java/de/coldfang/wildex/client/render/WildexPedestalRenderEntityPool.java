@@ -0,0 +1,68 @@
+package de.coldfang.wildex.client.render;
+
+import de.coldfang.wildex.util.WildexEntityFactory;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One client render entity per mob type, shared by every pedestal showing that mob. The renderer restores all
+ * state it changes after each pass, so pedestals can take turns with the same instance. Render thread only.
+ */
+public final class WildexPedestalRenderEntityPool {
+
+    private static final int MAX_POOLED_ENTITIES = 48;
+
+    private static final Map<ResourceLocation, Entity> ENTITIES = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ResourceLocation, Entity> eldest) {
+            if (size() <= MAX_POOLED_ENTITIES) return false;
+            WildexEntityFactory.discardQuietly(eldest.getValue());
+            return true;
+        }
+    };
+    private static final Set<ResourceLocation> FAILED = new HashSet<>();
+    @Nullable
+    private static Level pooledLevel = null;
+
+    private WildexPedestalRenderEntityPool() {
+    }
+
+    static @Nullable Entity get(@Nullable ResourceLocation mobId, @Nullable Level level) {
+        if (mobId == null || level == null || !level.isClientSide) return null;
+        if (level != pooledLevel) {
+            clear();
+            pooledLevel = level;
+        }
+
+        Entity cached = ENTITIES.get(mobId);
+        if (cached != null && !cached.isRemoved()) return cached;
+        if (FAILED.contains(mobId)) return null;
+
+        EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(mobId).orElse(null);
+        Entity created = type == null ? null : WildexEntityFactory.tryCreate(type, level);
+        if (created == null) {
+            FAILED.add(mobId);
+            return null;
+        }
+        ENTITIES.put(mobId, created);
+        return created;
+    }
+
+    public static void clear() {
+        for (Entity entity : ENTITIES.values()) {
+            WildexEntityFactory.discardQuietly(entity);
+        }
+        ENTITIES.clear();
+        FAILED.clear();
+        pooledLevel = null;
+    }
+}
@@ -0,0 +1,67 @@
+package de.coldfang.wildex.client.render;
+
+import de.coldfang.wildex.client.WildexClientConfigView;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
+
+import java.util.Arrays;
+
+/**
+ * Picks how much of each pedestal hologram to draw. Only pedestals inside the view frustum reach the renderer,
+ * so the per-frame model cap is spent on visible ones; the nearest of them keep the full model, using the
+ * distances seen on the previous frame.
+ */
+public final class WildexPedestalRenderLod {
+
+    static final double NEAR_DISTANCE_SQ = 14.0 * 14.0;
+    static final double MID_DISTANCE_SQ = 24.0 * 24.0;
+
+    private static double[] frameDistances = new double[32];
+    private static int frameCandidates = 0;
+    private static int frameModels = 0;
+    private static double modelDistanceLimitSq = Double.POSITIVE_INFINITY;
+
+    private WildexPedestalRenderLod() {
+    }
+
+    @SubscribeEvent
+    public static void onRenderLevelStage(RenderLevelStageEvent event) {
+        if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_SKY) return;
+        beginFrame();
+    }
+
+    static Tier tierFor(double distSq) {
+        if (distSq > MID_DISTANCE_SQ) return Tier.FAR;
+
+        if (frameCandidates == frameDistances.length) {
+            frameDistances = Arrays.copyOf(frameDistances, frameCandidates * 2);
+        }
+        frameDistances[frameCandidates++] = distSq;
+
+        int maxModels = WildexClientConfigView.pedestalModelsPerFrame();
+        if (frameModels >= maxModels || distSq > modelDistanceLimitSq) return Tier.FAR;
+        frameModels++;
+        return distSq <= NEAR_DISTANCE_SQ ? Tier.NEAR : Tier.MID;
+    }
+
+    private static void beginFrame() {
+        int maxModels = WildexClientConfigView.pedestalModelsPerFrame();
+        if (frameCandidates > maxModels) {
+            Arrays.sort(frameDistances, 0, frameCandidates);
+            modelDistanceLimitSq = frameDistances[maxModels - 1];
+        } else {
+            modelDistanceLimitSq = Double.POSITIVE_INFINITY;
+        }
+        frameCandidates = 0;
+        frameModels = 0;
+    }
+
+    enum Tier {
+        // Full model with shell and ghost passes, animated every frame.
+        NEAR,
+        // Full model with the shell pass, animated in steps.
+        MID,
+        // Cached impostor card only; no model is drawn.
+        FAR
+    }
+}
@@ -8,6 +8,7 @@ import de.coldfang.wildex.client.data.WildexEntityVariantCatalog.ProbeState;
 import de.coldfang.wildex.client.data.WildexEntityVariantCatalog.SupportState;
 import de.coldfang.wildex.client.data.WildexEntityVariantProbe;
 import de.coldfang.wildex.client.data.WildexViewedMobEntriesCache;
+import de.coldfang.wildex.client.render.WildexImpostorCache;
 import de.coldfang.wildex.integration.cobblemon.WildexCobblemonBridge;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
@@ -66,6 +67,8 @@ public final class MobListWidget extends ObjectSelectionList<MobListWidget.Entry
     private static final int EXPAND_BTN_SYMBOL = 0xFFFFF6E8;
     private static final String VARIANT_GROUP_DERIVED = "derived";
     private static final long VARIANT_UNSUPPORTED_RETRY_MS = 10_000L;
+    private static final int ICON_GAP = 3;
+    private static final int ICON_TINT_HIDDEN = 0xFF000000;
     private static final Component VARIANT_LOADING_LABEL = Component.translatable("gui.wildex.variants.loading");
     private static final Set<ResourceLocation> KNOWN_VARIANT_SUPPORTED_IDS = ConcurrentHashMap.newKeySet();
 
@@ -600,6 +603,7 @@ public final class MobListWidget extends ObjectSelectionList<MobListWidget.Entry
             if (this.expandedIds.contains(entry.id)) {
                 this.expandedIds.remove(entry.id);
                 clearVariantGroupExpansionsFor(entry.id);
+                WildexEntityVariantCatalog.cancel(type);
             } else {
                 Level level = this.minecraft.level;
                 if (level == null) return;
@@ -938,6 +942,19 @@ public final class MobListWidget extends ObjectSelectionList<MobListWidget.Entry
             return mouseX >= bx && mouseX < bx + size && mouseY >= by && mouseY < by + size;
         }
 
+        private void renderIcon(GuiGraphics graphics, int x, int y, int size, int clipY0, int clipY1, boolean discovered) {
+            int sizePx = (int) Math.ceil(size * MobListWidget.this.minecraft.getWindow().getGuiScale());
+            WildexImpostorCache.Impostor icon = WildexImpostorCache.get(this.id, "", WildexImpostorCache.PREVIEW_YAW, sizePx, null);
+            if (icon == null) return;
+
+            WildexScissor.enablePhysical(graphics, x, clipY0, x + size, clipY1);
+            try {
+                icon.blit(graphics, x, y, size, discovered ? 0xFFFFFFFF : ICON_TINT_HIDDEN);
+            } finally {
+                graphics.disableScissor();
+            }
+        }
+
         @Override
         public void render(
                 @NotNull GuiGraphics graphics,
@@ -997,6 +1014,11 @@ public final class MobListWidget extends ObjectSelectionList<MobListWidget.Entry
             if (canExpand) {
                 textX += expandButtonSize(rowHeight) + expandButtonGap(rowHeight);
             }
+            if (!this.variantSubentry && WildexClientConfigView.showMobListIcons()) {
+                int iconSize = Math.max(8, rowHeight - 2);
+                renderIcon(graphics, textX, y + (rowHeight - iconSize) / 2, iconSize, rowY0, rowY1, discovered);
+                textX += iconSize + ICON_GAP;
+            }
 
             float textScale = resolveListTextScale();
             int scaledLineH = Math.max(1, Math.round(WildexUiText.lineHeight(MobListWidget.this.minecraft.font) * textScale));
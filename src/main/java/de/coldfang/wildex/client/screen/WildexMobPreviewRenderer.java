@@ -6,6 +6,7 @@ import de.coldfang.wildex.client.data.WildexDiscoveryCache;
 import de.coldfang.wildex.client.data.WildexEntityVariantProbe;
 import de.coldfang.wildex.config.ClientConfig.DesignStyle;
 import de.coldfang.wildex.util.WildexEntityFactory;
+import de.coldfang.wildex.util.WildexReflectiveAccess;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.renderer.LightTexture;
@@ -1062,7 +1063,7 @@ public final class WildexMobPreviewRenderer {
         if (getter == null || setter == null) return NO_BABY_ACCESS;
         Class<?> rt = getter.getReturnType();
         if (rt != boolean.class && rt != Boolean.class) return NO_BABY_ACCESS;
-        return new BabyAccess(getter, setter);
+        return new BabyAccess(WildexReflectiveAccess.of(getter), WildexReflectiveAccess.of(setter));
     }
 
     private static Method findMethod(Class<?> type, String name, Class<?>... params) {
@@ -1113,7 +1114,7 @@ public final class WildexMobPreviewRenderer {
     private record ExclusionRect(int x0, int y0, int x1, int y1) {
     }
 
-    private record BabyAccess(Method getter, Method setter) {
+    private record BabyAccess(WildexReflectiveAccess.Invoker getter, WildexReflectiveAccess.Invoker setter) {
     }
 }
 
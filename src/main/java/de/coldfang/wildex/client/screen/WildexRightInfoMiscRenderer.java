@@ -1,5 +1,6 @@
 package de.coldfang.wildex.client.screen;
 
+import de.coldfang.wildex.client.data.WildexMiscCache;
 import de.coldfang.wildex.client.data.extractor.WildexEntityTypeTags;
 import de.coldfang.wildex.client.data.model.WildexMiscData;
 import de.coldfang.wildex.integration.cobblemon.WildexCobblemonBridge;
@@ -32,6 +33,7 @@ final class WildexRightInfoMiscRenderer {
     private static final String TAMING_ITEMS_LABEL = "gui.wildex.info.taming_items";
     private static final String NO_ITEMS = "gui.wildex.info.none";
     private static final String LOADING_INFO = "gui.wildex.info.loading";
+    private static final String LOADING_PROGRESS = "gui.wildex.info.loading_progress";
     private static final String TAMING_NONE_OWNABLE_HINT = "gui.wildex.info.taming_none_ownable_hint";
     private static final String TAMING_NONE_COBBLEMON_HINT = "gui.wildex.info.taming_none_cobblemon_hint";
 
@@ -179,7 +181,10 @@ final class WildexRightInfoMiscRenderer {
             miscHasScrollbar = false;
             miscDraggingScrollbar = false;
 
-            String loadingText = WildexRightInfoTabUtil.tr(LOADING_INFO);
+            int progress = WildexMiscCache.progress(ResourceLocation.tryParse(state.selectedMobId()));
+            String loadingText = progress < 0
+                    ? WildexRightInfoTabUtil.tr(LOADING_INFO)
+                    : Component.translatable(LOADING_PROGRESS, progress).getString();
             int maxW = Math.max(1, rightLimitX - x);
             int textH = WildexUiText.lineHeight(font);
             int textY = yTop + Math.max(0, (viewportH - textH) / 2);
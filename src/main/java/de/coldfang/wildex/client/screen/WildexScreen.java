@@ -6,6 +6,7 @@ import de.coldfang.wildex.client.data.WildexDiscoveryCache;
 import de.coldfang.wildex.client.data.WildexDiscoveryDetailsCache;
 import de.coldfang.wildex.client.data.WildexFavoriteMobEntriesCache;
 import de.coldfang.wildex.client.data.WildexMobDataResolver;
+import de.coldfang.wildex.client.data.WildexMobFacetIndex;
 import de.coldfang.wildex.client.data.WildexMobIndexModel;
 import de.coldfang.wildex.client.data.WildexMiscCache;
 import de.coldfang.wildex.client.data.WildexPlayerUiStateCache;
@@ -13,7 +14,6 @@ import de.coldfang.wildex.client.data.WildexEntityVariantCatalog;
 import de.coldfang.wildex.client.data.WildexLootCache;
 import de.coldfang.wildex.client.data.WildexSpawnCache;
 import de.coldfang.wildex.client.data.WildexViewedMobEntriesCache;
-import de.coldfang.wildex.client.data.model.WildexAggression;
 import de.coldfang.wildex.client.data.model.WildexDiscoveryDetails;
 import de.coldfang.wildex.client.data.model.WildexMobData;
 import de.coldfang.wildex.client.WildexNetworkClient;
@@ -32,7 +32,7 @@ import net.minecraft.world.entity.EntityType;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.glfw.GLFW;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Locale;
 
@@ -897,17 +897,17 @@ public final class WildexScreen extends Screen {
         String q = this.searchBox == null ? "" : this.searchBox.getValue();
         this.mobIndex.setQuery(q);
 
-        List<EntityType<?>> base = this.mobIndex.filtered();
-        List<EntityType<?>> out = new ArrayList<>(base.size());
-        for (EntityType<?> type : base) {
-            ResourceLocation id = BuiltInRegistries.ENTITY_TYPE.getKey(type);
-            if (isDiscoveredOnlyEnabled() && !WildexDiscoveryCache.isDiscovered(id)) continue;
-            if (!matchesAggressionFilters(type)) continue;
-            if (!matchesTameableFilter(type)) continue;
-            if (!matchesFavoritesFilter(id)) continue;
-            out.add(type);
-        }
-        this.visibleEntries = List.copyOf(out);
+        WildexMobFacetIndex facets = this.mobIndex.facets();
+        BitSet visible = this.mobIndex.filteredMask();
+        visible.and(facets.mask(
+                isDiscoveredOnlyEnabled(),
+                isFriendlyFilterEnabled(),
+                isNeutralFilterEnabled(),
+                isHostileFilterEnabled(),
+                isTameableFilterEnabled(),
+                isFavoritesFilterEnabled()
+        ));
+        this.visibleEntries = facets.select(visible);
     }
 
     private boolean isDiscoveredOnlyEnabled() {
@@ -934,30 +934,6 @@ public final class WildexScreen extends Screen {
         return this.favoritesFilterButton != null && this.favoritesFilterButton.isChecked();
     }
 
-    private boolean matchesAggressionFilters(EntityType<?> type) {
-        boolean friendly = isFriendlyFilterEnabled();
-        boolean neutral = isNeutralFilterEnabled();
-        boolean hostile = isHostileFilterEnabled();
-        if (!friendly && !neutral && !hostile) return true;
-
-        WildexAggression aggression = this.mobIndex.aggressionOf(type);
-        return switch (aggression) {
-            case FRIENDLY -> friendly;
-            case NEUTRAL -> neutral;
-            case HOSTILE -> hostile;
-        };
-    }
-
-    private boolean matchesTameableFilter(EntityType<?> type) {
-        if (!isTameableFilterEnabled()) return true;
-        return this.mobIndex.tameableOf(type);
-    }
-
-    private boolean matchesFavoritesFilter(ResourceLocation mobId) {
-        if (!isFavoritesFilterEnabled()) return true;
-        return WildexFavoriteMobEntriesCache.isFavorite(mobId);
-    }
-
     private void onDiscoveredOnlyChanged(boolean checked) {
         onListFiltersChanged();
     }
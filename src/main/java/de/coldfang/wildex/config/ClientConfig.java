@@ -18,8 +18,10 @@ public final class ClientConfig {
     public final ModConfigSpec.BooleanValue showDiscoveredSpyglassOverlay;
     public final ModConfigSpec.BooleanValue showMobVariants;
     public final ModConfigSpec.BooleanValue backgroundMobVariantProbe;
+    public final ModConfigSpec.BooleanValue showMobListIcons;
     public final ModConfigSpec.BooleanValue hideGuiScaleSlider;
     public final ModConfigSpec.DoubleValue wildexUiScale;
+    public final ModConfigSpec.IntValue pedestalModelsPerFrame;
 
     private ClientConfig(ModConfigSpec.Builder builder) {
         builder.push("ui");
@@ -44,6 +46,10 @@ public final class ClientConfig {
                 .comment("Run mob variant probing in a low-priority background queue. Disable to probe immediately on expand.")
                 .define("backgroundMobVariantProbe", true);
 
+        showMobListIcons = builder
+                .comment("Show a small mob icon in front of each mob list entry. Icons are rendered once and cached.")
+                .define("showMobListIcons", false);
+
         hideGuiScaleSlider = builder
                 .comment("Hide the GUI scale slider in the Wildex screen.")
                 .define("hideGuiScaleSlider", true);
@@ -53,6 +59,17 @@ public final class ClientConfig {
                 .defineInRange("wildexUiScale", 2.0d, 1.00d, 4.00d);
 
         builder.pop();
+
+        builder.push("pedestal");
+
+        pedestalModelsPerFrame = builder
+                .comment(
+                        "Maximum number of pedestal holograms drawn as full mob models per frame.\n"
+                                + "The nearest visible pedestals get the models; the others show a simplified hologram."
+                )
+                .defineInRange("pedestalModelsPerFrame", 8, 1, 64);
+
+        builder.pop();
     }
 
     public enum DesignStyle {
@@ -2,6 +2,7 @@ package de.coldfang.wildex.config;
 
 import de.coldfang.wildex.Wildex;
 import de.coldfang.wildex.util.WildexIdFilterMatcher;
+import de.coldfang.wildex.util.WildexMobFilters;
 import net.neoforged.neoforge.common.ModConfigSpec;
 import net.neoforged.fml.config.ModConfig;
 import net.neoforged.fml.event.config.ModConfigEvent;
@@ -53,6 +54,21 @@ public final class CommonConfig {
     public final ModConfigSpec.IntValue spyglassDiscoveryChargeTicks;
     public final ModConfigSpec.DoubleValue spyglassDiscoveryRange;
 
+    public final ModConfigSpec.BooleanValue asyncLootExtraction;
+    public final ModConfigSpec.IntValue lootWorkerThreads;
+    public final ModConfigSpec.BooleanValue analyticLootEvaluation;
+    public final ModConfigSpec.BooleanValue adaptiveLootSampling;
+    public final ModConfigSpec.IntValue adaptiveLootSamplingMinRolls;
+    public final ModConfigSpec.IntValue adaptiveLootSamplingStableRolls;
+    public final ModConfigSpec.IntValue adaptiveLootSamplingMaxRolls;
+    public final ModConfigSpec.BooleanValue persistentExtractionCache;
+    public final ModConfigSpec.BooleanValue extractionWarmup;
+    public final ModConfigSpec.LongValue extractionWarmupTickBudgetNs;
+    public final ModConfigSpec.BooleanValue shardedPlayerData;
+    public final ModConfigSpec.IntValue killSyncIntervalTicks;
+    public final ModConfigSpec.LongValue breedingTickBudgetNs;
+    public final ModConfigSpec.LongValue analyzerIndexTickBudgetNs;
+
     public final ModConfigSpec.ConfigValue<List<? extends String>> excludedModIds;
     public final ModConfigSpec.ConfigValue<List<? extends String>> excludedVariantMobIds;
 
@@ -185,6 +201,96 @@ public final class CommonConfig {
 
         builder.pop();
 
+        builder.push("performance");
+
+        asyncLootExtraction = builder
+                .comment(
+                        "Roll mob loot tables for the Loot tab on background worker threads instead of the server tick.\n"
+                                + "Sampling entities are still created on the server thread; results are delivered on the next tick."
+                )
+                .define("asyncLootExtraction", true);
+
+        lootWorkerThreads = builder
+                .comment("Number of background worker threads used for asynchronous loot extraction. Applied on server start.")
+                .defineInRange("lootWorkerThreads", 1, 1, 8);
+
+        analyticLootEvaluation = builder
+                .comment(
+                        "Compute exact drop chances and counts by reading loot tables instead of rolling them.\n"
+                                + "Tables with custom entries, functions or conditions, and packs using global loot modifiers, fall back to sampling."
+                )
+                .define("analyticLootEvaluation", true);
+
+        adaptiveLootSampling = builder
+                .comment(
+                        "Stop sampling a loot profile early once consecutive rolls stop producing new items or new min/max counts.\n"
+                                + "Only used for loot tables that cannot be evaluated analytically.\n"
+                                + "Trades recall for speed: an item with drop chance p is missed about (1 - p)^stableRolls of the time,\n"
+                                + "so the stable window should be close to the fixed 250 rolls to keep rare drops (around 2.5%) visible."
+                )
+                .define("adaptiveLootSampling", false);
+
+        adaptiveLootSamplingMinRolls = builder
+                .comment("Minimum number of rolls per loot profile before adaptive sampling may stop.")
+                .defineInRange("adaptiveLootSamplingMinRolls", 48, 1, 10_000);
+
+        adaptiveLootSamplingStableRolls = builder
+                .comment("Number of consecutive rolls without new items or count extremes after which a profile stops.")
+                .defineInRange("adaptiveLootSamplingStableRolls", 96, 1, 10_000);
+
+        adaptiveLootSamplingMaxRolls = builder
+                .comment("Upper bound on rolls per loot profile, including verification passes.")
+                .defineInRange("adaptiveLootSamplingMaxRolls", 600, 1, 10_000);
+
+        persistentExtractionCache = builder
+                .comment(
+                        "Store extracted loot, spawn and breeding data in the world's data folder so restarts do not re-sample it.\n"
+                                + "The cache is discarded automatically when mods, datapacks, loot tables, spawn settings or loot sampling settings change."
+                )
+                .define("persistentExtractionCache", true);
+
+        extractionWarmup = builder
+                .comment(
+                        "Precompute loot, spawn and breeding data for every Wildex mob in the background after server start.\n"
+                                + "Progress can be checked with /wildex warmup."
+                )
+                .define("extractionWarmup", false);
+
+        extractionWarmupTickBudgetNs = builder
+                .comment("Time budget per server tick for the warmup, in nanoseconds.")
+                .defineInRange("extractionWarmupTickBudgetNs", 2_000_000L, 100_000L, 50_000_000L);
+
+        shardedPlayerData = builder
+                .comment(
+                        "Store per-player Wildex data in one file per player (data/wildex_players) instead of shared files.\n"
+                                + "Only changed players are written on save and offline players are not kept in memory.\n"
+                                + "Existing data is moved over on server start; turning it off moves the data back."
+                )
+                .define("shardedPlayerData", false);
+
+        killSyncIntervalTicks = builder
+                .comment(
+                        "How often changed kill counts are sent to players, in ticks.\n"
+                                + "Kills in between are merged into one packet per player."
+                )
+                .defineInRange("killSyncIntervalTicks", 10, 1, 200);
+
+        breedingTickBudgetNs = builder
+                .comment(
+                        "Time budget per server tick for breeding and taming extraction, in nanoseconds.\n"
+                                + "Larger item registries take more ticks but never more time per tick."
+                )
+                .defineInRange("breedingTickBudgetNs", 2_000_000L, 100_000L, 50_000_000L);
+
+        analyzerIndexTickBudgetNs = builder
+                .comment(
+                        "Time budget per server tick for completing the Analyzer item index, in nanoseconds.\n"
+                                + "Shared by all Analyzers; an Analyzer that finishes before the index waits for it."
+                )
+                .defineInRange("analyzerIndexTickBudgetNs", 1_000_000L, 100_000L, 50_000_000L);
+
+        builder.pop();
+
         builder.push("integrationDebug");
 
         kubejsBridgeEnabled = builder
@@ -213,12 +319,14 @@ public final class CommonConfig {
         if (event == null || event.getConfig() == null) return;
         if (event.getConfig().getSpec() != SPEC) return;
         runMigrationsIfNeeded(event.getConfig());
+        WildexMobFilters.invalidate();
     }
 
     public static void onConfigReloading(ModConfigEvent.Reloading event) {
         if (event == null || event.getConfig() == null) return;
         if (event.getConfig().getSpec() != SPEC) return;
         runMigrationsIfNeeded(event.getConfig());
+        WildexMobFilters.invalidate();
     }
 
     private static void runMigrationsIfNeeded(ModConfig modConfig) {
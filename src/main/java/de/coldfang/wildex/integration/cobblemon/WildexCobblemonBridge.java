@@ -2,6 +2,7 @@ package de.coldfang.wildex.integration.cobblemon;
 
 import de.coldfang.wildex.client.data.WildexEntityVariantProbe;
 import de.coldfang.wildex.client.data.model.WildexStatsData;
+import de.coldfang.wildex.util.WildexReflectiveAccess;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.Component;
@@ -37,6 +38,7 @@ public final class WildexCobblemonBridge {
 
     private static final Map<Class<?>, MethodHolder> ENTITY_GET_POKEMON_METHOD = new ConcurrentHashMap<>();
     private static final Map<Class<?>, PokemonStatAccessors> POKEMON_STAT_ACCESSORS = new ConcurrentHashMap<>();
+    private static final Map<OneArgKey, MethodHolder> ONE_ARG_METHODS = new ConcurrentHashMap<>();
 
     private WildexCobblemonBridge() {
     }
@@ -345,29 +347,21 @@ public final class WildexCobblemonBridge {
     private static Object invokeNoArgs(Object target, Method method) {
         if (target == null || method == null) return null;
         try {
-            return method.invoke(target);
-        } catch (ReflectiveOperationException ignored) {
+            return WildexReflectiveAccess.of(method).invoke(target);
+        } catch (Throwable ignored) {
             return null;
         }
     }
 
     private static Object invokeNoArgs(Object target, String methodName) {
-        if (target == null || methodName == null || methodName.isBlank()) return null;
-        try {
-            Method method = target.getClass().getMethod(methodName);
-            method.setAccessible(true);
-            return method.invoke(target);
-        } catch (Throwable ignored) {
-            return null;
-        }
+        return WildexReflectiveAccess.invokeNoArgs(target, methodName);
     }
 
     private static Object callGetByIdentifier(Object target, Object argValue) {
         if (target == null || argValue == null) return null;
         try {
-            Method m = resolveOneArgMethod(target.getClass(), "getByIdentifier", argValue);
+            WildexReflectiveAccess.Invoker m = resolveOneArgMethod(target.getClass(), "getByIdentifier", argValue);
             if (m == null) return null;
-            m.setAccessible(true);
             return m.invoke(target, argValue);
         } catch (Throwable ignored) {
             return null;
@@ -377,9 +371,8 @@ public final class WildexCobblemonBridge {
     private static boolean invokeOneArg(Object target, String methodName, Object argValue) {
         if (target == null || methodName == null || methodName.isBlank()) return false;
         try {
-            Method m = resolveOneArgMethod(target.getClass(), methodName, argValue);
+            WildexReflectiveAccess.Invoker m = resolveOneArgMethod(target.getClass(), methodName, argValue);
             if (m == null) return false;
-            m.setAccessible(true);
             m.invoke(target, argValue);
             return true;
         } catch (Throwable ignored) {
@@ -387,10 +380,16 @@ public final class WildexCobblemonBridge {
         }
     }
 
-    private static Method resolveOneArgMethod(Class<?> owner, String name, Object argValue) {
+    private static WildexReflectiveAccess.Invoker resolveOneArgMethod(Class<?> owner, String name, Object argValue) {
         if (owner == null || name == null || name.isBlank() || argValue == null) return null;
-        Class<?> argClass = argValue.getClass();
+        MethodHolder holder = ONE_ARG_METHODS.computeIfAbsent(
+                new OneArgKey(owner, name, argValue.getClass()),
+                key -> new MethodHolder(findOneArgMethod(key.owner(), key.name(), key.argClass()))
+        );
+        return holder.method() == null ? null : WildexReflectiveAccess.of(holder.method());
+    }
 
+    private static Method findOneArgMethod(Class<?> owner, String name, Class<?> argClass) {
         Method exact = null;
         Method assignable = null;
 
@@ -443,11 +442,11 @@ public final class WildexCobblemonBridge {
     private static OptionalDouble readNumber(Object target, Method getter) {
         if (target == null || getter == null) return OptionalDouble.empty();
         try {
-            Object value = getter.invoke(target);
+            Object value = WildexReflectiveAccess.of(getter).invoke(target);
             if (value instanceof Number n) {
                 return OptionalDouble.of(n.doubleValue());
             }
-        } catch (ReflectiveOperationException ignored) {
+        } catch (Throwable ignored) {
         }
         return OptionalDouble.empty();
     }
@@ -455,6 +454,9 @@ public final class WildexCobblemonBridge {
     private record MethodHolder(Method method) {
     }
 
+    private record OneArgKey(Class<?> owner, String name, Class<?> argClass) {
+    }
+
     private record PokemonStatAccessors(
             Method maxHealth,
             Method attack,
@@ -1,6 +1,7 @@
 package de.coldfang.wildex.integration.vanillabackport;
 
 import de.coldfang.wildex.client.data.WildexEntityVariantProbe;
+import de.coldfang.wildex.util.WildexReflectiveAccess;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
@@ -326,26 +327,20 @@ public final class WildexVanillaBackportBridge {
     private static Object invokeNoArgs(Object target, Method method) {
         if (target == null || method == null) return null;
         try {
-            return method.invoke(target);
+            return WildexReflectiveAccess.of(method).invoke(target);
         } catch (Throwable ignored) {
             return null;
         }
     }
 
     private static void invokeRefreshDimensions(Object target) {
-        if (target == null) return;
-        try {
-            Method method = target.getClass().getMethod("refreshDimensions");
-            method.setAccessible(true);
-            method.invoke(target);
-        } catch (Throwable ignored) {
-        }
+        WildexReflectiveAccess.invokeNoArgs(target, "refreshDimensions");
     }
 
     private static boolean invokeOneArg(Object target, Method method, Object arg) {
         if (target == null || method == null) return false;
         try {
-            method.invoke(target, arg);
+            WildexReflectiveAccess.of(method).invoke(target, arg);
             return true;
         } catch (Throwable ignored) {
             return false;
@@ -365,8 +360,7 @@ public final class WildexVanillaBackportBridge {
             if (!isArgumentCompatible(method.getParameterTypes()[0], arg)) continue;
 
             try {
-                method.setAccessible(true);
-                return method.invoke(target, arg);
+                return WildexReflectiveAccess.of(method).invoke(target, arg);
             } catch (Throwable ignored) {
             }
         }
@@ -0,0 +1,27 @@
+package de.coldfang.wildex.network;
+
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+public record S2CMobBreedingProgressPayload(ResourceLocation mobId, int percent) implements CustomPacketPayload {
+
+    public static final Type<S2CMobBreedingProgressPayload> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(WildexNetwork.MOD_ID, "mob_breeding_progress"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, S2CMobBreedingProgressPayload> STREAM_CODEC =
+            StreamCodec.of(
+                    (buf, p) -> {
+                        buf.writeResourceLocation(p.mobId());
+                        buf.writeVarInt(p.percent());
+                    },
+                    buf -> new S2CMobBreedingProgressPayload(buf.readResourceLocation(), buf.readVarInt())
+            );
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,44 @@
+package de.coldfang.wildex.network;
+
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kill counts that changed since the last flush, as current totals per mob.
+ */
+public record S2CMobKillsBatchPayload(Map<ResourceLocation, Integer> kills) implements CustomPacketPayload {
+
+    public static final Type<S2CMobKillsBatchPayload> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(WildexNetwork.MOD_ID, "mob_kills_batch"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, S2CMobKillsBatchPayload> STREAM_CODEC =
+            StreamCodec.of(
+                    (buf, p) -> {
+                        Map<ResourceLocation, Integer> kills = p.kills() == null ? Map.of() : p.kills();
+                        buf.writeVarInt(kills.size());
+                        for (Map.Entry<ResourceLocation, Integer> e : kills.entrySet()) {
+                            buf.writeResourceLocation(e.getKey());
+                            buf.writeVarInt(Math.max(0, e.getValue()));
+                        }
+                    },
+                    buf -> {
+                        int n = Math.max(0, buf.readVarInt());
+                        Map<ResourceLocation, Integer> kills = new HashMap<>(Math.min(n, 2048));
+                        for (int i = 0; i < n; i++) {
+                            kills.put(buf.readResourceLocation(), buf.readVarInt());
+                        }
+                        return new S2CMobKillsBatchPayload(Map.copyOf(kills));
+                    }
+            );
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,479 @@
+package de.coldfang.wildex.network;
+
+import com.google.gson.JsonElement;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.JsonOps;
+import de.coldfang.wildex.Wildex;
+import de.coldfang.wildex.config.CommonConfig;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderSet;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.RegistryOps;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tags.BiomeTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.MobSpawnSettings;
+import net.minecraft.world.level.dimension.LevelStem;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraft.world.level.storage.loot.LootTable;
+import net.neoforged.fml.ModList;
+import net.neoforged.neoforgespi.language.IModInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persists loot/XP, spawn and breeding extraction results under the world's data directory.
+ * Entries stay valid as long as the content fingerprint (mods, datapacks, loot tables, tags and
+ * worldgen spawn settings) matches the one the file was written with.
+ */
+final class WildexExtractionDiskCache {
+
+    private static final String FILE_NAME = "wildex_extraction_cache.bin";
+    private static final int MAGIC = 0x57584543; // "WXEC"
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAX_LIST_SIZE = 1 << 16;
+
+    private static final Map<ResourceLocation, WildexNetwork.CachedLoot> LOOT = new HashMap<>();
+    private static final Map<ResourceLocation, WildexNetwork.CachedSpawns> SPAWNS = new HashMap<>();
+    private static final Map<ResourceLocation, WildexNetwork.CachedBreeding> BREEDING = new HashMap<>();
+
+    private static MinecraftServer server;
+    private static Path file;
+    private static String fingerprint = "";
+    private static boolean loaded = false;
+    private static boolean dirty = false;
+
+    private WildexExtractionDiskCache() {
+    }
+
+    static void open(MinecraftServer target) {
+        close();
+        if (target == null || !CommonConfig.INSTANCE.persistentExtractionCache.get()) return;
+
+        server = target;
+        file = target.getWorldPath(LevelResource.ROOT).resolve("data").resolve(FILE_NAME);
+        // Hashing encodes every loot table, so it runs once here and after reloads instead of on a request tick.
+        fingerprint = computeFingerprint(target);
+    }
+
+    static void close() {
+        clearEntries();
+        server = null;
+        file = null;
+        fingerprint = "";
+        loaded = false;
+        dirty = false;
+    }
+
+    static void onDataReloaded() {
+        if (file == null || server == null) return;
+
+        // Entries only get dropped if the content actually changed.
+        String next = computeFingerprint(server);
+        if (next.equals(fingerprint)) return;
+        fingerprint = next;
+        if (loaded) {
+            clearEntries();
+            dirty = true;
+        }
+    }
+
+    static void flush() {
+        if (file == null || !loaded || !dirty) return;
+
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(FILE_NAME + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+                write(out);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            Wildex.LOGGER.warn("Failed to write Wildex extraction cache to {}", file, e);
+        }
+    }
+
+    static WildexNetwork.CachedLoot getLoot(ResourceLocation mobId) {
+        if (mobId == null || !ensureLoaded()) return null;
+        return LOOT.get(mobId);
+    }
+
+    static void putLoot(ResourceLocation mobId, WildexNetwork.CachedLoot entry) {
+        if (mobId == null || entry == null || !ensureLoaded()) return;
+        LOOT.put(mobId, entry);
+        dirty = true;
+    }
+
+    static WildexNetwork.CachedSpawns getSpawns(ResourceLocation mobId) {
+        if (mobId == null || !ensureLoaded()) return null;
+        return SPAWNS.get(mobId);
+    }
+
+    static void putSpawns(ResourceLocation mobId, WildexNetwork.CachedSpawns entry) {
+        if (mobId == null || entry == null || !ensureLoaded()) return;
+        SPAWNS.put(mobId, entry);
+        dirty = true;
+    }
+
+    static WildexNetwork.CachedBreeding getBreeding(ResourceLocation mobId) {
+        if (mobId == null || !ensureLoaded()) return null;
+        return BREEDING.get(mobId);
+    }
+
+    static void putBreeding(ResourceLocation mobId, WildexNetwork.CachedBreeding entry) {
+        if (mobId == null || entry == null || !ensureLoaded()) return;
+        BREEDING.put(mobId, entry);
+        dirty = true;
+    }
+
+    private static boolean ensureLoaded() {
+        if (file == null || server == null) return false;
+
+        if (!loaded) {
+            readFile();
+            loaded = true;
+        }
+        return true;
+    }
+
+    private static void clearEntries() {
+        LOOT.clear();
+        SPAWNS.clear();
+        BREEDING.clear();
+    }
+
+    private static void readFile() {
+        clearEntries();
+        if (!Files.isRegularFile(file)) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) return;
+            if (!fingerprint.equals(in.readUTF())) return;
+            read(in);
+        } catch (IOException | RuntimeException e) {
+            clearEntries();
+            Wildex.LOGGER.warn("Discarding unreadable Wildex extraction cache at {}", file, e);
+        }
+    }
+
+    private static void write(DataOutputStream out) throws IOException {
+        Palette palette = new Palette();
+        for (var e : LOOT.entrySet()) {
+            palette.add(e.getKey());
+            for (S2CMobLootPayload.LootLine line : e.getValue().lines()) palette.add(line.itemId());
+            e.getValue().itemIds().forEach(palette::add);
+        }
+        for (var e : SPAWNS.entrySet()) {
+            palette.add(e.getKey());
+            for (S2CMobSpawnsPayload.DimSection s : e.getValue().naturalSections()) {
+                palette.add(s.dimensionId());
+                s.biomeIds().forEach(palette::add);
+            }
+            for (S2CMobSpawnsPayload.StructureSection s : e.getValue().structureSections()) {
+                palette.add(s.structureId());
+                s.biomeIds().forEach(palette::add);
+            }
+        }
+        for (var e : BREEDING.entrySet()) {
+            palette.add(e.getKey());
+            e.getValue().breedingItemIds().forEach(palette::add);
+            e.getValue().tamingItemIds().forEach(palette::add);
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(fingerprint);
+
+        out.writeInt(palette.ids.size());
+        for (ResourceLocation id : palette.ids) out.writeUTF(id.toString());
+
+        out.writeInt(LOOT.size());
+        for (var e : LOOT.entrySet()) {
+            WildexNetwork.CachedLoot loot = e.getValue();
+            out.writeInt(palette.indexOf(e.getKey()));
+            out.writeBoolean(loot.hasPlayerKillXp());
+            out.writeInt(loot.playerKillXpMin());
+            out.writeInt(loot.playerKillXpMax());
+            out.writeInt(loot.lines().size());
+            for (S2CMobLootPayload.LootLine line : loot.lines()) {
+                out.writeInt(palette.indexOf(line.itemId()));
+                out.writeInt(line.minCount());
+                out.writeInt(line.maxCount());
+                out.writeInt(line.conditionMask());
+                out.writeInt(line.conditionProfiles().size());
+                for (int profile : line.conditionProfiles()) out.writeInt(profile);
+            }
+            writeIds(out, palette, loot.itemIds());
+        }
+
+        out.writeInt(SPAWNS.size());
+        for (var e : SPAWNS.entrySet()) {
+            out.writeInt(palette.indexOf(e.getKey()));
+            out.writeInt(e.getValue().naturalSections().size());
+            for (S2CMobSpawnsPayload.DimSection s : e.getValue().naturalSections()) {
+                out.writeInt(palette.indexOf(s.dimensionId()));
+                writeIds(out, palette, s.biomeIds());
+            }
+            out.writeInt(e.getValue().structureSections().size());
+            for (S2CMobSpawnsPayload.StructureSection s : e.getValue().structureSections()) {
+                out.writeInt(palette.indexOf(s.structureId()));
+                writeIds(out, palette, s.biomeIds());
+            }
+        }
+
+        out.writeInt(BREEDING.size());
+        for (var e : BREEDING.entrySet()) {
+            out.writeInt(palette.indexOf(e.getKey()));
+            out.writeBoolean(e.getValue().ownable());
+            writeIds(out, palette, e.getValue().breedingItemIds());
+            writeIds(out, palette, e.getValue().tamingItemIds());
+        }
+    }
+
+    private static void read(DataInputStream in) throws IOException {
+        int paletteSize = readSize(in);
+        List<ResourceLocation> palette = new ArrayList<>(paletteSize);
+        for (int i = 0; i < paletteSize; i++) {
+            palette.add(ResourceLocation.parse(in.readUTF()));
+        }
+
+        int lootCount = readSize(in);
+        for (int i = 0; i < lootCount; i++) {
+            ResourceLocation mobId = palette.get(in.readInt());
+            boolean hasXp = in.readBoolean();
+            int xpMin = in.readInt();
+            int xpMax = in.readInt();
+            int lineCount = readSize(in);
+            List<S2CMobLootPayload.LootLine> lines = new ArrayList<>(lineCount);
+            for (int j = 0; j < lineCount; j++) {
+                ResourceLocation itemId = palette.get(in.readInt());
+                int min = in.readInt();
+                int max = in.readInt();
+                int mask = in.readInt();
+                int profileCount = readSize(in);
+                List<Integer> profiles = new ArrayList<>(profileCount);
+                for (int k = 0; k < profileCount; k++) profiles.add(in.readInt());
+                lines.add(new S2CMobLootPayload.LootLine(itemId, min, max, mask, List.copyOf(profiles)));
+            }
+            List<ResourceLocation> itemIds = readIds(in, palette);
+            LOOT.put(mobId, new WildexNetwork.CachedLoot(List.copyOf(lines), itemIds, hasXp, xpMin, xpMax));
+        }
+
+        int spawnCount = readSize(in);
+        for (int i = 0; i < spawnCount; i++) {
+            ResourceLocation mobId = palette.get(in.readInt());
+            int naturalCount = readSize(in);
+            List<S2CMobSpawnsPayload.DimSection> natural = new ArrayList<>(naturalCount);
+            for (int j = 0; j < naturalCount; j++) {
+                ResourceLocation dimId = palette.get(in.readInt());
+                natural.add(new S2CMobSpawnsPayload.DimSection(dimId, readIds(in, palette)));
+            }
+            int structureCount = readSize(in);
+            List<S2CMobSpawnsPayload.StructureSection> structures = new ArrayList<>(structureCount);
+            for (int j = 0; j < structureCount; j++) {
+                ResourceLocation structureId = palette.get(in.readInt());
+                structures.add(new S2CMobSpawnsPayload.StructureSection(structureId, readIds(in, palette)));
+            }
+            SPAWNS.put(mobId, new WildexNetwork.CachedSpawns(List.copyOf(natural), List.copyOf(structures)));
+        }
+
+        int breedingCount = readSize(in);
+        for (int i = 0; i < breedingCount; i++) {
+            ResourceLocation mobId = palette.get(in.readInt());
+            boolean ownable = in.readBoolean();
+            List<ResourceLocation> breedingItems = readIds(in, palette);
+            List<ResourceLocation> tamingItems = readIds(in, palette);
+            BREEDING.put(mobId, new WildexNetwork.CachedBreeding(ownable, breedingItems, tamingItems));
+        }
+    }
+
+    private static void writeIds(DataOutputStream out, Palette palette, List<ResourceLocation> ids) throws IOException {
+        out.writeInt(ids.size());
+        for (ResourceLocation id : ids) out.writeInt(palette.indexOf(id));
+    }
+
+    private static List<ResourceLocation> readIds(DataInputStream in, List<ResourceLocation> palette) throws IOException {
+        int n = readSize(in);
+        List<ResourceLocation> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) out.add(palette.get(in.readInt()));
+        return List.copyOf(out);
+    }
+
+    private static int readSize(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        if (n < 0 || n > MAX_LIST_SIZE) throw new IOException("Invalid list size " + n);
+        return n;
+    }
+
+    private static String computeFingerprint(MinecraftServer server) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            return "";
+        }
+
+        hash(digest, "format", Integer.toString(FORMAT_VERSION));
+
+        List<IModInfo> mods = new ArrayList<>(ModList.get().getMods());
+        mods.sort(Comparator.comparing(IModInfo::getModId));
+        for (IModInfo mod : mods) {
+            hash(digest, "mod", mod.getModId() + "@" + mod.getVersion());
+        }
+
+        for (String pack : server.getPackRepository().getSelectedIds()) {
+            hash(digest, "pack", pack);
+        }
+
+        hashExtractionSettings(digest);
+        hashLootTables(digest, server);
+        hashItemTags(digest);
+        hashSpawnSettings(digest, server);
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void hashExtractionSettings(MessageDigest digest) {
+        CommonConfig config = CommonConfig.INSTANCE;
+        hash(digest, "analyticLootEvaluation", Boolean.toString(config.analyticLootEvaluation.get()));
+        hash(digest, "adaptiveLootSampling", Boolean.toString(config.adaptiveLootSampling.get()));
+        hash(digest, "adaptiveLootSamplingMinRolls", Integer.toString(config.adaptiveLootSamplingMinRolls.get()));
+        hash(digest, "adaptiveLootSamplingStableRolls", Integer.toString(config.adaptiveLootSamplingStableRolls.get()));
+        hash(digest, "adaptiveLootSamplingMaxRolls", Integer.toString(config.adaptiveLootSamplingMaxRolls.get()));
+    }
+
+    private static void hashLootTables(MessageDigest digest, MinecraftServer server) {
+        RegistryOps<JsonElement> ops = server.registryAccess().createSerializationContext(JsonOps.INSTANCE);
+        List<ResourceLocation> keys = new ArrayList<>(server.reloadableRegistries().getKeys(Registries.LOOT_TABLE));
+        keys.sort(Comparator.comparing(ResourceLocation::toString));
+
+        for (ResourceLocation key : keys) {
+            LootTable table = server.reloadableRegistries().getLootTable(ResourceKey.create(Registries.LOOT_TABLE, key));
+            String encoded = LootTable.DIRECT_CODEC.encodeStart(ops, table)
+                    .result()
+                    .map(JsonElement::toString)
+                    .orElse("?");
+            hash(digest, "loot:" + key, encoded);
+        }
+    }
+
+    private static void hashItemTags(MessageDigest digest) {
+        List<Pair<TagKey<Item>, HolderSet.Named<Item>>> tags = new ArrayList<>(BuiltInRegistries.ITEM.getTags().toList());
+        tags.sort(Comparator.comparing(p -> p.getFirst().location().toString()));
+
+        for (Pair<TagKey<Item>, HolderSet.Named<Item>> tag : tags) {
+            StringBuilder members = new StringBuilder();
+            for (Holder<Item> holder : tag.getSecond()) {
+                holder.unwrapKey().ifPresent(k -> members.append(k.location()).append(','));
+            }
+            hash(digest, "itemtag:" + tag.getFirst().location(), members.toString());
+        }
+    }
+
+    private static void hashSpawnSettings(MessageDigest digest, MinecraftServer server) {
+        var biomeReg = server.registryAccess().registryOrThrow(Registries.BIOME);
+        Map<String, String> biomes = new LinkedHashMap<>();
+        for (Holder.Reference<Biome> holder : biomeReg.holders().toList()) {
+            StringBuilder sb = new StringBuilder();
+            if (holder.is(BiomeTags.IS_OVERWORLD)) sb.append("ow;");
+            if (holder.is(BiomeTags.IS_NETHER)) sb.append("nether;");
+            if (holder.is(BiomeTags.IS_END)) sb.append("end;");
+            appendSpawners(sb, holder.value().getMobSettings());
+            biomes.put(holder.key().location().toString(), sb.toString());
+        }
+        biomes.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> hash(digest, "biome:" + e.getKey(), e.getValue()));
+
+        var structureReg = server.registryAccess().registryOrThrow(Registries.STRUCTURE);
+        Map<String, String> structures = new LinkedHashMap<>();
+        for (Holder.Reference<Structure> holder : structureReg.holders().toList()) {
+            StringBuilder sb = new StringBuilder();
+            for (var override : holder.value().spawnOverrides().entrySet()) {
+                sb.append(override.getKey().getName()).append('=');
+                for (MobSpawnSettings.SpawnerData d : override.getValue().spawns().unwrap()) {
+                    sb.append(BuiltInRegistries.ENTITY_TYPE.getKey(d.type)).append(',');
+                }
+                sb.append(';');
+            }
+            for (Holder<Biome> biome : holder.value().biomes()) {
+                biome.unwrapKey().ifPresent(k -> sb.append(k.location()).append(','));
+            }
+            structures.put(holder.key().location().toString(), sb.toString());
+        }
+        structures.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> hash(digest, "structure:" + e.getKey(), e.getValue()));
+
+        var stemReg = server.registryAccess().registryOrThrow(Registries.LEVEL_STEM);
+        for (var entry : stemReg.entrySet()) {
+            LevelStem stem = entry.getValue();
+            StringBuilder sb = new StringBuilder();
+            for (Holder<Biome> biome : stem.generator().getBiomeSource().possibleBiomes()) {
+                biome.unwrapKey().ifPresent(k -> sb.append(k.location()).append(','));
+            }
+            hash(digest, "dimension:" + entry.getKey().location(), sb.toString());
+        }
+    }
+
+    private static void appendSpawners(StringBuilder sb, MobSpawnSettings settings) {
+        for (MobCategory category : MobCategory.values()) {
+            sb.append(category.getName()).append('=');
+            for (MobSpawnSettings.SpawnerData d : settings.getMobs(category).unwrap()) {
+                sb.append(BuiltInRegistries.ENTITY_TYPE.getKey(d.type)).append(',');
+            }
+            sb.append(';');
+        }
+    }
+
+    private static void hash(MessageDigest digest, String key, String value) {
+        digest.update(key.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static final class Palette {
+        private final List<ResourceLocation> ids = new ArrayList<>();
+        private final Map<ResourceLocation, Integer> indices = new HashMap<>();
+
+        void add(ResourceLocation id) {
+            if (id == null || indices.containsKey(id)) return;
+            indices.put(id, ids.size());
+            ids.add(id);
+        }
+
+        int indexOf(ResourceLocation id) {
+            Integer index = indices.get(id);
+            if (index == null) throw new IllegalStateException("Id missing from palette: " + id);
+            return index;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package de.coldfang.wildex.network;
+
+import de.coldfang.wildex.config.CommonConfig;
+import de.coldfang.wildex.util.WildexMobFilters;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.EntityType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class WildexExtractionWarmup {
+
+    private static List<ResourceLocation> mobIds = List.of();
+    private static int cursor = 0;
+    private static Stage stage = Stage.LOOT;
+    private static boolean running = false;
+    private static long startedAtMs = 0L;
+    private static long finishedAtMs = 0L;
+
+    private WildexExtractionWarmup() {
+    }
+
+    public static void startIfEnabled(MinecraftServer server) {
+        if (!CommonConfig.INSTANCE.extractionWarmup.get()) return;
+        start(server);
+    }
+
+    public static void start(MinecraftServer server) {
+        if (server == null) return;
+
+        ArrayList<ResourceLocation> ids = new ArrayList<>();
+        for (EntityType<?> type : BuiltInRegistries.ENTITY_TYPE) {
+            if (!WildexMobFilters.isTrackable(type)) continue;
+            ids.add(BuiltInRegistries.ENTITY_TYPE.getKey(type));
+        }
+        Collections.sort(ids);
+
+        mobIds = List.copyOf(ids);
+        cursor = 0;
+        stage = Stage.LOOT;
+        running = true;
+        startedAtMs = System.currentTimeMillis();
+        finishedAtMs = 0L;
+    }
+
+    public static void stop() {
+        mobIds = List.of();
+        cursor = 0;
+        stage = Stage.LOOT;
+        running = false;
+        startedAtMs = 0L;
+        finishedAtMs = 0L;
+    }
+
+    public static void tick(MinecraftServer server) {
+        if (!running || server == null) return;
+
+        ServerLevel level = server.overworld();
+        long budgetNs = Math.max(0L, CommonConfig.INSTANCE.extractionWarmupTickBudgetNs.get());
+        long deadlineNs = System.nanoTime() + budgetNs;
+
+        while (cursor < mobIds.size() && System.nanoTime() < deadlineNs) {
+            ResourceLocation mobId = mobIds.get(cursor);
+            EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(mobId).orElse(null);
+            if (type == null) {
+                advanceMob();
+                continue;
+            }
+
+            switch (stage) {
+                case LOOT -> {
+                    // Back-pressure: wait for in-flight loot rolls instead of flooding the worker pool.
+                    if (!WildexNetwork.warmLoot(level, mobId, type)) return;
+                    stage = Stage.SPAWNS;
+                }
+                case SPAWNS -> {
+                    WildexNetwork.warmSpawns(server, mobId, type);
+                    stage = Stage.BREEDING;
+                }
+                case BREEDING -> {
+                    if (!WildexNetwork.warmBreeding(mobId, type)) return;
+                    advanceMob();
+                }
+            }
+        }
+
+        if (cursor >= mobIds.size() && !WildexNetwork.hasPendingExtractionWork()) {
+            running = false;
+            finishedAtMs = System.currentTimeMillis();
+        }
+    }
+
+    public static Status status() {
+        return new Status(
+                running,
+                finishedAtMs > 0L,
+                Math.min(cursor, mobIds.size()),
+                mobIds.size(),
+                running ? System.currentTimeMillis() - startedAtMs : Math.max(0L, finishedAtMs - startedAtMs)
+        );
+    }
+
+    private static void advanceMob() {
+        cursor++;
+        stage = Stage.LOOT;
+    }
+
+    public record Status(boolean running, boolean complete, int processedMobs, int totalMobs, long elapsedMs) {
+    }
+
+    private enum Stage {
+        LOOT,
+        SPAWNS,
+        BREEDING
+    }
+}
@@ -3,17 +3,31 @@ package de.coldfang.wildex.network;
 import de.coldfang.wildex.config.CommonConfig;
 import de.coldfang.wildex.server.WildexDiscoveryService;
 import de.coldfang.wildex.util.WildexMobIdCanonicalizer;
+import de.coldfang.wildex.world.WildexWorldPlayerDiscoveryData;
 import de.coldfang.wildex.world.WildexWorldPlayerKillData;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDeathEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
 public final class WildexKillSyncEvents {
 
+    // Latest totals per player and mob since the last flush; farms collapse into one entry per mob.
+    private static final Map<UUID, Map<ResourceLocation, Integer>> PENDING_KILLS = new HashMap<>();
+    private static int ticksUntilFlush = 0;
+
     private WildexKillSyncEvents() {
     }
 
@@ -29,7 +43,8 @@ public final class WildexKillSyncEvents {
 
         int kills = WildexWorldPlayerKillData.get(sp.serverLevel()).increment(sp.getUUID(), id);
 
-        if (CommonConfig.INSTANCE.hiddenMode.get()) {
+        if (CommonConfig.INSTANCE.hiddenMode.get()
+                && !WildexWorldPlayerDiscoveryData.get(sp.serverLevel()).isDiscovered(sp.getUUID(), id)) {
             WildexDiscoveryService.discover(
                     sp,
                     id,
@@ -38,6 +53,44 @@ public final class WildexKillSyncEvents {
             );
         }
 
-        PacketDistributor.sendToPlayer(sp, new S2CMobKillsPayload(id, kills));
+        PENDING_KILLS.computeIfAbsent(sp.getUUID(), k -> new HashMap<>()).put(id, kills);
+    }
+
+    @SubscribeEvent
+    public static void onServerTickPost(ServerTickEvent.Post event) {
+        if (ticksUntilFlush > 0) ticksUntilFlush--;
+        if (PENDING_KILLS.isEmpty() || ticksUntilFlush > 0) return;
+
+        ticksUntilFlush = CommonConfig.INSTANCE.killSyncIntervalTicks.get();
+        flush(event.getServer());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        PENDING_KILLS.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        PENDING_KILLS.clear();
+        ticksUntilFlush = 0;
+    }
+
+    private static void flush(MinecraftServer server) {
+        Iterator<Map.Entry<UUID, Map<ResourceLocation, Integer>>> it = PENDING_KILLS.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Map<ResourceLocation, Integer>> e = it.next();
+            it.remove();
+
+            ServerPlayer player = server.getPlayerList().getPlayer(e.getKey());
+            if (player == null || e.getValue().isEmpty()) continue;
+
+            if (e.getValue().size() == 1) {
+                Map.Entry<ResourceLocation, Integer> only = e.getValue().entrySet().iterator().next();
+                PacketDistributor.sendToPlayer(player, new S2CMobKillsPayload(only.getKey(), only.getValue()));
+            } else {
+                PacketDistributor.sendToPlayer(player, new S2CMobKillsBatchPayload(Map.copyOf(e.getValue())));
+            }
+        }
     }
 }
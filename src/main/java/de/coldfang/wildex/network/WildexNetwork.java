@@ -1,12 +1,15 @@
 package de.coldfang.wildex.network;
 
+import de.coldfang.wildex.Wildex;
 import de.coldfang.wildex.config.CommonConfig;
 import de.coldfang.wildex.integration.accessorify.WildexAccessorifySpyglassState;
 import de.coldfang.wildex.server.WildexCompletionHelper;
 import de.coldfang.wildex.server.WildexDiscoveryService;
 import de.coldfang.wildex.server.breeding.WildexBreedingExtractor;
 import de.coldfang.wildex.server.WildexShareOfferService;
+import de.coldfang.wildex.server.loot.WildexAnalyzerLootIndex;
 import de.coldfang.wildex.server.loot.WildexLootExtractor;
+import de.coldfang.wildex.server.loot.WildexLootWorkers;
 import de.coldfang.wildex.server.loot.WildexXpExtractor;
 import de.coldfang.wildex.server.spawn.WildexSpawnExtractor;
 import de.coldfang.wildex.util.WildexMobFilters;
@@ -46,6 +49,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 
 @SuppressWarnings("resource")
@@ -58,8 +62,10 @@ public final class WildexNetwork {
     private static final int PULSE_COOLDOWN_TICKS = 15 * 20;
     private static final long REQUEST_COOLDOWN_MS = 300L;
     private static final int MAX_RUNTIME_CACHE_ENTRIES = 512;
-    private static final int BREEDING_JOBS_PER_TICK = 1;
     private static final int XP_SAMPLES_PER_PLAN = 96;
+    private static final int LOOT_SAMPLES = 250;
+    private static final int MAX_LOOT_LINES = 64;
+    private static final int BACKGROUND_MAX_LOOT_IN_FLIGHT = 4;
 
     private static final Map<RequestKey, Long> NEXT_ALLOWED_REQUEST_MS = new HashMap<>();
     private static final Map<ResourceLocation, CachedLoot> LOOT_CACHE = createLruCache();
@@ -67,6 +73,12 @@ public final class WildexNetwork {
     private static final Map<ResourceLocation, CachedBreeding> BREEDING_CACHE = createLruCache();
     private static final Map<ResourceLocation, BreedingWork> BREEDING_IN_FLIGHT = new HashMap<>();
     private static final ArrayDeque<BreedingWork> BREEDING_QUEUE = new ArrayDeque<>();
+    private static BreedingWork activeBreedingWork = null;
+    private static WildexBreedingExtractor.Job activeBreedingJob = null;
+    private static int activeBreedingSentPercent = -1;
+    private static final Map<ResourceLocation, LootWork> LOOT_IN_FLIGHT = new HashMap<>();
+    private static final ConcurrentLinkedQueue<LootResult> LOOT_COMPLETED = new ConcurrentLinkedQueue<>();
+    private static int lootGeneration = 0;
 
     private WildexNetwork() {
     }
@@ -88,10 +100,14 @@ public final class WildexNetwork {
             });
             r.playToClient(S2CMobKillsPayload.TYPE, S2CMobKillsPayload.STREAM_CODEC, (payload, ctx) -> {
             });
+            r.playToClient(S2CMobKillsBatchPayload.TYPE, S2CMobKillsBatchPayload.STREAM_CODEC, (payload, ctx) -> {
+            });
             r.playToClient(S2CMobLootPayload.TYPE, S2CMobLootPayload.STREAM_CODEC, (payload, ctx) -> {
             });
             r.playToClient(S2CMobBreedingPayload.TYPE, S2CMobBreedingPayload.STREAM_CODEC, (payload, ctx) -> {
             });
+            r.playToClient(S2CMobBreedingProgressPayload.TYPE, S2CMobBreedingProgressPayload.STREAM_CODEC, (payload, ctx) -> {
+            });
             r.playToClient(S2CMobSpawnsPayload.TYPE, S2CMobSpawnsPayload.STREAM_CODEC, (payload, ctx) -> {
             });
             r.playToClient(S2CViewedMobEntriesPayload.TYPE, S2CViewedMobEntriesPayload.STREAM_CODEC, (payload, ctx) -> {
@@ -369,47 +385,7 @@ public final class WildexNetwork {
                         return;
                     }
 
-                    int samples = 250;
-                    List<WildexLootExtractor.LootDropSummary> raw = WildexLootExtractor.sampleEntityLoot(serverLevel, type, samples);
-
-                    int cap = Math.min(raw.size(), 64);
-                    List<S2CMobLootPayload.LootLine> lines = new ArrayList<>(cap);
-
-                    for (int i = 0; i < cap; i++) {
-                        WildexLootExtractor.LootDropSummary e = raw.get(i);
-                        ResourceLocation itemId = ResourceLocation.tryParse(e.itemId());
-                        if (itemId == null) continue;
-
-                        lines.add(new S2CMobLootPayload.LootLine(
-                                itemId,
-                                e.minCountSeen(),
-                                e.maxCountSeen(),
-                                Math.max(0, e.conditionMask()),
-                                e.conditionProfiles()
-                        ));
-                    }
-
-                    WildexXpExtractor.XpSummary xpSummary =
-                            WildexXpExtractor.samplePlayerKillXp(serverLevel, type, XP_SAMPLES_PER_PLAN);
-
-                    List<S2CMobLootPayload.LootLine> frozen = List.copyOf(lines);
-                    putCachedLoot(
-                            mobId,
-                            frozen,
-                            xpSummary.known(),
-                            xpSummary.minXp(),
-                            xpSummary.maxXp()
-                    );
-                    PacketDistributor.sendToPlayer(
-                            sp,
-                            new S2CMobLootPayload(
-                                    mobId,
-                                    frozen,
-                                    xpSummary.known(),
-                                    xpSummary.minXp(),
-                                    xpSummary.maxXp()
-                            )
-                    );
+                    enqueueLootWork(sp, serverLevel, mobId, type);
                 })
         );
 
@@ -471,31 +447,13 @@ public final class WildexNetwork {
                         return;
                     }
 
-                    Map<ResourceLocation, List<ResourceLocation>> byDim =
-                            WildexSpawnExtractor.collectSpawnBiomesByDimension(sp.server, type);
-                    Map<ResourceLocation, List<ResourceLocation>> byStructure =
-                            WildexSpawnExtractor.collectStructureOverrideBiomes(sp.server, type);
-
-                    List<S2CMobSpawnsPayload.DimSection> naturalSections = new ArrayList<>(byDim.size());
-                    for (var e : byDim.entrySet()) {
-                        naturalSections.add(new S2CMobSpawnsPayload.DimSection(e.getKey(), e.getValue()));
-                    }
-
-                    List<S2CMobSpawnsPayload.StructureSection> structureSections = new ArrayList<>(byStructure.size());
-                    for (var e : byStructure.entrySet()) {
-                        structureSections.add(new S2CMobSpawnsPayload.StructureSection(e.getKey(), e.getValue()));
-                    }
-
-                    List<S2CMobSpawnsPayload.DimSection> frozenNatural = List.copyOf(naturalSections);
-                    List<S2CMobSpawnsPayload.StructureSection> frozenStructures = List.copyOf(structureSections);
-                    putCachedSpawns(mobId, frozenNatural, frozenStructures);
-
+                    CachedSpawns computed = computeSpawns(sp.server, mobId, type);
                     PacketDistributor.sendToPlayer(
                             sp,
                             new S2CMobSpawnsPayload(
                                     mobId,
-                                    frozenNatural,
-                                    frozenStructures
+                                    computed.naturalSections(),
+                                    computed.structureSections()
                             )
                     );
                 })
@@ -686,64 +644,293 @@ public final class WildexNetwork {
         BREEDING_CACHE.clear();
         BREEDING_IN_FLIGHT.clear();
         BREEDING_QUEUE.clear();
+        activeBreedingWork = null;
+        if (activeBreedingJob != null) {
+            activeBreedingJob.cancel();
+            activeBreedingJob = null;
+        }
+        WildexBreedingExtractor.clearCaches();
+        WildexLootExtractor.clearCaches();
+        WildexSpawnExtractor.clearIndex();
+        clearLootWork();
+    }
+
+    private static void clearLootWork() {
+        // In-flight rolls keep running on the workers; their results are dropped once they come back.
+        lootGeneration++;
+        LOOT_IN_FLIGHT.clear();
+        LootResult stale;
+        while ((stale = LOOT_COMPLETED.poll()) != null) {
+            stale.work().prepared().release();
+        }
+    }
+
+    public static void processLootQueue(MinecraftServer server) {
+        if (server == null) return;
+
+        LootResult result;
+        while ((result = LOOT_COMPLETED.poll()) != null) {
+            LootWork work = result.work();
+            work.prepared().release();
+            if (work.generation() != lootGeneration) continue;
+
+            LOOT_IN_FLIGHT.remove(work.mobId(), work);
+            completeLootWork(server, work, result.rows());
+        }
+    }
+
+    private static void enqueueLootWork(ServerPlayer requester, ServerLevel level, ResourceLocation mobId, EntityType<?> type) {
+        if (level == null || mobId == null || type == null) return;
+
+        LootWork inFlight = LOOT_IN_FLIGHT.get(mobId);
+        if (inFlight != null) {
+            if (requester != null) inFlight.waitingPlayerIds().add(requester.getUUID());
+            return;
+        }
+
+        // Entity construction and XP reads touch live entity state, so both stay on the server thread.
+        WildexLootExtractor.PreparedEntityLoot prepared = WildexLootExtractor.prepareEntityLoot(level, type, LOOT_SAMPLES);
+        WildexXpExtractor.XpSummary xpSummary = WildexXpExtractor.samplePlayerKillXp(level, type, XP_SAMPLES_PER_PLAN);
+
+        LootWork work = new LootWork(mobId, prepared, xpSummary, new LinkedHashSet<>(), lootGeneration);
+        if (requester != null) work.waitingPlayerIds().add(requester.getUUID());
+
+        if (CommonConfig.INSTANCE.asyncLootExtraction.get() && !prepared.isEmpty()) {
+            LOOT_IN_FLIGHT.put(mobId, work);
+            if (WildexLootWorkers.submit(() -> LOOT_COMPLETED.add(new LootResult(work, rollLootSafely(work))))) {
+                return;
+            }
+            LOOT_IN_FLIGHT.remove(mobId, work);
+        }
+
+        try {
+            completeLootWork(level.getServer(), work, rollLootSafely(work));
+        } finally {
+            prepared.release();
+        }
+    }
+
+    private static List<WildexLootExtractor.LootDropSummary> rollLootSafely(LootWork work) {
+        try {
+            return work.prepared().roll();
+        } catch (Throwable t) {
+            Wildex.LOGGER.warn("Wildex loot extraction failed for {}", work.mobId(), t);
+            return null;
+        }
+    }
+
+    private static void completeLootWork(MinecraftServer server, LootWork work, List<WildexLootExtractor.LootDropSummary> raw) {
+        if (server == null || work == null) return;
+        if (raw == null) {
+            // Failed rolls are answered but never cached or indexed, so the next request tries again.
+            WildexXpExtractor.XpSummary xp = work.xpSummary();
+            S2CMobLootPayload empty = new S2CMobLootPayload(
+                    work.mobId(),
+                    List.of(),
+                    xp.known(),
+                    Math.max(0, xp.minXp()),
+                    Math.max(0, xp.maxXp())
+            );
+            for (UUID playerId : work.waitingPlayerIds()) {
+                ServerPlayer target = server.getPlayerList().getPlayer(playerId);
+                if (target == null) continue;
+                PacketDistributor.sendToPlayer(target, empty);
+            }
+            return;
+        }
+
+        List<S2CMobLootPayload.LootLine> lines = buildLootLines(raw);
+        WildexXpExtractor.XpSummary xpSummary = work.xpSummary();
+        putCachedLoot(
+                work.mobId(),
+                lines,
+                collectLootItemIds(raw),
+                xpSummary.known(),
+                xpSummary.minXp(),
+                xpSummary.maxXp()
+        );
+
+        CachedLoot cached = getCachedLoot(work.mobId());
+        if (cached == null) return;
+        S2CMobLootPayload payload = new S2CMobLootPayload(
+                work.mobId(),
+                cached.lines(),
+                cached.hasPlayerKillXp(),
+                cached.playerKillXpMin(),
+                cached.playerKillXpMax()
+        );
+        for (UUID playerId : work.waitingPlayerIds()) {
+            ServerPlayer target = server.getPlayerList().getPlayer(playerId);
+            if (target == null) continue;
+            PacketDistributor.sendToPlayer(target, payload);
+        }
+    }
+
+    // Every dropped item, including those past the line cap, so the Analyzer index sees the full table.
+    private static List<ResourceLocation> collectLootItemIds(List<WildexLootExtractor.LootDropSummary> raw) {
+        if (raw == null || raw.isEmpty()) return List.of();
+
+        List<ResourceLocation> itemIds = new ArrayList<>(raw.size());
+        for (WildexLootExtractor.LootDropSummary e : raw) {
+            ResourceLocation itemId = ResourceLocation.tryParse(e.itemId());
+            if (itemId != null) itemIds.add(itemId);
+        }
+        return List.copyOf(itemIds);
+    }
+
+    private static List<S2CMobLootPayload.LootLine> buildLootLines(List<WildexLootExtractor.LootDropSummary> raw) {
+        if (raw == null || raw.isEmpty()) return List.of();
+
+        int cap = Math.min(raw.size(), MAX_LOOT_LINES);
+        List<S2CMobLootPayload.LootLine> lines = new ArrayList<>(cap);
+
+        for (int i = 0; i < cap; i++) {
+            WildexLootExtractor.LootDropSummary e = raw.get(i);
+            ResourceLocation itemId = ResourceLocation.tryParse(e.itemId());
+            if (itemId == null) continue;
+
+            lines.add(new S2CMobLootPayload.LootLine(
+                    itemId,
+                    e.minCountSeen(),
+                    e.maxCountSeen(),
+                    Math.max(0, e.conditionMask()),
+                    e.conditionProfiles()
+            ));
+        }
+        return List.copyOf(lines);
     }
 
     public static void processBreedingQueue(MinecraftServer server) {
         if (server == null || BREEDING_QUEUE.isEmpty()) return;
 
-        for (int i = 0; i < BREEDING_JOBS_PER_TICK; i++) {
-            BreedingWork work = BREEDING_QUEUE.pollFirst();
+        long budgetNs = Math.max(0L, CommonConfig.INSTANCE.breedingTickBudgetNs.get());
+        long deadlineNs = System.nanoTime() + budgetNs;
+        do {
+            // The head of the queue stays in flight until its job finishes, so new requesters still join it.
+            BreedingWork work = BREEDING_QUEUE.peekFirst();
             if (work == null) return;
 
-            BREEDING_IN_FLIGHT.remove(work.mobId());
-            completeBreedingWork(server, work.mobId(), work.type(), work.waitingPlayerIds());
+            if (activeBreedingWork != work) {
+                CachedBreeding cached = getCachedBreeding(work.mobId());
+                if (cached != null) {
+                    finishBreedingWork(server, work, cached.ownable(), cached.breedingItemIds(), cached.tamingItemIds());
+                    continue;
+                }
+                activeBreedingWork = work;
+                activeBreedingJob = WildexBreedingExtractor.start(resolveBreedingLevel(server), work.type());
+                activeBreedingSentPercent = -1;
+            }
+
+            if (!activeBreedingJob.step(deadlineNs)) {
+                sendBreedingProgress(server, work, activeBreedingJob.progressPercent());
+                return;
+            }
+
+            WildexBreedingExtractor.Result result = activeBreedingJob.result();
+            activeBreedingWork = null;
+            activeBreedingJob = null;
+            List<ResourceLocation> breedingItems = List.copyOf(result.breedingItemIds());
+            List<ResourceLocation> tamingItems = List.copyOf(result.tamingItemIds());
+            putCachedBreeding(work.mobId(), result.ownable(), breedingItems, tamingItems);
+            finishBreedingWork(server, work, result.ownable(), breedingItems, tamingItems);
+        } while (System.nanoTime() < deadlineNs);
+    }
+
+    private static void finishBreedingWork(
+            MinecraftServer server,
+            BreedingWork work,
+            boolean ownable,
+            List<ResourceLocation> breedingItems,
+            List<ResourceLocation> tamingItems
+    ) {
+        BREEDING_QUEUE.pollFirst();
+        BREEDING_IN_FLIGHT.remove(work.mobId());
+        sendBreedingPayload(
+                server,
+                work.waitingPlayerIds(),
+                new S2CMobBreedingPayload(work.mobId(), ownable, breedingItems, tamingItems)
+        );
+    }
+
+    private static void sendBreedingProgress(MinecraftServer server, BreedingWork work, int percent) {
+        if (work.waitingPlayerIds().isEmpty() || percent == activeBreedingSentPercent) return;
+        activeBreedingSentPercent = percent;
+
+        S2CMobBreedingProgressPayload payload = new S2CMobBreedingProgressPayload(work.mobId(), percent);
+        for (UUID playerId : work.waitingPlayerIds()) {
+            ServerPlayer target = server.getPlayerList().getPlayer(playerId);
+            if (target == null) continue;
+            PacketDistributor.sendToPlayer(target, payload);
         }
     }
 
     private static void enqueueBreedingWork(ServerPlayer requester, ResourceLocation mobId, EntityType<?> type) {
-        if (requester == null || mobId == null || type == null) return;
+        if (mobId == null || type == null) return;
 
         BreedingWork inFlight = BREEDING_IN_FLIGHT.get(mobId);
         if (inFlight != null) {
-            inFlight.waitingPlayerIds().add(requester.getUUID());
+            if (requester != null) inFlight.waitingPlayerIds().add(requester.getUUID());
             return;
         }
 
         BreedingWork work = new BreedingWork(mobId, type, new LinkedHashSet<>());
-        work.waitingPlayerIds().add(requester.getUUID());
+        if (requester != null) work.waitingPlayerIds().add(requester.getUUID());
         BREEDING_IN_FLIGHT.put(mobId, work);
         BREEDING_QUEUE.addLast(work);
     }
 
-    private static void completeBreedingWork(
-            MinecraftServer server,
-            ResourceLocation mobId,
-            EntityType<?> type,
-            Set<UUID> waitingPlayerIds
-    ) {
-        if (server == null || mobId == null || type == null || waitingPlayerIds == null || waitingPlayerIds.isEmpty()) return;
+    private static CachedSpawns computeSpawns(MinecraftServer server, ResourceLocation mobId, EntityType<?> type) {
+        Map<ResourceLocation, List<ResourceLocation>> byDim =
+                WildexSpawnExtractor.collectSpawnBiomesByDimension(server, type);
+        Map<ResourceLocation, List<ResourceLocation>> byStructure =
+                WildexSpawnExtractor.collectStructureOverrideBiomes(server, type);
 
-        CachedBreeding cached = getCachedBreeding(mobId);
-        if (cached != null) {
-            sendBreedingPayload(
-                    server,
-                    waitingPlayerIds,
-                    new S2CMobBreedingPayload(mobId, cached.ownable(), cached.breedingItemIds(), cached.tamingItemIds())
-            );
-            return;
+        List<S2CMobSpawnsPayload.DimSection> naturalSections = new ArrayList<>(byDim.size());
+        for (var e : byDim.entrySet()) {
+            naturalSections.add(new S2CMobSpawnsPayload.DimSection(e.getKey(), e.getValue()));
         }
 
-        ServerLevel workLevel = resolveBreedingLevel(server);
-        WildexBreedingExtractor.Result result = WildexBreedingExtractor.extract(workLevel, type);
-        List<ResourceLocation> breedingItems = List.copyOf(result.breedingItemIds());
-        List<ResourceLocation> tamingItems = List.copyOf(result.tamingItemIds());
-        putCachedBreeding(mobId, result.ownable(), breedingItems, tamingItems);
+        List<S2CMobSpawnsPayload.StructureSection> structureSections = new ArrayList<>(byStructure.size());
+        for (var e : byStructure.entrySet()) {
+            structureSections.add(new S2CMobSpawnsPayload.StructureSection(e.getKey(), e.getValue()));
+        }
 
-        sendBreedingPayload(
-                server,
-                waitingPlayerIds,
-                new S2CMobBreedingPayload(mobId, result.ownable(), breedingItems, tamingItems)
-        );
+        List<S2CMobSpawnsPayload.DimSection> frozenNatural = List.copyOf(naturalSections);
+        List<S2CMobSpawnsPayload.StructureSection> frozenStructures = List.copyOf(structureSections);
+        putCachedSpawns(mobId, frozenNatural, frozenStructures);
+        return new CachedSpawns(frozenNatural, frozenStructures);
+    }
+
+    static boolean warmLoot(ServerLevel level, ResourceLocation mobId, EntityType<?> type) {
+        if (getCachedLoot(mobId) != null || LOOT_IN_FLIGHT.containsKey(mobId)) return true;
+        if (LOOT_IN_FLIGHT.size() >= BACKGROUND_MAX_LOOT_IN_FLIGHT) return false;
+        enqueueLootWork(null, level, mobId, type);
+        return true;
+    }
+
+    /**
+     * Makes sure loot for {@code mobId} is known or being extracted, so the Analyzer index shares the Loot tab
+     * results instead of sampling on its own. Returns false when the background queue is full.
+     */
+    static boolean requestLootForIndex(ServerLevel level, ResourceLocation mobId, EntityType<?> type) {
+        return warmLoot(level, mobId, type);
+    }
+
+    static void warmSpawns(MinecraftServer server, ResourceLocation mobId, EntityType<?> type) {
+        if (getCachedSpawns(mobId) != null) return;
+        computeSpawns(server, mobId, type);
+    }
+
+    static boolean warmBreeding(ResourceLocation mobId, EntityType<?> type) {
+        if (getCachedBreeding(mobId) != null || BREEDING_IN_FLIGHT.containsKey(mobId)) return true;
+        // Player requests keep priority; warmup only feeds the queue while it is idle.
+        if (!BREEDING_QUEUE.isEmpty()) return false;
+        enqueueBreedingWork(null, mobId, type);
+        return true;
+    }
+
+    static boolean hasPendingExtractionWork() {
+        return !LOOT_IN_FLIGHT.isEmpty() || !BREEDING_QUEUE.isEmpty();
     }
 
     private static ServerLevel resolveBreedingLevel(MinecraftServer server) {
@@ -762,33 +949,52 @@ public final class WildexNetwork {
 
     private static CachedLoot getCachedLoot(ResourceLocation mobId) {
         if (mobId == null) return null;
-        return LOOT_CACHE.get(mobId);
+        CachedLoot cached = LOOT_CACHE.get(mobId);
+        if (cached != null) return cached;
+
+        cached = WildexExtractionDiskCache.getLoot(mobId);
+        if (cached != null) {
+            LOOT_CACHE.put(mobId, cached);
+            indexLoot(mobId, cached);
+        }
+        return cached;
     }
 
     private static void putCachedLoot(
             ResourceLocation mobId,
             List<S2CMobLootPayload.LootLine> lines,
+            List<ResourceLocation> itemIds,
             boolean hasPlayerKillXp,
             int playerKillXpMin,
             int playerKillXpMax
     ) {
-        if (mobId == null || lines == null) return;
+        if (mobId == null || lines == null || itemIds == null) return;
         int xpMin = Math.max(0, playerKillXpMin);
         int xpMax = Math.max(xpMin, Math.max(0, playerKillXpMax));
-        LOOT_CACHE.put(
-                mobId,
-                new CachedLoot(
-                        lines,
-                        hasPlayerKillXp,
-                        xpMin,
-                        xpMax
-                )
+        CachedLoot entry = new CachedLoot(
+                lines,
+                itemIds,
+                hasPlayerKillXp,
+                xpMin,
+                xpMax
         );
+        LOOT_CACHE.put(mobId, entry);
+        WildexExtractionDiskCache.putLoot(mobId, entry);
+        indexLoot(mobId, entry);
+    }
+
+    private static void indexLoot(ResourceLocation mobId, CachedLoot entry) {
+        WildexAnalyzerLootIndex.record(mobId, entry.itemIds());
     }
 
     private static CachedSpawns getCachedSpawns(ResourceLocation mobId) {
         if (mobId == null) return null;
-        return SPAWN_CACHE.get(mobId);
+        CachedSpawns cached = SPAWN_CACHE.get(mobId);
+        if (cached != null) return cached;
+
+        cached = WildexExtractionDiskCache.getSpawns(mobId);
+        if (cached != null) SPAWN_CACHE.put(mobId, cached);
+        return cached;
     }
 
     private static void putCachedSpawns(
@@ -797,12 +1003,19 @@ public final class WildexNetwork {
             List<S2CMobSpawnsPayload.StructureSection> structureSections
     ) {
         if (mobId == null || naturalSections == null || structureSections == null) return;
-        SPAWN_CACHE.put(mobId, new CachedSpawns(naturalSections, structureSections));
+        CachedSpawns entry = new CachedSpawns(naturalSections, structureSections);
+        SPAWN_CACHE.put(mobId, entry);
+        WildexExtractionDiskCache.putSpawns(mobId, entry);
     }
 
     private static CachedBreeding getCachedBreeding(ResourceLocation mobId) {
         if (mobId == null) return null;
-        return BREEDING_CACHE.get(mobId);
+        CachedBreeding cached = BREEDING_CACHE.get(mobId);
+        if (cached != null) return cached;
+
+        cached = WildexExtractionDiskCache.getBreeding(mobId);
+        if (cached != null) BREEDING_CACHE.put(mobId, cached);
+        return cached;
     }
 
     private static void putCachedBreeding(
@@ -812,13 +1025,17 @@ public final class WildexNetwork {
             List<ResourceLocation> tamingItemIds
     ) {
         if (mobId == null || breedingItemIds == null || tamingItemIds == null) return;
-        BREEDING_CACHE.put(mobId, new CachedBreeding(ownable, breedingItemIds, tamingItemIds));
+        CachedBreeding entry = new CachedBreeding(ownable, breedingItemIds, tamingItemIds);
+        BREEDING_CACHE.put(mobId, entry);
+        WildexExtractionDiskCache.putBreeding(mobId, entry);
     }
 
     private static <K, V> Map<K, V> createLruCache() {
         return new LinkedHashMap<>(MAX_RUNTIME_CACHE_ENTRIES + 1, 0.75f, true) {
             @Override
             protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                // Warmup fills every trackable mob, so the runtime bound would only evict what it just computed.
+                if (CommonConfig.INSTANCE.extractionWarmup.get()) return false;
                 return size() > MAX_RUNTIME_CACHE_ENTRIES;
             }
         };
@@ -833,27 +1050,40 @@ public final class WildexNetwork {
         BREEDING
     }
 
-    private record CachedLoot(
+    record CachedLoot(
             List<S2CMobLootPayload.LootLine> lines,
+            List<ResourceLocation> itemIds,
             boolean hasPlayerKillXp,
             int playerKillXpMin,
             int playerKillXpMax
     ) {
     }
 
-    private record CachedSpawns(
+    record CachedSpawns(
             List<S2CMobSpawnsPayload.DimSection> naturalSections,
             List<S2CMobSpawnsPayload.StructureSection> structureSections
     ) {
     }
 
-    private record CachedBreeding(
+    record CachedBreeding(
             boolean ownable,
             List<ResourceLocation> breedingItemIds,
             List<ResourceLocation> tamingItemIds
     ) {
     }
 
+    private record LootWork(
+            ResourceLocation mobId,
+            WildexLootExtractor.PreparedEntityLoot prepared,
+            WildexXpExtractor.XpSummary xpSummary,
+            LinkedHashSet<UUID> waitingPlayerIds,
+            int generation
+    ) {
+    }
+
+    private record LootResult(LootWork work, List<WildexLootExtractor.LootDropSummary> rows) {
+    }
+
     private record BreedingWork(
             ResourceLocation mobId,
             EntityType<?> type,
@@ -1,10 +1,17 @@
 package de.coldfang.wildex.network;
 
+import de.coldfang.wildex.server.loot.WildexAnalyzerLootIndex;
+import de.coldfang.wildex.server.loot.WildexLootWorkers;
+import de.coldfang.wildex.util.WildexEntityProbe;
 import de.coldfang.wildex.world.block.entity.WildexPedestalBlockEntity;
 import de.coldfang.wildex.world.block.entity.WildexAnalyzerBlockEntity;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.OnDatapackSyncEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
 import net.neoforged.neoforge.event.server.ServerAboutToStartEvent;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
 import net.neoforged.neoforge.event.server.ServerStoppedEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
 
@@ -15,15 +22,29 @@ public final class WildexRuntimeCacheEvents {
 
     @SubscribeEvent
     public static void onServerAboutToStart(ServerAboutToStartEvent event) {
+        WildexAnalyzerLootIndex.registerLootRequester(WildexNetwork::requestLootForIndex);
         WildexNetwork.clearRuntimeCaches();
+        WildexExtractionDiskCache.open(event.getServer());
+        WildexEntityProbe.clearServer();
         WildexPedestalBlockEntity.clearMobTypeValidationCache();
         WildexAnalyzerBlockEntity.clearAnalyzerCaches();
     }
 
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        WildexExtractionWarmup.startIfEnabled(event.getServer());
+    }
+
     @SubscribeEvent
     public static void onServerStopped(ServerStoppedEvent event) {
+        WildexExtractionWarmup.stop();
         WildexNetwork.clearRuntimeCaches();
+        WildexLootWorkers.shutdown();
+        WildexExtractionDiskCache.flush();
+        WildexExtractionDiskCache.close();
+        WildexEntityProbe.clearServer();
         WildexPedestalBlockEntity.clearMobTypeValidationCache();
+        WildexPedestalBlockEntity.clearSubscriptions();
         WildexAnalyzerBlockEntity.clearAnalyzerCaches();
     }
 
@@ -31,12 +52,25 @@ public final class WildexRuntimeCacheEvents {
     public static void onDatapackSync(OnDatapackSyncEvent event) {
         if (event.getPlayer() != null) return;
         WildexNetwork.clearRuntimeCaches();
+        WildexExtractionDiskCache.onDataReloaded();
+        WildexExtractionWarmup.startIfEnabled(event.getPlayerList().getServer());
         WildexPedestalBlockEntity.clearMobTypeValidationCache();
         WildexAnalyzerBlockEntity.clearAnalyzerCaches();
     }
 
+    @SubscribeEvent
+    public static void onLevelSave(LevelEvent.Save event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+        if (level.dimension() != Level.OVERWORLD) return;
+        WildexExtractionDiskCache.flush();
+    }
+
     @SubscribeEvent
     public static void onServerTickPost(ServerTickEvent.Post event) {
         WildexNetwork.processBreedingQueue(event.getServer());
+        WildexNetwork.processLootQueue(event.getServer());
+        WildexExtractionWarmup.tick(event.getServer());
+        WildexAnalyzerLootIndex.tick(event.getServer());
+        WildexPedestalBlockEntity.revalidateFilters();
     }
 }
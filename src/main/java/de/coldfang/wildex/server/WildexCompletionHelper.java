@@ -2,27 +2,21 @@ package de.coldfang.wildex.server;
 
 import de.coldfang.wildex.network.S2CWildexCompletePayload;
 import de.coldfang.wildex.config.CommonConfig;
-import de.coldfang.wildex.util.WildexEntityFactory;
+import de.coldfang.wildex.util.WildexEntityProbe;
 import de.coldfang.wildex.util.WildexMobFilters;
 import de.coldfang.wildex.world.WildexWorldPlayerDiscoveryData;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.entity.Mob;
 import net.neoforged.neoforge.network.PacketDistributor;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Locale;
 import java.util.UUID;
 
 public final class WildexCompletionHelper {
 
     private static volatile int cachedTotalMobs = -1;
-    private static volatile String cachedConfigSignature = "";
+    private static volatile int cachedFilterGeneration = -1;
 
     private WildexCompletionHelper() {
     }
@@ -74,8 +68,8 @@ public final class WildexCompletionHelper {
 
     public static int getTotalMobCount(ServerLevel level) {
         int v = cachedTotalMobs;
-        String sig = configSignature();
-        if (v >= 0 && sig.equals(cachedConfigSignature)) return v;
+        int generation = WildexMobFilters.generation();
+        if (v >= 0 && generation == cachedFilterGeneration) return v;
 
         if (level == null) return 0;
 
@@ -84,17 +78,7 @@ public final class WildexCompletionHelper {
         for (EntityType<?> type : BuiltInRegistries.ENTITY_TYPE) {
             if (!WildexMobFilters.isTrackable(type)) continue;
 
-            Entity e;
-            try {
-                e = type.create(level);
-            } catch (RuntimeException ignored) {
-                continue;
-            }
-            if (e == null) continue;
-
-            boolean isMob = e instanceof Mob;
-            WildexEntityFactory.discardQuietly(e);
-            if (!isMob) continue;
+            if (!WildexEntityProbe.of(type, level).mob()) continue;
 
             total++;
         }
@@ -102,19 +86,7 @@ public final class WildexCompletionHelper {
         if (total <= 0) return 0;
 
         cachedTotalMobs = total;
-        cachedConfigSignature = sig;
+        cachedFilterGeneration = generation;
         return total;
     }
-
-    private static String configSignature() {
-        List<String> raw = new ArrayList<>();
-        List<? extends String> cfg = CommonConfig.INSTANCE.excludedModIds.get();
-        for (String s : cfg) {
-            if (s == null) continue;
-            String trimmed = s.trim();
-            if (!trimmed.isEmpty()) raw.add(trimmed.toLowerCase(Locale.ROOT));
-        }
-        Collections.sort(raw);
-        return String.join("|", raw);
-    }
 }
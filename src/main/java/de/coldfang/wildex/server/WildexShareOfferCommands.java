@@ -2,6 +2,7 @@ package de.coldfang.wildex.server;
 
 import com.mojang.brigadier.arguments.LongArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import de.coldfang.wildex.network.WildexExtractionWarmup;
 import de.coldfang.wildex.util.WildexMobFilters;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -84,6 +85,27 @@ public final class WildexShareOfferCommands {
                                             return 1;
                                         })))));
 
+        root.then(Commands.literal("warmup")
+                .requires(source -> source.hasPermission(2))
+                .executes(ctx -> {
+                    WildexExtractionWarmup.Status status = WildexExtractionWarmup.status();
+                    String state = status.running() ? "running" : status.complete() ? "complete" : "idle";
+                    int percent = status.totalMobs() <= 0 ? 100 : (status.processedMobs() * 100) / status.totalMobs();
+                    ctx.getSource().sendSuccess(
+                            () -> Component.literal("Wildex warmup " + state + ": "
+                                    + status.processedMobs() + "/" + status.totalMobs() + " mobs (" + percent + "%), "
+                                    + (status.elapsedMs() / 1000L) + "s"),
+                            false
+                    );
+                    return 1;
+                })
+                .then(Commands.literal("start")
+                        .executes(ctx -> {
+                            WildexExtractionWarmup.start(ctx.getSource().getServer());
+                            ctx.getSource().sendSuccess(() -> Component.literal("Started Wildex warmup."), true);
+                            return 1;
+                        })));
+
         root.then(Commands.literal("offer")
                 .then(Commands.literal("accept")
                         .then(Commands.argument("id", LongArgumentType.longArg(1L))
@@ -1,9 +1,13 @@
 package de.coldfang.wildex.server.breeding;
 
 import de.coldfang.wildex.util.WildexEntityFactory;
+import de.coldfang.wildex.util.WildexReflectiveAccess;
+import net.minecraft.core.Holder;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.tags.TagKey;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.AgeableMob;
 import net.minecraft.world.entity.Entity;
@@ -14,11 +18,13 @@ import net.minecraft.world.entity.animal.Animal;
 import net.minecraft.world.entity.animal.horse.AbstractHorse;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
 import net.neoforged.neoforge.common.util.FakePlayer;
 import net.neoforged.neoforge.common.util.FakePlayerFactory;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -26,6 +32,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Finds breeding and taming items by interacting with throwaway entities.
+ * Breeding probes only the type's food items. Taming probes the food items, the vanilla taming tags and items
+ * that already tamed another mob first, and walks the whole item registry only when none of those tames it.
+ */
 public final class WildexBreedingExtractor {
 
     // Keep retries bounded to reduce server load while still handling RNG-based taming.
@@ -33,108 +44,329 @@ public final class WildexBreedingExtractor {
     private static final Map<Class<?>, BabyAccess> BABY_ACCESS_BY_CLASS = new ConcurrentHashMap<>();
     private static final BabyAccess NO_BABY_ACCESS = new BabyAccess(null, null);
 
+    // Items vanilla mobs are tamed or befriended with; probed before falling back to the whole registry.
+    private static final List<TagKey<Item>> TAMING_HINT_TAGS = List.of(
+            ItemTags.WOLF_FOOD,
+            ItemTags.CAT_FOOD,
+            ItemTags.OCELOT_FOOD,
+            ItemTags.PARROT_FOOD,
+            ItemTags.HORSE_FOOD,
+            ItemTags.HORSE_TEMPT_ITEMS,
+            ItemTags.LLAMA_FOOD,
+            ItemTags.LLAMA_TEMPT_ITEMS
+    );
+    // Keyed by type: data-driven mods often register many entity types on one class with different food.
+    private static final Map<EntityType<?>, Set<Item>> FOOD_CANDIDATES_BY_TYPE = new ConcurrentHashMap<>();
+    private static final Set<EntityType<?>> FULL_SCAN_FOUND_NOTHING = ConcurrentHashMap.newKeySet();
+    private static final Set<Item> KNOWN_TAMING_ITEMS = ConcurrentHashMap.newKeySet();
+
     private WildexBreedingExtractor() {
     }
 
-    public static Result extract(ServerLevel level, EntityType<?> type) {
-        if (level == null || type == null) return Result.empty();
+    /**
+     * Drops the per-type candidate caches. Item tags and isFood can change with datapacks.
+     */
+    public static void clearCaches() {
+        FOOD_CANDIDATES_BY_TYPE.clear();
+        FULL_SCAN_FOUND_NOTHING.clear();
+        KNOWN_TAMING_ITEMS.clear();
+    }
+
+    /**
+     * Starts a resumable extraction. Nothing is probed until {@link Job#step(long)} is called.
+     */
+    public static Job start(ServerLevel level, EntityType<?> type) {
+        return new Job(level, type);
+    }
+
+    /**
+     * Breeding and taming extraction split into single-item steps, so it can be spread over several ticks.
+     * Must only be stepped on the server thread.
+     */
+    public static final class Job {
+
+        private final ServerLevel level;
+        private final EntityType<?> type;
+
+        private Stage stage = Stage.PROBE;
+        private Result result = null;
+
+        private Animal foodProbe = null;
+        private boolean ownable = false;
+        private boolean ownableOnly = false;
+        private final Set<Item> foodScan = new LinkedHashSet<>();
 
-        Entity probe = WildexEntityFactory.tryCreate(type, level);
-        if (probe == null) return Result.empty();
+        private List<Item> breedingCandidates = List.of();
+        private final Set<ResourceLocation> validBreeding = new LinkedHashSet<>();
+        private List<ResourceLocation> breedingItems = List.of();
 
-        boolean ownable = probe instanceof OwnableEntity;
-        if (!(probe instanceof Animal animalProbe)) {
-            probe.discard();
-            return new Result(ownable, List.of(), List.of());
+        private final List<TamingMode> tamingModes = new ArrayList<>(4);
+        private Set<Item> likelyTaming = Set.of();
+        private List<Item> tamingCandidates = List.of();
+        private final Set<ResourceLocation> validTaming = new LinkedHashSet<>();
+        private int modeIndex = 0;
+        private int cursor = 0;
+
+        private long plannedUnits = 1L;
+        private long doneUnits = 0L;
+
+        private Job(ServerLevel level, EntityType<?> type) {
+            this.level = level;
+            this.type = type;
         }
 
-        Set<Item> breedingCandidates = findFoodCandidates(animalProbe);
-        boolean supportsTaming = animalProbe instanceof TamableAnimal;
-        boolean supportsBabyVariant = supportsBabyVariant(animalProbe);
-        boolean supportsBabyTamingFallback = supportsTaming && supportsBabyVariant;
-        probe.discard();
+        /**
+         * Advances until {@code deadlineNs} (System.nanoTime) passes or the job finishes. Always makes at least
+         * one step of progress. Returns true once {@link #result()} is available.
+         */
+        public boolean step(long deadlineNs) {
+            do {
+                if (stage == Stage.DONE) return true;
+                try {
+                    advance();
+                } catch (Throwable ignored) {
+                    // Defensive against entity-specific quirks; keep what was found so far.
+                    finish();
+                }
+            } while (stage != Stage.DONE && System.nanoTime() < deadlineNs);
+            return stage == Stage.DONE;
+        }
 
-        Set<ResourceLocation> validBreeding = new LinkedHashSet<>();
-        if (!breedingCandidates.isEmpty()) {
-            FakePlayer fakePlayer = FakePlayerFactory.getMinecraft(level);
-            for (Item item : breedingCandidates) {
-                Animal entity = createAnimal(type, level);
-                if (entity == null) continue;
+        public Result result() {
+            return result == null ? Result.empty() : result;
+        }
+
+        /**
+         * Stops the job and discards its probe entity. Use when dropping a job before it is done.
+         */
+        public void cancel() {
+            if (stage == Stage.DONE) return;
+            finish();
+        }
+
+        public int progressPercent() {
+            if (stage == Stage.DONE) return 100;
+            return (int) Math.min(99L, doneUnits * 100L / Math.max(1L, plannedUnits));
+        }
+
+        private void advance() {
+            switch (stage) {
+                case PROBE -> probe();
+                case FOOD -> scanFood();
+                case BREEDING -> probeBreeding();
+                case TAMING_LIKELY, TAMING_FULL -> probeTaming();
+                case DONE -> {
+                }
+            }
+        }
+
+        private void probe() {
+            if (level == null || type == null) {
+                finish();
+                return;
+            }
+
+            Entity probe = WildexEntityFactory.tryCreate(type, level);
+            if (probe == null) {
+                finish();
+                return;
+            }
+
+            ownable = probe instanceof OwnableEntity;
+            if (!(probe instanceof Animal animalProbe)) {
+                probe.discard();
+                finish();
+                return;
+            }
 
+            boolean supportsTaming = animalProbe instanceof TamableAnimal;
+            boolean supportsBabyVariant = supportsBabyVariant(animalProbe);
+            ownableOnly = !supportsTaming;
+            if (supportsTaming || ownable) {
+                tamingModes.add(new TamingMode(false, false));
+                if (supportsBabyVariant) tamingModes.add(new TamingMode(false, true));
+                tamingModes.add(new TamingMode(true, false));
+                if (supportsBabyVariant) tamingModes.add(new TamingMode(true, true));
+            }
+
+            Set<Item> cachedFood = FOOD_CANDIDATES_BY_TYPE.get(type);
+            if (cachedFood != null) {
+                probe.discard();
+                beginBreeding(cachedFood);
+                return;
+            }
+
+            foodProbe = animalProbe;
+            plannedUnits = BuiltInRegistries.ITEM.size();
+            stage = Stage.FOOD;
+        }
+
+        private void scanFood() {
+            int size = BuiltInRegistries.ITEM.size();
+            if (cursor < size) {
+                Item item = BuiltInRegistries.ITEM.byId(cursor++);
+                doneUnits++;
+                if (item == null || item == Items.AIR) return;
                 try {
-                    prepareForBreedCheck(entity);
-                    fakePlayer.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(item));
-                    entity.mobInteract(fakePlayer, InteractionHand.MAIN_HAND);
-                    if (entity.isInLove()) {
-                        ResourceLocation id = BuiltInRegistries.ITEM.getKey(item);
-                        validBreeding.add(id);
+                    if (foodProbe.isFood(new ItemStack(item))) {
+                        foodScan.add(item);
                     }
                 } catch (Throwable ignored) {
-                    // Defensive against entity-specific interaction quirks.
-                } finally {
-                    fakePlayer.setItemInHand(InteractionHand.MAIN_HAND, ItemStack.EMPTY);
-                    entity.discard();
+                    // Defensive for third-party entities with strict assumptions.
                 }
+                return;
             }
+
+            foodProbe.discard();
+            foodProbe = null;
+            Set<Item> food = Collections.unmodifiableSet(foodScan);
+            FOOD_CANDIDATES_BY_TYPE.putIfAbsent(type, food);
+            beginBreeding(food);
         }
 
-        List<ResourceLocation> breedingItems = sortResourceIds(validBreeding);
-        List<ResourceLocation> tamingItems = List.of();
-        if (supportsTaming) {
-            tamingItems = extractTamingItems(level, type, false, false);
-            if (supportsBabyTamingFallback && tamingItems.isEmpty()) {
-                tamingItems = extractTamingItems(level, type, false, true);
-            }
-            if (tamingItems.isEmpty()) {
-                tamingItems = extractTamingItems(level, type, true, false);
+        private void beginBreeding(Set<Item> food) {
+            breedingCandidates = List.copyOf(food);
+            likelyTaming = likelyTamingCandidates(food);
+            plannedUnits = doneUnits + breedingCandidates.size() + (long) likelyTaming.size() * tamingModes.size();
+            cursor = 0;
+            stage = Stage.BREEDING;
+        }
+
+        private void probeBreeding() {
+            if (cursor < breedingCandidates.size()) {
+                Item item = breedingCandidates.get(cursor++);
+                doneUnits++;
+                if (isBreedingItem(level, type, item)) {
+                    validBreeding.add(BuiltInRegistries.ITEM.getKey(item));
+                }
+                return;
             }
-            if (supportsBabyTamingFallback && tamingItems.isEmpty()) {
-                tamingItems = extractTamingItems(level, type, true, true);
+
+            breedingItems = sortResourceIds(validBreeding);
+            if (tamingModes.isEmpty()) {
+                finish();
+                return;
             }
+
+            tamingCandidates = List.copyOf(likelyTaming);
+            modeIndex = 0;
+            cursor = 0;
+            stage = Stage.TAMING_LIKELY;
         }
-        if (ownable && !supportsTaming) {
-            tamingItems = extractOwnableTamingItems(level, type, false, false);
-            if (supportsBabyVariant && tamingItems.isEmpty()) {
-                tamingItems = extractOwnableTamingItems(level, type, false, true);
+
+        private void probeTaming() {
+            if (cursor < tamingCandidates.size()) {
+                Item item = tamingCandidates.get(cursor++);
+                doneUnits++;
+                if (item == null || item == Items.AIR) return;
+                if (stage == Stage.TAMING_FULL && likelyTaming.contains(item)) return;
+
+                TamingMode mode = tamingModes.get(modeIndex);
+                if (isTamingItem(level, type, ownableOnly, item, mode.sneaking(), mode.babyMode())) {
+                    validTaming.add(BuiltInRegistries.ITEM.getKey(item));
+                }
+                return;
+            }
+
+            // Modes are tried in order and the first one that tames with any item wins.
+            // A hit in the likely tier is authoritative; the registry is only walked when it finds nothing.
+            if (!validTaming.isEmpty()) {
+                for (ResourceLocation itemId : validTaming) {
+                    BuiltInRegistries.ITEM.getOptional(itemId).ifPresent(KNOWN_TAMING_ITEMS::add);
+                }
+                finish();
+                return;
+            }
+
+            if (++modeIndex < tamingModes.size()) {
+                cursor = 0;
+                return;
             }
-            if (tamingItems.isEmpty()) {
-                tamingItems = extractOwnableTamingItems(level, type, true, false);
+
+            // Likely items only; walk the rest of the registry unless this type is known to have no taming item.
+            if (stage == Stage.TAMING_LIKELY && !FULL_SCAN_FOUND_NOTHING.contains(type)) {
+                tamingCandidates = registryItems();
+                plannedUnits = doneUnits + (long) tamingCandidates.size() * tamingModes.size();
+                modeIndex = 0;
+                cursor = 0;
+                stage = Stage.TAMING_FULL;
+                return;
             }
-            if (supportsBabyVariant && tamingItems.isEmpty()) {
-                tamingItems = extractOwnableTamingItems(level, type, true, true);
+
+            if (stage == Stage.TAMING_FULL) FULL_SCAN_FOUND_NOTHING.add(type);
+            finish();
+        }
+
+        private void finish() {
+            if (foodProbe != null) {
+                foodProbe.discard();
+                foodProbe = null;
+            }
+            result = new Result(ownable, breedingItems, sortResourceIds(validTaming));
+            stage = Stage.DONE;
+        }
+    }
+
+    private static List<Item> registryItems() {
+        ArrayList<Item> out = new ArrayList<>(BuiltInRegistries.ITEM.size());
+        for (Item item : BuiltInRegistries.ITEM) {
+            out.add(item);
+        }
+        return out;
+    }
+
+    private static Set<Item> likelyTamingCandidates(Set<Item> foodCandidates) {
+        Set<Item> out = new LinkedHashSet<>(foodCandidates);
+        for (TagKey<Item> tag : TAMING_HINT_TAGS) {
+            for (Holder<Item> holder : BuiltInRegistries.ITEM.getTagOrEmpty(tag)) {
+                out.add(holder.value());
             }
         }
-        return new Result(ownable, breedingItems, tamingItems);
+        out.add(Items.BONE);
+        out.addAll(KNOWN_TAMING_ITEMS);
+        return out;
     }
 
-    private static List<ResourceLocation> extractTamingItems(
+    private static boolean isBreedingItem(ServerLevel level, EntityType<?> type, Item item) {
+        Animal entity = createAnimal(type, level);
+        if (entity == null) return false;
+
+        FakePlayer fakePlayer = FakePlayerFactory.getMinecraft(level);
+        try {
+            prepareForBreedCheck(entity);
+            fakePlayer.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(item));
+            entity.mobInteract(fakePlayer, InteractionHand.MAIN_HAND);
+            return entity.isInLove();
+        } catch (Throwable ignored) {
+            // Defensive against entity-specific interaction quirks.
+            return false;
+        } finally {
+            fakePlayer.setItemInHand(InteractionHand.MAIN_HAND, ItemStack.EMPTY);
+            entity.discard();
+        }
+    }
+
+    private static boolean isTamingItem(
             ServerLevel level,
             EntityType<?> type,
+            boolean ownableOnly,
+            Item item,
             boolean sneaking,
             boolean babyMode
     ) {
         FakePlayer fakePlayer = FakePlayerFactory.getMinecraft(level);
-        Set<ResourceLocation> valid = new LinkedHashSet<>();
-
-        for (Item item : BuiltInRegistries.ITEM) {
-            if (item == null) continue;
-            ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(item);
-
-            // Phase 1 (cheap): if an untamed probe does not even consume the item, it cannot be a taming item.
-            TamingProbeResult first = probeUntamedInteraction(type, level, fakePlayer, item, sneaking, babyMode);
-            if (first == null || !first.consumed() || first.enteredLove()) continue;
-            if (first.tamed()) {
-                valid.add(itemId);
-                continue;
-            }
-
-            // Phase 2 (strict): only accept item if taming can actually happen at least once.
-            if (canTameInRetries(type, level, fakePlayer, item, sneaking, babyMode)) {
-                valid.add(itemId);
-            }
+        if (ownableOnly) {
+            OwnableProbeResult first = probeOwnableInteraction(type, level, fakePlayer, item, sneaking, babyMode);
+            if (first == null || !first.consumed() || first.enteredLove()) return false;
+            return first.ownedAfterInteract() || canOwnInRetries(type, level, fakePlayer, item, sneaking, babyMode);
         }
 
-        return sortResourceIds(valid);
+        // Phase 1 (cheap): if an untamed probe does not even consume the item, it cannot be a taming item.
+        TamingProbeResult first = probeUntamedInteraction(type, level, fakePlayer, item, sneaking, babyMode);
+        if (first == null || !first.consumed() || first.enteredLove()) return false;
+
+        // Phase 2 (strict): only accept item if taming can actually happen at least once.
+        return first.tamed() || canTameInRetries(type, level, fakePlayer, item, sneaking, babyMode);
     }
 
     private static boolean canTameInRetries(
@@ -153,34 +385,6 @@ public final class WildexBreedingExtractor {
         return false;
     }
 
-    private static List<ResourceLocation> extractOwnableTamingItems(
-            ServerLevel level,
-            EntityType<?> type,
-            boolean sneaking,
-            boolean babyMode
-    ) {
-        FakePlayer fakePlayer = FakePlayerFactory.getMinecraft(level);
-        Set<ResourceLocation> valid = new LinkedHashSet<>();
-
-        for (Item item : BuiltInRegistries.ITEM) {
-            if (item == null) continue;
-            ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(item);
-
-            OwnableProbeResult first = probeOwnableInteraction(type, level, fakePlayer, item, sneaking, babyMode);
-            if (first == null || !first.consumed() || first.enteredLove()) continue;
-            if (first.ownedAfterInteract()) {
-                valid.add(itemId);
-                continue;
-            }
-
-            if (canOwnInRetries(type, level, fakePlayer, item, sneaking, babyMode)) {
-                valid.add(itemId);
-            }
-        }
-
-        return sortResourceIds(valid);
-    }
-
     private static boolean canOwnInRetries(
             EntityType<?> type,
             ServerLevel level,
@@ -273,21 +477,6 @@ public final class WildexBreedingExtractor {
         }
     }
 
-    private static Set<Item> findFoodCandidates(Animal entity) {
-        Set<Item> out = new LinkedHashSet<>();
-        for (Item item : BuiltInRegistries.ITEM) {
-            if (item == null) continue;
-            try {
-                if (entity.isFood(new ItemStack(item))) {
-                    out.add(item);
-                }
-            } catch (Throwable ignored) {
-                // Defensive for third-party entities with strict assumptions.
-            }
-        }
-        return out;
-    }
-
     private static Animal createAnimal(EntityType<?> type, ServerLevel level) {
         Entity e = WildexEntityFactory.tryCreate(type, level);
         if (e instanceof Animal animal) return animal;
@@ -399,7 +588,7 @@ public final class WildexBreedingExtractor {
 
         Class<?> returnType = getter.getReturnType();
         if (returnType != boolean.class && returnType != Boolean.class) return NO_BABY_ACCESS;
-        return new BabyAccess(getter, setter);
+        return new BabyAccess(WildexReflectiveAccess.of(getter), WildexReflectiveAccess.of(setter));
     }
 
     private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
@@ -459,6 +648,18 @@ public final class WildexBreedingExtractor {
     private record OwnableProbeResult(boolean consumed, boolean ownedAfterInteract, boolean enteredLove) {
     }
 
-    private record BabyAccess(Method getter, Method setter) {
+    private record BabyAccess(WildexReflectiveAccess.Invoker getter, WildexReflectiveAccess.Invoker setter) {
+    }
+
+    private record TamingMode(boolean sneaking, boolean babyMode) {
+    }
+
+    private enum Stage {
+        PROBE,
+        FOOD,
+        BREEDING,
+        TAMING_LIKELY,
+        TAMING_FULL,
+        DONE
     }
 }
@@ -0,0 +1,586 @@
+package de.coldfang.wildex.server.loot;
+
+import com.mojang.datafixers.util.Either;
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.SingleRecipeInput;
+import net.minecraft.world.item.enchantment.Enchantment;
+import net.minecraft.world.item.enchantment.EnchantmentHelper;
+import net.minecraft.world.level.storage.loot.IntRange;
+import net.minecraft.world.level.storage.loot.LootContext;
+import net.minecraft.world.level.storage.loot.LootParams;
+import net.minecraft.world.level.storage.loot.LootPool;
+import net.minecraft.world.level.storage.loot.LootTable;
+import net.minecraft.world.level.storage.loot.entries.AlternativesEntry;
+import net.minecraft.world.level.storage.loot.entries.EmptyLootItem;
+import net.minecraft.world.level.storage.loot.entries.EntryGroup;
+import net.minecraft.world.level.storage.loot.entries.LootItem;
+import net.minecraft.world.level.storage.loot.entries.LootPoolEntryContainer;
+import net.minecraft.world.level.storage.loot.entries.LootPoolSingletonContainer;
+import net.minecraft.world.level.storage.loot.entries.NestedLootTable;
+import net.minecraft.world.level.storage.loot.entries.SequentialEntry;
+import net.minecraft.world.level.storage.loot.functions.ApplyBonusCount;
+import net.minecraft.world.level.storage.loot.functions.ApplyExplosionDecay;
+import net.minecraft.world.level.storage.loot.functions.CopyComponentsFunction;
+import net.minecraft.world.level.storage.loot.functions.CopyNameFunction;
+import net.minecraft.world.level.storage.loot.functions.EnchantRandomlyFunction;
+import net.minecraft.world.level.storage.loot.functions.EnchantWithLevelsFunction;
+import net.minecraft.world.level.storage.loot.functions.EnchantedCountIncreaseFunction;
+import net.minecraft.world.level.storage.loot.functions.LimitCount;
+import net.minecraft.world.level.storage.loot.functions.LootItemConditionalFunction;
+import net.minecraft.world.level.storage.loot.functions.LootItemFunction;
+import net.minecraft.world.level.storage.loot.functions.SetComponentsFunction;
+import net.minecraft.world.level.storage.loot.functions.SetCustomDataFunction;
+import net.minecraft.world.level.storage.loot.functions.SetEnchantmentsFunction;
+import net.minecraft.world.level.storage.loot.functions.SetItemCountFunction;
+import net.minecraft.world.level.storage.loot.functions.SetItemDamageFunction;
+import net.minecraft.world.level.storage.loot.functions.SetLoreFunction;
+import net.minecraft.world.level.storage.loot.functions.SetNameFunction;
+import net.minecraft.world.level.storage.loot.functions.SetPotionFunction;
+import net.minecraft.world.level.storage.loot.functions.SetStewEffectFunction;
+import net.minecraft.world.level.storage.loot.functions.SmeltItemFunction;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
+import net.minecraft.world.level.storage.loot.predicates.AllOfCondition;
+import net.minecraft.world.level.storage.loot.predicates.AnyOfCondition;
+import net.minecraft.world.level.storage.loot.predicates.DamageSourceCondition;
+import net.minecraft.world.level.storage.loot.predicates.EntityHasScoreCondition;
+import net.minecraft.world.level.storage.loot.predicates.ExplosionCondition;
+import net.minecraft.world.level.storage.loot.predicates.InvertedLootItemCondition;
+import net.minecraft.world.level.storage.loot.predicates.LocationCheck;
+import net.minecraft.world.level.storage.loot.predicates.LootItemCondition;
+import net.minecraft.world.level.storage.loot.predicates.LootItemEntityPropertyCondition;
+import net.minecraft.world.level.storage.loot.predicates.LootItemKilledByPlayerCondition;
+import net.minecraft.world.level.storage.loot.predicates.LootItemRandomChanceCondition;
+import net.minecraft.world.level.storage.loot.predicates.LootItemRandomChanceWithEnchantedBonusCondition;
+import net.minecraft.world.level.storage.loot.predicates.MatchTool;
+import net.minecraft.world.level.storage.loot.predicates.WeatherCheck;
+import net.minecraft.world.level.storage.loot.providers.number.BinomialDistributionGenerator;
+import net.minecraft.world.level.storage.loot.providers.number.ConstantValue;
+import net.minecraft.world.level.storage.loot.providers.number.NumberProvider;
+import net.minecraft.world.level.storage.loot.providers.number.UniformGenerator;
+import net.neoforged.neoforge.common.NeoForgeEventHandler;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Computes exact drop expectations for vanilla-style loot tables by walking pools, entries, functions and
+ * conditions instead of rolling the table. Returns {@code null} whenever the table contains anything that
+ * cannot be modelled exactly; callers fall back to sampling in that case.
+ */
+final class WildexAnalyticLootEvaluator {
+
+    private static final int MAX_NESTING_DEPTH = 8;
+    private static final int MAX_BINOMIAL_TRIALS = 256;
+    private static final double EPSILON = 1.0E-9;
+
+    private static final Set<Class<?>> DETERMINISTIC_CONDITIONS = Set.of(
+            LootItemKilledByPlayerCondition.class,
+            LootItemEntityPropertyCondition.class,
+            DamageSourceCondition.class,
+            ExplosionCondition.class,
+            MatchTool.class,
+            LocationCheck.class,
+            WeatherCheck.class,
+            EntityHasScoreCondition.class
+    );
+
+    // Enchanting turns plain books into enchanted books, so these change the item but never the count.
+    private static final Set<Class<?>> ENCHANTING_FUNCTIONS = Set.of(
+            EnchantRandomlyFunction.class,
+            EnchantWithLevelsFunction.class,
+            SetEnchantmentsFunction.class
+    );
+    // Functions that never change item or count in an entity-death context
+    // (no tool, no explosion radius, no enchanted attacker).
+    private static final Set<Class<?>> COUNT_NEUTRAL_FUNCTIONS = Set.of(
+            SetComponentsFunction.class,
+            SetNameFunction.class,
+            SetLoreFunction.class,
+            SetItemDamageFunction.class,
+            SetPotionFunction.class,
+            SetStewEffectFunction.class,
+            SetCustomDataFunction.class,
+            CopyComponentsFunction.class,
+            CopyNameFunction.class,
+            ApplyExplosionDecay.class,
+            ApplyBonusCount.class
+    );
+
+    private static final Map<String, Optional<Field>> FIELD_CACHE = new ConcurrentHashMap<>();
+    private static volatile Boolean globalLootModifiers = null;
+
+    private WildexAnalyticLootEvaluator() {
+    }
+
+    /**
+     * Forgets whether global loot modifiers are registered. Call after datapacks reload.
+     */
+    static void clearCaches() {
+        globalLootModifiers = null;
+    }
+
+    /**
+     * Returns the expected number of dropped stacks per item and stack size for a single kill, or {@code null}
+     * if the table cannot be evaluated exactly. Must run on the server thread because deterministic conditions
+     * are tested against the live context.
+     */
+    static Map<Item, Map<Integer, Double>> evaluate(ServerLevel level, LootTable table, LootParams params) {
+        if (level == null || table == null || params == null) return null;
+        if (hasGlobalLootModifiers()) return null;
+
+        try {
+            LootContext context = new LootContext.Builder(params)
+                    .withOptionalRandomSeed(1L)
+                    .create(Optional.empty());
+            Outcome outcome = evaluateTable(level, table, context, 0);
+            return outcome.splitStacks();
+        } catch (UnsupportedLootException ignored) {
+            return null;
+        } catch (Throwable ignored) {
+            // Unknown third-party loot types must never break extraction; sampling takes over.
+            return null;
+        }
+    }
+
+    private static Outcome evaluateTable(ServerLevel level, LootTable table, LootContext context, int depth) {
+        if (depth > MAX_NESTING_DEPTH) throw UnsupportedLootException.INSTANCE;
+
+        Outcome out = new Outcome();
+        for (LootPool pool : WildexAnalyticLootEvaluator.<LootPool>listField(table, "pools")) {
+            out.addScaled(evaluatePool(level, pool, context, depth), 1.0);
+        }
+        return applyFunctions(level, listField(table, "functions"), out, context);
+    }
+
+    private static Outcome evaluatePool(ServerLevel level, LootPool pool, LootContext context, int depth) {
+        double poolChance = conditionChance(listField(pool, "conditions"), context);
+        if (poolChance <= 0.0) return new Outcome();
+
+        double rolls = expectedValue(intDistribution((NumberProvider) readField(pool, "rolls"), context));
+        float luck = context.getLuck();
+        if (luck != 0.0F) {
+            rolls += Mth.floor(constantFloat((NumberProvider) readField(pool, "bonusRolls")) * luck);
+        }
+        if (rolls <= 0.0) return new Outcome();
+
+        List<WeightedEntry> entries = new ArrayList<>();
+        for (LootPoolEntryContainer entry : WildexAnalyticLootEvaluator.<LootPoolEntryContainer>listField(pool, "entries")) {
+            expandEntry(entry, context, entries);
+        }
+        if (entries.isEmpty()) return new Outcome();
+
+        Outcome perRoll = new Outcome();
+        if (entries.size() == 1) {
+            WeightedEntry only = entries.getFirst();
+            perRoll.addScaled(evaluateSingleton(level, only.entry(), context, depth), only.chance());
+        } else {
+            int totalWeight = 0;
+            for (WeightedEntry entry : entries) {
+                // A random entry condition changes the weight pool per roll, which is not linear.
+                if (entry.chance() < 1.0) throw UnsupportedLootException.INSTANCE;
+                totalWeight += entry.weight();
+            }
+            if (totalWeight <= 0) return new Outcome();
+            for (WeightedEntry entry : entries) {
+                perRoll.addScaled(evaluateSingleton(level, entry.entry(), context, depth), entry.weight() / (double) totalWeight);
+            }
+        }
+
+        Outcome out = new Outcome();
+        out.addScaled(perRoll, rolls * poolChance);
+        return applyFunctions(level, listField(pool, "functions"), out, context);
+    }
+
+    private static boolean expandEntry(LootPoolEntryContainer entry, LootContext context, List<WeightedEntry> out) {
+        double chance = conditionChance(listField(entry, "conditions"), context);
+
+        if (entry instanceof LootPoolSingletonContainer singleton) {
+            if (chance <= 0.0) return false;
+            int weight = Math.max(Mth.floor(readInt(singleton, "weight") + readInt(singleton, "quality") * context.getLuck()), 0);
+            if (weight > 0) {
+                out.add(new WeightedEntry(singleton, weight, chance));
+            }
+            return chance >= 1.0;
+        }
+
+        // Composite entries branch on their children's conditions; only deterministic branches are modelled.
+        if (chance > 0.0 && chance < 1.0) throw UnsupportedLootException.INSTANCE;
+        if (chance <= 0.0) return false;
+
+        List<LootPoolEntryContainer> children = listField(entry, "children");
+        if (entry instanceof AlternativesEntry) {
+            for (LootPoolEntryContainer child : children) {
+                if (expandDeterministic(child, context, out)) return true;
+            }
+            return false;
+        }
+        if (entry instanceof SequentialEntry) {
+            for (LootPoolEntryContainer child : children) {
+                if (!expandDeterministic(child, context, out)) return false;
+            }
+            return true;
+        }
+        if (entry instanceof EntryGroup) {
+            for (LootPoolEntryContainer child : children) {
+                expandDeterministic(child, context, out);
+            }
+            return true;
+        }
+        throw UnsupportedLootException.INSTANCE;
+    }
+
+    private static boolean expandDeterministic(LootPoolEntryContainer entry, LootContext context, List<WeightedEntry> out) {
+        int before = out.size();
+        boolean expanded = expandEntry(entry, context, out);
+        for (int i = before; i < out.size(); i++) {
+            if (out.get(i).chance() < 1.0) throw UnsupportedLootException.INSTANCE;
+        }
+        return expanded;
+    }
+
+    private static Outcome evaluateSingleton(ServerLevel level, LootPoolSingletonContainer entry, LootContext context, int depth) {
+        Outcome out;
+        if (entry instanceof LootItem) {
+            Holder<Item> item = readField(entry, "item");
+            out = new Outcome();
+            out.add(item.value(), 1, 1.0);
+        } else if (entry instanceof EmptyLootItem) {
+            return new Outcome();
+        } else if (entry instanceof NestedLootTable) {
+            Either<ResourceKey<LootTable>, LootTable> contents = readField(entry, "contents");
+            LootTable nested = contents.map(
+                    key -> level.getServer().reloadableRegistries().getLootTable(key),
+                    table -> table
+            );
+            out = evaluateTable(level, nested, context, depth + 1);
+        } else {
+            throw UnsupportedLootException.INSTANCE;
+        }
+        return applyFunctions(level, listField(entry, "functions"), out, context);
+    }
+
+    private static Outcome applyFunctions(ServerLevel level, List<LootItemFunction> functions, Outcome in, LootContext context) {
+        Outcome current = in;
+        for (LootItemFunction function : functions) {
+            if (current.isEmpty()) return current;
+
+            double chance = 1.0;
+            if (function instanceof LootItemConditionalFunction) {
+                chance = conditionChance(listField(function, "predicates"), context);
+            }
+            if (chance <= 0.0) continue;
+
+            Outcome applied = applyFunction(level, function, current, context);
+            if (chance >= 1.0) {
+                current = applied;
+            } else {
+                Outcome mixed = new Outcome();
+                mixed.addScaled(applied, chance);
+                mixed.addScaled(current, 1.0 - chance);
+                current = mixed;
+            }
+        }
+        return current;
+    }
+
+    private static Outcome applyFunction(ServerLevel level, LootItemFunction function, Outcome in, LootContext context) {
+        if (COUNT_NEUTRAL_FUNCTIONS.contains(function.getClass())) return in;
+
+        if (function instanceof SetItemCountFunction) {
+            Map<Integer, Double> counts = intDistribution(readField(function, "value"), context);
+            boolean add = readField(function, "add");
+            return in.mapCounts(count -> add ? shift(counts, count) : counts);
+        }
+        if (function instanceof LimitCount) {
+            IntRange limiter = readField(function, "limiter");
+            requireConstantBound(readField(limiter, "min"));
+            requireConstantBound(readField(limiter, "max"));
+            return in.mapCounts(count -> Map.of(limiter.clamp(context, count), 1.0));
+        }
+        if (function instanceof SmeltItemFunction) {
+            return in.mapItems(item -> smeltResult(level, item));
+        }
+        if (ENCHANTING_FUNCTIONS.contains(function.getClass())) {
+            return in.mapItems(item -> item == Items.BOOK ? Items.ENCHANTED_BOOK : item);
+        }
+        if (function instanceof EnchantedCountIncreaseFunction) {
+            Holder<Enchantment> enchantment = readField(function, "enchantment");
+            if (attackerEnchantmentLevel(enchantment, context) > 0) throw UnsupportedLootException.INSTANCE;
+            return in;
+        }
+        throw UnsupportedLootException.INSTANCE;
+    }
+
+    private static Item smeltResult(ServerLevel level, Item item) {
+        ItemStack result = level.getRecipeManager()
+                .getRecipeFor(RecipeType.SMELTING, new SingleRecipeInput(new ItemStack(item)), level)
+                .map(holder -> holder.value().getResultItem(level.registryAccess()))
+                .orElse(ItemStack.EMPTY);
+        return result.isEmpty() ? item : result.getItem();
+    }
+
+    private static double conditionChance(List<LootItemCondition> conditions, LootContext context) {
+        double chance = 1.0;
+        for (LootItemCondition condition : conditions) {
+            chance *= conditionChance(condition, context);
+            if (chance <= 0.0) return 0.0;
+        }
+        return chance;
+    }
+
+    private static double conditionChance(LootItemCondition condition, LootContext context) {
+        if (condition instanceof LootItemRandomChanceCondition random) {
+            return Mth.clamp(constantFloat(random.chance()), 0.0F, 1.0F);
+        }
+        if (condition instanceof LootItemRandomChanceWithEnchantedBonusCondition random) {
+            int enchantmentLevel = attackerEnchantmentLevel(random.enchantment(), context);
+            float chance = enchantmentLevel > 0
+                    ? random.enchantedChance().calculate(enchantmentLevel)
+                    : random.unenchantedChance();
+            return Mth.clamp(chance, 0.0F, 1.0F);
+        }
+        if (condition instanceof InvertedLootItemCondition inverted) {
+            return 1.0 - conditionChance(inverted.term(), context);
+        }
+        if (condition instanceof AllOfCondition) {
+            return conditionChance(WildexAnalyticLootEvaluator.<LootItemCondition>listField(condition, "terms"), context);
+        }
+        if (condition instanceof AnyOfCondition) {
+            double none = 1.0;
+            for (LootItemCondition term : WildexAnalyticLootEvaluator.<LootItemCondition>listField(condition, "terms")) {
+                none *= 1.0 - conditionChance(term, context);
+            }
+            return 1.0 - none;
+        }
+        if (DETERMINISTIC_CONDITIONS.contains(condition.getClass())) {
+            return condition.test(context) ? 1.0 : 0.0;
+        }
+        throw UnsupportedLootException.INSTANCE;
+    }
+
+    private static int attackerEnchantmentLevel(Holder<Enchantment> enchantment, LootContext context) {
+        Entity attacker = context.getParamOrNull(LootContextParams.ATTACKING_ENTITY);
+        if (!(attacker instanceof LivingEntity living) || enchantment == null) return 0;
+        return EnchantmentHelper.getEnchantmentLevel(enchantment, living);
+    }
+
+    private static Map<Integer, Double> intDistribution(NumberProvider provider, LootContext context) {
+        if (provider instanceof ConstantValue constant) {
+            return Map.of(Math.round(constant.value()), 1.0);
+        }
+        if (provider instanceof UniformGenerator uniform) {
+            int min = constantInt(uniform.min());
+            int max = constantInt(uniform.max());
+            if (min >= max) return Map.of(min, 1.0);
+            Map<Integer, Double> out = new HashMap<>();
+            double p = 1.0 / (max - min + 1);
+            for (int i = min; i <= max; i++) {
+                out.put(i, p);
+            }
+            return out;
+        }
+        if (provider instanceof BinomialDistributionGenerator binomial) {
+            int n = constantInt(binomial.n());
+            double p = Mth.clamp(constantFloat(binomial.p()), 0.0F, 1.0F);
+            if (n <= 0) return Map.of(0, 1.0);
+            if (n > MAX_BINOMIAL_TRIALS) throw UnsupportedLootException.INSTANCE;
+            Map<Integer, Double> out = new HashMap<>();
+            double coefficient = 1.0;
+            for (int k = 0; k <= n; k++) {
+                out.put(k, coefficient * Math.pow(p, k) * Math.pow(1.0 - p, n - k));
+                coefficient = coefficient * (n - k) / (k + 1);
+            }
+            return out;
+        }
+        throw UnsupportedLootException.INSTANCE;
+    }
+
+    private static int constantInt(NumberProvider provider) {
+        return Math.round(constantFloat(provider));
+    }
+
+    private static float constantFloat(NumberProvider provider) {
+        if (provider instanceof ConstantValue constant) return constant.value();
+        throw UnsupportedLootException.INSTANCE;
+    }
+
+    private static void requireConstantBound(Object bound) {
+        Object value = bound instanceof Optional<?> optional ? optional.orElse(null) : bound;
+        if (value == null || value instanceof ConstantValue) return;
+        throw UnsupportedLootException.INSTANCE;
+    }
+
+    private static double expectedValue(Map<Integer, Double> distribution) {
+        double out = 0.0;
+        for (Map.Entry<Integer, Double> e : distribution.entrySet()) {
+            out += e.getKey() * e.getValue();
+        }
+        return out;
+    }
+
+    private static Map<Integer, Double> shift(Map<Integer, Double> distribution, int offset) {
+        Map<Integer, Double> out = new HashMap<>();
+        for (Map.Entry<Integer, Double> e : distribution.entrySet()) {
+            out.merge(e.getKey() + offset, e.getValue(), Double::sum);
+        }
+        return out;
+    }
+
+    private static boolean hasGlobalLootModifiers() {
+        // Global loot modifiers run after the table and cannot be modelled; any registered modifier disables
+        // the analytic path. Modifiers only change with datapacks, so the answer is kept until the next reload.
+        Boolean cached = globalLootModifiers;
+        if (cached != null) return cached;
+        boolean present;
+        try {
+            present = !NeoForgeEventHandler.getLootModifierManager().getAllLootMods().isEmpty();
+        } catch (IllegalStateException notLoadedYet) {
+            return true;
+        }
+        globalLootModifiers = present;
+        return present;
+    }
+
+    private static int readInt(Object target, String name) {
+        Object value = readField(target, name);
+        if (value instanceof Integer i) return i;
+        throw UnsupportedLootException.INSTANCE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> listField(Object target, String name) {
+        Object value = readField(target, name);
+        if (value instanceof List<?> list) return (List<T>) list;
+        throw UnsupportedLootException.INSTANCE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T readField(Object target, String name) {
+        if (target == null) throw UnsupportedLootException.INSTANCE;
+        Field field = findField(target.getClass(), name);
+        if (field == null) throw UnsupportedLootException.INSTANCE;
+        try {
+            return (T) field.get(target);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw UnsupportedLootException.INSTANCE;
+        }
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        return FIELD_CACHE.computeIfAbsent(type.getName() + "#" + name, k -> {
+            Class<?> current = type;
+            while (current != null && current != Object.class) {
+                try {
+                    Field field = current.getDeclaredField(name);
+                    field.setAccessible(true);
+                    return Optional.of(field);
+                } catch (NoSuchFieldException ignored) {
+                    current = current.getSuperclass();
+                } catch (Throwable ignored) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.empty();
+        }).orElse(null);
+    }
+
+    private record WeightedEntry(LootPoolSingletonContainer entry, int weight, double chance) {
+    }
+
+    /**
+     * Expected number of stacks per item and stack size. All loot operations used here are linear in this
+     * representation, so pools, weights and chances combine by scaling and summing.
+     */
+    private static final class Outcome {
+        private final Map<Item, Map<Integer, Double>> stacks = new HashMap<>();
+
+        boolean isEmpty() {
+            return stacks.isEmpty();
+        }
+
+        void add(Item item, int count, double expected) {
+            if (expected <= EPSILON) return;
+            stacks.computeIfAbsent(item, k -> new HashMap<>()).merge(count, expected, Double::sum);
+        }
+
+        void addScaled(Outcome other, double scale) {
+            if (other == null || scale <= 0.0) return;
+            for (Map.Entry<Item, Map<Integer, Double>> e : other.stacks.entrySet()) {
+                for (Map.Entry<Integer, Double> c : e.getValue().entrySet()) {
+                    add(e.getKey(), c.getKey(), c.getValue() * scale);
+                }
+            }
+        }
+
+        Outcome mapCounts(IntFunction<Map<Integer, Double>> mapper) {
+            Outcome out = new Outcome();
+            for (Map.Entry<Item, Map<Integer, Double>> e : stacks.entrySet()) {
+                for (Map.Entry<Integer, Double> c : e.getValue().entrySet()) {
+                    for (Map.Entry<Integer, Double> mapped : mapper.apply(c.getKey()).entrySet()) {
+                        out.add(e.getKey(), mapped.getKey(), c.getValue() * mapped.getValue());
+                    }
+                }
+            }
+            return out;
+        }
+
+        Outcome mapItems(UnaryOperator<Item> mapper) {
+            Outcome out = new Outcome();
+            for (Map.Entry<Item, Map<Integer, Double>> e : stacks.entrySet()) {
+                Item mapped = mapper.apply(e.getKey());
+                for (Map.Entry<Integer, Double> c : e.getValue().entrySet()) {
+                    out.add(mapped, c.getKey(), c.getValue());
+                }
+            }
+            return out;
+        }
+
+        // Mirrors LootTable#createStackSplitter: empty stacks vanish, oversized stacks are split.
+        Map<Item, Map<Integer, Double>> splitStacks() {
+            Map<Item, Map<Integer, Double>> out = new HashMap<>();
+            for (Map.Entry<Item, Map<Integer, Double>> e : stacks.entrySet()) {
+                int maxStack = Math.max(1, new ItemStack(e.getKey()).getMaxStackSize());
+                Map<Integer, Double> counts = new HashMap<>();
+                for (Map.Entry<Integer, Double> c : e.getValue().entrySet()) {
+                    int count = c.getKey();
+                    double expected = c.getValue();
+                    if (count <= 0 || expected <= EPSILON) continue;
+                    if (count <= maxStack) {
+                        counts.merge(count, expected, Double::sum);
+                        continue;
+                    }
+                    counts.merge(maxStack, expected * (count / maxStack), Double::sum);
+                    int remainder = count % maxStack;
+                    if (remainder > 0) counts.merge(remainder, expected, Double::sum);
+                }
+                if (!counts.isEmpty()) out.put(e.getKey(), counts);
+            }
+            return out;
+        }
+    }
+
+    private static final class UnsupportedLootException extends RuntimeException {
+        private static final UnsupportedLootException INSTANCE = new UnsupportedLootException();
+
+        private UnsupportedLootException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -1,85 +1,158 @@
 package de.coldfang.wildex.server.loot;
 
+import de.coldfang.wildex.config.CommonConfig;
 import de.coldfang.wildex.util.WildexMobFilters;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.item.Item;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
+/**
+ * Item to mob lookup for the Analyzer. Holds no loot data of its own: it is filled from the same extraction
+ * results that answer Loot tab requests, and missing mobs are requested through the shared loot scheduler.
+ * Scanning runs once per server tick under a time budget, and only while an Analyzer is waiting on it.
+ */
 public final class WildexAnalyzerLootIndex {
 
-    private static final int SAMPLES_PER_MOB = 72;
-
-    private static final Map<ResourceLocation, Set<ResourceLocation>> MOB_TO_ITEMS = new HashMap<>();
-    private static final Map<ResourceLocation, List<ResourceLocation>> ITEM_TO_MOBS = new HashMap<>();
+    private static final int INITIAL_ITEM_CAPACITY = 256;
+    private static final int[] NO_MOBS = new int[0];
+    private static final LootRequester NO_REQUESTER = (level, mobId, type) -> false;
 
     private static List<ResourceLocation> scanMobIds = List.of();
+    private static final Map<ResourceLocation, Integer> MOB_ORDINALS = new HashMap<>();
+    private static final Map<ResourceLocation, Integer> ITEM_ORDINALS = new HashMap<>();
+    private static final BitSet KNOWN_MOBS = new BitSet();
+
+    // Indexed by item ordinal; each row holds ascending mob ordinals, which keeps results sorted by mob id.
+    private static int[][] itemToMobs = new int[INITIAL_ITEM_CAPACITY][];
+    private static int[] itemToMobCounts = new int[INITIAL_ITEM_CAPACITY];
+
+    private static int knownMobCount = 0;
     private static int scanCursor = 0;
     private static boolean initialized = false;
-    private static boolean complete = false;
+    private static boolean scanRequested = false;
+    private static volatile LootRequester lootRequester = NO_REQUESTER;
 
     private WildexAnalyzerLootIndex() {
     }
 
+    /**
+     * Sets the callback that schedules loot extraction for mobs the index has not seen yet.
+     */
+    public static void registerLootRequester(LootRequester requester) {
+        lootRequester = requester == null ? NO_REQUESTER : requester;
+    }
+
     public static synchronized void clear() {
-        MOB_TO_ITEMS.clear();
-        ITEM_TO_MOBS.clear();
         scanMobIds = List.of();
+        MOB_ORDINALS.clear();
+        ITEM_ORDINALS.clear();
+        KNOWN_MOBS.clear();
+        itemToMobs = new int[INITIAL_ITEM_CAPACITY][];
+        itemToMobCounts = new int[INITIAL_ITEM_CAPACITY];
+        knownMobCount = 0;
         scanCursor = 0;
         initialized = false;
-        complete = false;
+        scanRequested = false;
+    }
+
+    /**
+     * Keeps the scan running for the next server tick. Analyzers call this every tick while they need the index.
+     */
+    public static synchronized void requestScan() {
+        scanRequested = true;
+    }
+
+    public static synchronized boolean isComplete() {
+        ensureInitialized();
+        return isCompleteInternal();
     }
 
-    public static synchronized Resolution resolve(ServerLevel level, ResourceLocation itemId, int scanBudgetMobs) {
-        if (level == null || itemId == null) return Resolution.EMPTY_COMPLETE;
-        process(level, scanBudgetMobs);
-        List<ResourceLocation> mobs = ITEM_TO_MOBS.get(itemId);
-        if (mobs == null || mobs.isEmpty()) {
-            return new Resolution(List.of(), complete);
+    public static synchronized void tick(MinecraftServer server) {
+        if (!scanRequested || server == null) return;
+        scanRequested = false;
+
+        long budgetNs = Math.max(0L, CommonConfig.INSTANCE.analyzerIndexTickBudgetNs.get());
+        process(server.overworld(), System.nanoTime() + budgetNs);
+    }
+
+    /**
+     * Records the dropped items of {@code mobId} once its loot has been extracted. Later calls for the same mob
+     * are ignored until the index is cleared.
+     */
+    public static synchronized void record(ResourceLocation mobId, Collection<ResourceLocation> itemIds) {
+        if (mobId == null) return;
+        ensureInitialized();
+
+        Integer mobOrdinal = MOB_ORDINALS.get(mobId);
+        if (mobOrdinal == null || KNOWN_MOBS.get(mobOrdinal)) return;
+        markKnown(mobOrdinal);
+        if (itemIds == null) return;
+
+        for (ResourceLocation itemId : itemIds) {
+            if (itemId == null) continue;
+            if (BuiltInRegistries.ITEM.getOptional(itemId).isEmpty()) continue;
+            addMob(itemOrdinal(itemId), mobOrdinal);
         }
-        return new Resolution(List.copyOf(mobs), complete);
     }
 
-    public static synchronized void process(ServerLevel level, int scanBudgetMobs) {
+    public static synchronized Resolution resolve(ResourceLocation itemId) {
+        if (itemId == null) return Resolution.EMPTY_COMPLETE;
+        ensureInitialized();
+
+        boolean complete = isCompleteInternal();
+        Integer itemOrdinal = ITEM_ORDINALS.get(itemId);
+        if (itemOrdinal == null) return new Resolution(List.of(), complete);
+
+        int count = itemToMobCounts[itemOrdinal];
+        int[] mobs = itemToMobs[itemOrdinal];
+        ArrayList<ResourceLocation> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            out.add(scanMobIds.get(mobs[i]));
+        }
+        return new Resolution(List.copyOf(out), complete);
+    }
+
+    private static void process(ServerLevel level, long deadlineNs) {
         if (level == null) return;
-        if (scanBudgetMobs <= 0) return;
 
         ensureInitialized();
-        if (complete) return;
-
-        int budget = scanBudgetMobs;
-        while (budget-- > 0 && scanCursor < scanMobIds.size()) {
-            ResourceLocation mobId = scanMobIds.get(scanCursor++);
-            if (mobId == null) continue;
-            if (MOB_TO_ITEMS.containsKey(mobId)) continue;
+        int size = scanMobIds.size();
+        // Visit each missing mob at most once per tick; the rest are usually still in flight.
+        int visits = size - knownMobCount;
+        while (visits-- > 0 && !isCompleteInternal() && System.nanoTime() < deadlineNs) {
+            int ordinal = KNOWN_MOBS.nextClearBit(scanCursor);
+            if (ordinal >= size) {
+                // Wrap around to mobs that were still in flight on the previous pass.
+                ordinal = KNOWN_MOBS.nextClearBit(0);
+                if (ordinal >= size) break;
+            }
 
+            ResourceLocation mobId = scanMobIds.get(ordinal);
             EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(mobId).orElse(null);
             if (type == null) {
-                MOB_TO_ITEMS.put(mobId, Set.of());
+                markKnown(ordinal);
                 continue;
             }
 
-            Set<ResourceLocation> itemIds = collectMobLootItemIds(level, type);
-            MOB_TO_ITEMS.put(mobId, itemIds);
-            if (itemIds.isEmpty()) continue;
-
-            for (ResourceLocation itemId : itemIds) {
-                ITEM_TO_MOBS.computeIfAbsent(itemId, ignored -> new ArrayList<>()).add(mobId);
-            }
+            // Cached results are recorded synchronously; uncached mobs are queued on the shared loot scheduler.
+            if (!lootRequester.request(level, mobId, type)) break;
+            scanCursor = ordinal + 1;
         }
+    }
 
-        if (scanCursor >= scanMobIds.size()) {
-            finalizeIndex();
-        }
+    private static boolean isCompleteInternal() {
+        return initialized && knownMobCount >= scanMobIds.size();
     }
 
     private static void ensureInitialized() {
@@ -94,42 +167,59 @@ public final class WildexAnalyzerLootIndex {
         }
         Collections.sort(ids);
         scanMobIds = List.copyOf(ids);
+        MOB_ORDINALS.clear();
+        for (int i = 0; i < scanMobIds.size(); i++) {
+            MOB_ORDINALS.put(scanMobIds.get(i), i);
+        }
         scanCursor = 0;
         initialized = true;
-        complete = scanMobIds.isEmpty();
     }
 
-    private static void finalizeIndex() {
-        for (Map.Entry<ResourceLocation, List<ResourceLocation>> e : ITEM_TO_MOBS.entrySet()) {
-            List<ResourceLocation> list = e.getValue();
-            if (list == null || list.isEmpty()) {
-                e.setValue(List.of());
-                continue;
-            }
+    private static void markKnown(int mobOrdinal) {
+        if (KNOWN_MOBS.get(mobOrdinal)) return;
+        KNOWN_MOBS.set(mobOrdinal);
+        knownMobCount++;
+    }
 
-            ArrayList<ResourceLocation> sorted = new ArrayList<>(list);
-            Collections.sort(sorted);
-            e.setValue(List.copyOf(sorted));
+    private static int itemOrdinal(ResourceLocation itemId) {
+        Integer existing = ITEM_ORDINALS.get(itemId);
+        if (existing != null) return existing;
+
+        int ordinal = ITEM_ORDINALS.size();
+        if (ordinal >= itemToMobs.length) {
+            int capacity = itemToMobs.length * 2;
+            itemToMobs = Arrays.copyOf(itemToMobs, capacity);
+            itemToMobCounts = Arrays.copyOf(itemToMobCounts, capacity);
         }
-        complete = true;
+        itemToMobs[ordinal] = NO_MOBS;
+        ITEM_ORDINALS.put(itemId, ordinal);
+        return ordinal;
     }
 
-    private static Set<ResourceLocation> collectMobLootItemIds(ServerLevel level, EntityType<?> type) {
-        List<WildexLootExtractor.LootDropSummary> sampled = WildexLootExtractor.sampleEntityLoot(level, type, SAMPLES_PER_MOB);
-        if (sampled.isEmpty()) return Set.of();
+    private static void addMob(int itemOrdinal, int mobOrdinal) {
+        int count = itemToMobCounts[itemOrdinal];
+        int[] mobs = itemToMobs[itemOrdinal];
 
-        HashSet<ResourceLocation> out = new HashSet<>();
-        for (WildexLootExtractor.LootDropSummary row : sampled) {
-            if (row == null) continue;
-            ResourceLocation itemId = ResourceLocation.tryParse(row.itemId());
-            if (itemId == null) continue;
+        int insertAt = Arrays.binarySearch(mobs, 0, count, mobOrdinal);
+        if (insertAt >= 0) return;
+        insertAt = -insertAt - 1;
 
-            Item item = BuiltInRegistries.ITEM.getOptional(itemId).orElse(null);
-            if (item == null) continue;
-            out.add(itemId);
+        if (count == mobs.length) {
+            mobs = Arrays.copyOf(mobs, Math.max(4, count * 2));
+            itemToMobs[itemOrdinal] = mobs;
         }
-        if (out.isEmpty()) return Set.of();
-        return Set.copyOf(out);
+        System.arraycopy(mobs, insertAt, mobs, insertAt + 1, count - insertAt);
+        mobs[insertAt] = mobOrdinal;
+        itemToMobCounts[itemOrdinal] = count + 1;
+    }
+
+    /**
+     * Returns true when the loot of {@code mobId} is cached or queued, false when the scheduler is saturated
+     * and the scan should stop for this tick.
+     */
+    @FunctionalInterface
+    public interface LootRequester {
+        boolean request(ServerLevel level, ResourceLocation mobId, EntityType<?> type);
     }
 
     public record Resolution(List<ResourceLocation> mobIds, boolean complete) {
@@ -1,5 +1,7 @@
 package de.coldfang.wildex.server.loot;
 
+import com.mojang.authlib.GameProfile;
+import de.coldfang.wildex.config.CommonConfig;
 import de.coldfang.wildex.util.WildexEntityFactory;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
@@ -8,6 +10,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
@@ -22,12 +25,13 @@ import net.minecraft.world.level.storage.loot.LootParams;
 import net.minecraft.world.level.storage.loot.LootTable;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParamSets;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.DyeColor;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.enchantment.EnchantmentEffectComponents;
 import net.minecraft.world.item.enchantment.EnchantmentHelper;
-import net.neoforged.neoforge.common.util.FakePlayerFactory;
+import net.neoforged.neoforge.common.util.FakePlayer;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -37,6 +41,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Consumer;
 
 public final class WildexLootExtractor {
@@ -57,6 +62,8 @@ public final class WildexLootExtractor {
             LOOT_CONDITION_SHEEP_COLOR
     };
     private static final int VERIFICATION_SAMPLES_PER_PLAN = 600;
+    private static final GameProfile LOOTER_PROFILE =
+            new GameProfile(UUID.fromString("5c1f4e9a-3b7d-4c2e-9a61-0f8d2b6e7a43"), "[WildexLooter]");
 
     private WildexLootExtractor() {
     }
@@ -72,62 +79,61 @@ public final class WildexLootExtractor {
     ) {
     }
 
+    /**
+     * Drops state derived from datapacks. Call after a reload.
+     */
+    public static void clearCaches() {
+        WildexAnalyticLootEvaluator.clearCaches();
+    }
+
     public static List<LootDropSummary> sampleEntityLoot(ServerLevel level, EntityType<?> type, int samples) {
-        if (level == null || type == null) return List.of();
+        PreparedEntityLoot prepared = prepareEntityLoot(level, type, samples);
+        try {
+            return prepared.roll();
+        } finally {
+            prepared.release();
+        }
+    }
+
+    /**
+     * Creates and configures all sampling entities for {@code type}. Must run on the server thread.
+     * The returned snapshot can be rolled from any thread and has to be released on the server thread afterwards.
+     */
+    public static PreparedEntityLoot prepareEntityLoot(ServerLevel level, EntityType<?> type, int samples) {
+        if (level == null || type == null) return PreparedEntityLoot.EMPTY;
         if (samples <= 0) samples = 1;
 
         List<SamplingPlan> plans = buildSamplingPlans(level, type, samples);
-        if (plans.isEmpty()) return List.of();
-
-        Map<Integer, List<SamplingPlan>> plansByMask = groupPlansByMask(plans);
-        Map<Integer, Integer> samplesByMask = computeSamplesByMask(plansByMask);
-        Map<String, Stat> stats = new HashMap<>();
+        if (plans.isEmpty()) return PreparedEntityLoot.EMPTY;
 
+        List<PreparedPlan> prepared = new ArrayList<>(plans.size());
         for (SamplingPlan plan : plans) {
-            int s = Math.max(1, plan.samples());
-            List<LootDropSummary> out = sampleEntityLoot(
-                    level,
-                    plan.looter(),
-                    plan.attackerType(),
-                    type,
-                    s,
-                    plan.entityConfigurator(),
-                    plan.conditionMask()
-            );
-            mergeInto(stats, out);
+            prepared.add(preparePlan(level, type, plan));
         }
-
-        verifyAmbiguousConditions(level, type, plansByMask, samplesByMask, stats);
-        applySamplesByMask(stats, samplesByMask);
-        int totalSamples = samplesByMask.values().stream().mapToInt(Integer::intValue).sum();
-        return mergeSummaries(stats, Math.max(1, totalSamples));
+        return new PreparedEntityLoot(List.copyOf(prepared));
     }
 
     @SuppressWarnings("unused")
     public static List<LootDropSummary> sampleEntityLoot(ServerLevel level, ServerPlayer looter, EntityType<?> type, int samples) {
+        if (level == null || type == null) return List.of();
         int mask = (looter == null) ? LOOT_CONDITION_NONE : LOOT_CONDITION_PLAYER_KILL;
-        return sampleEntityLoot(level, looter, null, type, samples, null, mask);
+        PreparedPlan prepared = preparePlan(level, type, new SamplingPlan(Math.max(1, samples), looter, null, null, mask));
+        try {
+            return rollPlan(prepared, Math.max(1, samples), RandomSource.create()).rows();
+        } finally {
+            prepared.release();
+        }
     }
 
-    private static List<LootDropSummary> sampleEntityLoot(
-            ServerLevel level,
-            ServerPlayer looter,
-            EntityType<?> attackerType,
-            EntityType<?> type,
-            int samples,
-            Consumer<Entity> entityConfigurator,
-            int conditionMask
-    ) {
-        if (level == null || type == null) return List.of();
-        if (samples <= 0) samples = 1;
-
+    private static PreparedPlan preparePlan(ServerLevel level, EntityType<?> type, SamplingPlan plan) {
         Entity entity = WildexEntityFactory.tryCreate(type, level);
-        if (entity == null) return List.of();
+        if (entity == null) return new PreparedPlan(plan, level, null, null, null, null, List.of(), null);
+
         Entity attacker = null;
         try {
-            if (entityConfigurator != null) {
+            if (plan.entityConfigurator() != null) {
                 try {
-                    entityConfigurator.accept(entity);
+                    plan.entityConfigurator().accept(entity);
                 } catch (Throwable ignored) {
                     // State-aware profile hooks must never break loot extraction.
                 }
@@ -141,13 +147,17 @@ public final class WildexLootExtractor {
                     ? living.getLootTable()
                     : type.getDefaultLootTable();
             LootTable table = resolveLootTable(level.getServer(), lootKey);
-            if (table == LootTable.EMPTY) return List.of();
+            if (table == LootTable.EMPTY) {
+                entity.discard();
+                return new PreparedPlan(plan, level, null, null, null, null, List.of(), null);
+            }
 
+            ServerPlayer looter = plan.looter();
             DamageSource src;
             if (looter != null) {
                 src = level.damageSources().playerAttack(looter);
-            } else if (attackerType != null) {
-                attacker = WildexEntityFactory.tryCreate(attackerType, level);
+            } else if (plan.attackerType() != null) {
+                attacker = WildexEntityFactory.tryCreate(plan.attackerType(), level);
                 if (attacker instanceof LivingEntity livingAttacker) {
                     attacker.setPos(0.0, 0.0, 0.0);
                     src = level.damageSources().mobAttack(livingAttacker);
@@ -176,32 +186,106 @@ public final class WildexLootExtractor {
             }
 
             LootParams params = b.create(LootContextParamSets.ENTITY);
+            List<LootDropSummary> analyticRows = evaluateAnalytically(level, entity, table, params, plan);
+            List<EquipmentDrop> equipmentDrops = resolveEquipmentDrops(level, entity, looter, src);
+            return new PreparedPlan(plan, level, entity, attacker, table, params, equipmentDrops, analyticRows);
+        } catch (Throwable t) {
+            entity.discard();
+            if (attacker != null) attacker.discard();
+            return new PreparedPlan(plan, level, null, null, null, null, List.of(), null);
+        }
+    }
 
-            Map<String, Stat> stats = new HashMap<>();
+    private static List<LootDropSummary> evaluateAnalytically(
+            ServerLevel level,
+            Entity entity,
+            LootTable table,
+            LootParams params,
+            SamplingPlan plan
+    ) {
+        if (!CommonConfig.INSTANCE.analyticLootEvaluation.get()) return null;
+        // Pillager equipment drops depend on per-slot drop chances that are only rolled by sampling.
+        if (entity instanceof Pillager) return null;
+
+        Map<Item, Map<Integer, Double>> expected = WildexAnalyticLootEvaluator.evaluate(level, table, params);
+        if (expected == null) return null;
+        if (entity instanceof WitherBoss) {
+            expected.computeIfAbsent(Items.NETHER_STAR, k -> new HashMap<>()).merge(1, 1.0, Double::sum);
+        }
 
-            for (int i = 0; i < samples; i++) {
-                List<ItemStack> drops = new ArrayList<>();
-                table.getRandomItems(params, drops::add);
-                collectEquipmentDropsForSample(level, entity, looter, src, drops);
+        int samples = Math.max(1, plan.samples());
+        Map<String, Stat> stats = new HashMap<>();
+        for (Map.Entry<Item, Map<Integer, Double>> e : expected.entrySet()) {
+            double stacks = 0.0;
+            Stat s = new Stat();
+            for (Map.Entry<Integer, Double> c : e.getValue().entrySet()) {
+                if (c.getValue() <= 0.0) continue;
+                stacks += c.getValue();
+                s.min = Math.min(s.min, c.getKey());
+                s.max = Math.max(s.max, c.getKey());
+            }
+            if (stacks <= 0.0) continue;
+            // Expressed as hits per plan sample so analytic rows merge with sampled ones unchanged.
+            s.timesSeen = Math.max(1, (int) Math.round(stacks * samples));
+            stats.put(BuiltInRegistries.ITEM.getKey(e.getKey()).toString(), s);
+        }
+        return toSummariesForCondition(stats, samples, plan.conditionMask());
+    }
 
-                for (ItemStack st : drops) {
-                    if (st == null || st.isEmpty()) continue;
+    private static PlanRoll rollPlan(PreparedPlan prepared, int samples, RandomSource random) {
+        if (samples <= 0) samples = 1;
+        if (prepared == null || prepared.table() == null || prepared.params() == null) {
+            return new PlanRoll(List.of(), samples);
+        }
+        if (prepared.analyticRows() != null) return new PlanRoll(prepared.analyticRows(), Math.max(1, prepared.samples()));
 
-                    ResourceLocation itemKey = BuiltInRegistries.ITEM.getKey(st.getItem());
-                    String id = itemKey.toString();
+        boolean adaptive = CommonConfig.INSTANCE.adaptiveLootSampling.get();
+        int minRolls = CommonConfig.INSTANCE.adaptiveLootSamplingMinRolls.get();
+        int stableRolls = CommonConfig.INSTANCE.adaptiveLootSamplingStableRolls.get();
+        int maxRolls = adaptive ? Math.min(samples, CommonConfig.INSTANCE.adaptiveLootSamplingMaxRolls.get()) : samples;
 
-                    Stat s = stats.computeIfAbsent(id, k -> new Stat());
-                    s.timesSeen++;
-                    s.min = Math.min(s.min, st.getCount());
-                    s.max = Math.max(s.max, st.getCount());
+        Map<String, Stat> stats = new HashMap<>();
+        int rolled = 0;
+        int rollsSinceChange = 0;
+
+        while (rolled < maxRolls) {
+            List<ItemStack> drops = new ArrayList<>();
+            // Explicit seeds keep rolls off the level random and the table's world random sequence,
+            // both of which are owned by the server thread.
+            prepared.table().getRandomItems(prepared.params(), nextRollSeed(random), drops::add);
+            collectEquipmentDropsForSample(prepared.entity(), prepared.equipmentDrops(), random, drops);
+
+            boolean changed = false;
+            for (ItemStack st : drops) {
+                if (st == null || st.isEmpty()) continue;
+
+                ResourceLocation itemKey = BuiltInRegistries.ITEM.getKey(st.getItem());
+                String id = itemKey.toString();
+
+                Stat s = stats.get(id);
+                if (s == null) {
+                    s = new Stat();
+                    stats.put(id, s);
+                    changed = true;
                 }
+                s.timesSeen++;
+                if (st.getCount() < s.min || st.getCount() > s.max) changed = true;
+                s.min = Math.min(s.min, st.getCount());
+                s.max = Math.max(s.max, st.getCount());
             }
 
-            return toSummariesForCondition(stats, samples, conditionMask);
-        } finally {
-            entity.discard();
-            if (attacker != null) attacker.discard();
+            rolled++;
+            rollsSinceChange = changed ? 0 : rollsSinceChange + 1;
+            if (adaptive && rolled >= minRolls && rollsSinceChange >= stableRolls) break;
         }
+
+        return new PlanRoll(toSummariesForCondition(stats, rolled, prepared.conditionMask()), rolled);
+    }
+
+    private static long nextRollSeed(RandomSource random) {
+        long seed = random.nextLong();
+        // LootContext treats seed 0 as "no explicit seed".
+        return seed == 0L ? 1L : seed;
     }
 
     private static LootTable resolveLootTable(MinecraftServer server, ResourceKey<LootTable> key) {
@@ -264,34 +348,20 @@ public final class WildexLootExtractor {
         return List.copyOf(out);
     }
 
-    private static Map<Integer, List<SamplingPlan>> groupPlansByMask(List<SamplingPlan> plans) {
-        Map<Integer, List<SamplingPlan>> out = new HashMap<>();
-        for (SamplingPlan plan : plans) {
+    private static Map<Integer, List<PreparedPlan>> groupPlansByMask(List<PreparedPlan> plans) {
+        Map<Integer, List<PreparedPlan>> out = new HashMap<>();
+        for (PreparedPlan plan : plans) {
             if (plan == null) continue;
             out.computeIfAbsent(plan.conditionMask(), k -> new ArrayList<>()).add(plan);
         }
         return out;
     }
 
-    private static Map<Integer, Integer> computeSamplesByMask(Map<Integer, List<SamplingPlan>> plansByMask) {
-        Map<Integer, Integer> out = new HashMap<>();
-        for (Map.Entry<Integer, List<SamplingPlan>> e : plansByMask.entrySet()) {
-            int total = 0;
-            for (SamplingPlan plan : e.getValue()) {
-                if (plan == null) continue;
-                total += Math.max(1, plan.samples());
-            }
-            out.put(e.getKey(), Math.max(0, total));
-        }
-        return out;
-    }
-
     private static void verifyAmbiguousConditions(
-            ServerLevel level,
-            EntityType<?> type,
-            Map<Integer, List<SamplingPlan>> plansByMask,
+            Map<Integer, List<PreparedPlan>> plansByMask,
             Map<Integer, Integer> samplesByMask,
-            Map<String, Stat> stats
+            Map<String, Stat> stats,
+            RandomSource random
     ) {
         if (stats.isEmpty() || plansByMask.isEmpty()) return;
 
@@ -321,23 +391,17 @@ public final class WildexLootExtractor {
         if (verificationMasks.isEmpty()) return;
 
         for (int verifyMask : verificationMasks) {
-            List<SamplingPlan> subsetPlans = plansByMask.get(verifyMask);
+            List<PreparedPlan> subsetPlans = plansByMask.get(verifyMask);
             if (subsetPlans == null || subsetPlans.isEmpty()) continue;
 
             int addedSamples = 0;
-            for (SamplingPlan plan : subsetPlans) {
+            for (PreparedPlan plan : subsetPlans) {
+                // Analytic plans are exact; re-rolling them cannot reveal anything new.
+                if (plan.analyticRows() != null) continue;
                 int runSamples = Math.max(Math.max(1, plan.samples()), VERIFICATION_SAMPLES_PER_PLAN);
-                List<LootDropSummary> out = sampleEntityLoot(
-                        level,
-                        plan.looter(),
-                        plan.attackerType(),
-                        type,
-                        runSamples,
-                        plan.entityConfigurator(),
-                        plan.conditionMask()
-                );
-                mergeInto(stats, out);
-                addedSamples += runSamples;
+                PlanRoll out = rollPlan(plan, runSamples, random);
+                mergeInto(stats, out.rows());
+                addedSamples += out.samples();
             }
 
             if (addedSamples > 0) {
@@ -383,7 +447,9 @@ public final class WildexLootExtractor {
         if (level == null || type == null) return List.of();
         int s = Math.max(1, baseSamples);
 
-        ServerPlayer fakePlayer = FakePlayerFactory.getMinecraft(level);
+        // A private looter keeps rolls on worker threads away from the shared fake player, whose equipment
+        // other code changes on the server thread.
+        ServerPlayer fakePlayer = new FakePlayer(level, LOOTER_PROFILE);
         List<SamplingPlan> plans = new ArrayList<>();
 
         // Baseline: simple mob death without special state.
@@ -496,23 +562,40 @@ public final class WildexLootExtractor {
     }
 
     private static void collectEquipmentDropsForSample(
-            ServerLevel level,
             Entity victim,
-            ServerPlayer looter,
-            DamageSource source,
+            List<EquipmentDrop> equipmentDrops,
+            RandomSource random,
             List<ItemStack> outDrops
     ) {
-        if (level == null || outDrops == null) return;
+        if (outDrops == null) return;
 
         if (victim instanceof WitherBoss) {
             outDrops.add(new ItemStack(Items.NETHER_STAR));
         }
 
-        if (!(victim instanceof Pillager pillager) || source == null) return;
+        for (EquipmentDrop drop : equipmentDrops) {
+            if (random.nextFloat() < drop.chance()) {
+                outDrops.add(drop.stack().copy());
+            }
+        }
+    }
+
+    /**
+     * Resolves the equipment drop chances on the server thread, since enchantment effects read the killer's
+     * equipment. Drops that can never happen for this plan are left out.
+     */
+    private static List<EquipmentDrop> resolveEquipmentDrops(
+            ServerLevel level,
+            Entity victim,
+            ServerPlayer looter,
+            DamageSource source
+    ) {
+        if (level == null || !(victim instanceof Pillager pillager) || source == null) return List.of();
 
         // Mirrors vanilla "recentlyHit" gating used in Mob#dropCustomDeathLoot.
         boolean recentlyHit = looter != null;
 
+        List<EquipmentDrop> out = new ArrayList<>(2);
         EquipmentSlot[] pillagerSlots = {EquipmentSlot.MAINHAND, EquipmentSlot.HEAD};
         for (EquipmentSlot slot : pillagerSlots) {
             ItemStack equipped = pillager.getItemBySlot(slot);
@@ -528,10 +611,11 @@ public final class WildexLootExtractor {
                 chance = EnchantmentHelper.processEquipmentDropChance(level, livingKiller, source, chance);
             }
 
-            if ((recentlyHit || guaranteed) && pillager.getRandom().nextFloat() < chance) {
-                outDrops.add(equipped.copyWithCount(Math.max(1, equipped.getCount())));
+            if (recentlyHit || guaranteed) {
+                out.add(new EquipmentDrop(equipped.copyWithCount(Math.max(1, equipped.getCount())), chance));
             }
         }
+        return List.copyOf(out);
     }
 
     private static float defaultPillagerEquipmentDropChance(Pillager pillager, EquipmentSlot slot, ItemStack equipped) {
@@ -658,4 +742,81 @@ public final class WildexLootExtractor {
             int conditionMask
     ) {
     }
+
+    private record PlanRoll(List<LootDropSummary> rows, int samples) {
+    }
+
+    private record EquipmentDrop(ItemStack stack, float chance) {
+    }
+
+    private record PreparedPlan(
+            SamplingPlan plan,
+            ServerLevel level,
+            Entity entity,
+            Entity attacker,
+            LootTable table,
+            LootParams params,
+            List<EquipmentDrop> equipmentDrops,
+            List<LootDropSummary> analyticRows
+    ) {
+        int samples() {
+            return plan.samples();
+        }
+
+        int conditionMask() {
+            return plan.conditionMask();
+        }
+
+        void release() {
+            if (entity != null) entity.discard();
+            if (attacker != null) attacker.discard();
+        }
+    }
+
+    public static final class PreparedEntityLoot {
+        private static final PreparedEntityLoot EMPTY = new PreparedEntityLoot(List.of());
+
+        private final List<PreparedPlan> plans;
+
+        private PreparedEntityLoot(List<PreparedPlan> plans) {
+            this.plans = plans;
+        }
+
+        public boolean isEmpty() {
+            return plans.isEmpty();
+        }
+
+        /**
+         * Rolls all prepared plans. Touches only the prepared entities and loot tables, so it is safe to call
+         * from a worker thread as long as {@link #release()} has not been called yet.
+         */
+        public List<LootDropSummary> roll() {
+            if (plans.isEmpty()) return List.of();
+
+            RandomSource random = RandomSource.create();
+            Map<Integer, List<PreparedPlan>> plansByMask = groupPlansByMask(plans);
+            Map<Integer, Integer> samplesByMask = new HashMap<>();
+            Map<String, Stat> stats = new HashMap<>();
+
+            for (PreparedPlan plan : plans) {
+                PlanRoll rolled = rollPlan(plan, Math.max(1, plan.samples()), random);
+                mergeInto(stats, rolled.rows());
+                samplesByMask.merge(plan.conditionMask(), rolled.samples(), Integer::sum);
+            }
+
+            verifyAmbiguousConditions(plansByMask, samplesByMask, stats, random);
+            applySamplesByMask(stats, samplesByMask);
+            int totalSamples = samplesByMask.values().stream().mapToInt(Integer::intValue).sum();
+            return mergeSummaries(stats, Math.max(1, totalSamples));
+        }
+
+        /**
+         * Discards the prepared sampling entities. Must run on the server thread.
+         */
+        public void release() {
+            for (PreparedPlan plan : plans) {
+                plan.release();
+            }
+        }
+    }
 }
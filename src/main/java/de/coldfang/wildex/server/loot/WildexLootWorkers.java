@@ -0,0 +1,64 @@
+package de.coldfang.wildex.server.loot;
+
+import de.coldfang.wildex.config.CommonConfig;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class WildexLootWorkers {
+
+    private static final int MAX_QUEUED_JOBS = 64;
+    private static final long IDLE_KEEP_ALIVE_SECONDS = 30L;
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(1);
+
+    private static ThreadPoolExecutor executor;
+
+    private WildexLootWorkers() {
+    }
+
+    /**
+     * Queues a loot job on the worker pool. Returns false if the pool is saturated so callers can fall back
+     * to running the job on the calling thread.
+     */
+    public static synchronized boolean submit(Runnable job) {
+        if (job == null) return false;
+        try {
+            ensureExecutor().execute(job);
+            return true;
+        } catch (RejectedExecutionException ignored) {
+            return false;
+        }
+    }
+
+    public static synchronized void shutdown() {
+        if (executor == null) return;
+        executor.shutdown();
+        executor = null;
+    }
+
+    private static ThreadPoolExecutor ensureExecutor() {
+        if (executor != null && !executor.isShutdown()) return executor;
+
+        int threads = Math.max(1, CommonConfig.INSTANCE.lootWorkerThreads.get());
+        ThreadPoolExecutor created = new ThreadPoolExecutor(
+                threads,
+                threads,
+                IDLE_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(MAX_QUEUED_JOBS),
+                runnable -> {
+                    Thread t = new Thread(runnable, "Wildex-Loot-Worker-" + THREAD_COUNTER.getAndIncrement());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        created.allowCoreThreadTimeOut(true);
+        executor = created;
+        return created;
+    }
+}
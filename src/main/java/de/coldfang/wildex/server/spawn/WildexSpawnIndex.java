@@ -0,0 +1,191 @@
+package de.coldfang.wildex.server.spawn;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.BiomeTags;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeSource;
+import net.minecraft.world.level.biome.MobSpawnSettings;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.levelgen.structure.Structure;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * EntityType to spawn location index built in one pass over all biome spawn settings and structure spawn overrides.
+ * Built lazily on first use and dropped on datapack reload, together with the other runtime extraction caches.
+ */
+final class WildexSpawnIndex {
+
+    private static final ResourceLocation OVERWORLD = ResourceLocation.withDefaultNamespace("overworld");
+    private static final ResourceLocation NETHER = ResourceLocation.withDefaultNamespace("the_nether");
+    private static final ResourceLocation END = ResourceLocation.withDefaultNamespace("the_end");
+
+    private static volatile Map<EntityType<?>, Entry> index = null;
+
+    private WildexSpawnIndex() {
+    }
+
+    static void clear() {
+        index = null;
+    }
+
+    static Entry lookup(MinecraftServer server, EntityType<?> type) {
+        if (server == null || type == null) return Entry.EMPTY;
+        Map<EntityType<?>, Entry> current = index;
+        if (current == null) {
+            current = build(server);
+            index = current;
+        }
+        return current.getOrDefault(type, Entry.EMPTY);
+    }
+
+    private static Map<EntityType<?>, Entry> build(MinecraftServer server) {
+        Registry<Biome> biomeReg = server.registryAccess().registryOrThrow(Registries.BIOME);
+        Map<EntityType<?>, Map<ResourceLocation, Set<ResourceLocation>>> byDimension = new IdentityHashMap<>();
+        Map<EntityType<?>, Map<ResourceLocation, Set<ResourceLocation>>> byStructure = new IdentityHashMap<>();
+
+        // Each biome's spawn settings are read exactly once; custom dimensions reuse the result.
+        Map<Biome, Set<EntityType<?>>> typesByBiome = new IdentityHashMap<>();
+        for (Holder.Reference<Biome> h : biomeReg.holders().toList()) {
+            Set<EntityType<?>> types = spawnTypes(h.value());
+            typesByBiome.put(h.value(), types);
+            if (types.isEmpty()) continue;
+
+            ResourceLocation biomeId = h.key().location();
+            if (h.is(BiomeTags.IS_OVERWORLD)) addAll(byDimension, types, OVERWORLD, biomeId);
+            if (h.is(BiomeTags.IS_NETHER)) addAll(byDimension, types, NETHER, biomeId);
+            if (h.is(BiomeTags.IS_END)) addAll(byDimension, types, END, biomeId);
+        }
+
+        for (ServerLevel level : server.getAllLevels()) {
+            ResourceLocation dimId = level.dimension().location();
+            if (dimId.equals(OVERWORLD) || dimId.equals(NETHER) || dimId.equals(END)) continue;
+
+            BiomeSource src = resolveBiomeSource(level);
+            if (src == null) continue;
+
+            for (Holder<Biome> h : src.possibleBiomes()) {
+                Biome biome = h.value();
+                Set<EntityType<?>> types = typesByBiome.computeIfAbsent(biome, WildexSpawnIndex::spawnTypes);
+                if (types.isEmpty()) continue;
+
+                ResourceLocation biomeId = biomeReg.getKey(biome);
+                if (biomeId != null) addAll(byDimension, types, dimId, biomeId);
+            }
+        }
+
+        for (Holder.Reference<Structure> holder : server.registryAccess().registryOrThrow(Registries.STRUCTURE).holders().toList()) {
+            Structure structure = holder.value();
+            if (structure == null) continue;
+
+            Set<EntityType<?>> types = overrideTypes(structure);
+            if (types.isEmpty()) continue;
+
+            ResourceLocation structureId = holder.key().location();
+            List<ResourceLocation> biomes = new ArrayList<>();
+            for (Holder<Biome> biomeHolder : structure.biomes()) {
+                ResourceLocation biomeId = biomeReg.getKey(biomeHolder.value());
+                if (biomeId != null) biomes.add(biomeId);
+            }
+
+            for (EntityType<?> type : types) {
+                byStructure.computeIfAbsent(type, k -> new LinkedHashMap<>())
+                        .computeIfAbsent(structureId, k -> new LinkedHashSet<>())
+                        .addAll(biomes);
+            }
+        }
+
+        Map<EntityType<?>, Entry> out = new HashMap<>();
+        Set<EntityType<?>> types = new LinkedHashSet<>(byDimension.keySet());
+        types.addAll(byStructure.keySet());
+        for (EntityType<?> type : types) {
+            out.put(type, new Entry(
+                    freezeSorted(byDimension.getOrDefault(type, Map.of())),
+                    freezeSorted(byStructure.getOrDefault(type, Map.of()))
+            ));
+        }
+        return Map.copyOf(out);
+    }
+
+    private static void addAll(
+            Map<EntityType<?>, Map<ResourceLocation, Set<ResourceLocation>>> target,
+            Set<EntityType<?>> types,
+            ResourceLocation key,
+            ResourceLocation biomeId
+    ) {
+        for (EntityType<?> type : types) {
+            target.computeIfAbsent(type, k -> new LinkedHashMap<>())
+                    .computeIfAbsent(key, k -> new LinkedHashSet<>())
+                    .add(biomeId);
+        }
+    }
+
+    private static Set<EntityType<?>> spawnTypes(Biome biome) {
+        Set<EntityType<?>> out = new LinkedHashSet<>();
+        MobSpawnSettings s = biome.getMobSettings();
+        for (MobCategory cat : MobCategory.values()) {
+            try {
+                for (MobSpawnSettings.SpawnerData d : s.getMobs(cat).unwrap()) {
+                    if (d.type != null) out.add(d.type);
+                }
+            } catch (Throwable ignored) {
+            }
+        }
+        return out;
+    }
+
+    private static Set<EntityType<?>> overrideTypes(Structure structure) {
+        Set<EntityType<?>> out = new LinkedHashSet<>();
+        for (var entry : structure.spawnOverrides().entrySet()) {
+            var override = entry.getValue();
+            if (override == null) continue;
+
+            for (MobSpawnSettings.SpawnerData d : override.spawns().unwrap()) {
+                if (d.type != null) out.add(d.type);
+            }
+        }
+        return out;
+    }
+
+    private static BiomeSource resolveBiomeSource(ServerLevel level) {
+        try {
+            ChunkGenerator gen = level.getChunkSource().getGenerator();
+            return gen.getBiomeSource();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private static Map<ResourceLocation, List<ResourceLocation>> freezeSorted(Map<ResourceLocation, Set<ResourceLocation>> raw) {
+        Map<ResourceLocation, List<ResourceLocation>> frozen = new LinkedHashMap<>();
+        for (var e : raw.entrySet()) {
+            if (e.getValue().isEmpty()) continue;
+            List<ResourceLocation> list = new ArrayList<>(e.getValue());
+            list.sort(Comparator.comparing(ResourceLocation::toString));
+            frozen.put(e.getKey(), List.copyOf(list));
+        }
+        return Map.copyOf(frozen);
+    }
+
+    record Entry(
+            Map<ResourceLocation, List<ResourceLocation>> biomesByDimension,
+            Map<ResourceLocation, List<ResourceLocation>> biomesByStructure
+    ) {
+        private static final Entry EMPTY = new Entry(Map.of(), Map.of());
+    }
+}
@@ -9,9 +9,20 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class WildexEntityFactory {
 
+    private static final ClassValue<Map<String, Optional<Method>>> METHOD_LOOKUPS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<Method>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private WildexEntityFactory() {
     }
 
@@ -134,6 +145,14 @@ public final class WildexEntityFactory {
     }
 
     private static @Nullable Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        // Normalization runs for every created display entity; cache lookups per class, misses included.
+        String key = name + Arrays.toString(parameterTypes);
+        return METHOD_LOOKUPS.get(type)
+                .computeIfAbsent(key, ignored -> Optional.ofNullable(lookupMethod(type, name, parameterTypes)))
+                .orElse(null);
+    }
+
+    private static @Nullable Method lookupMethod(Class<?> type, String name, Class<?>... parameterTypes) {
         Class<?> current = type;
         while (current != null) {
             try {
@@ -167,11 +186,20 @@ public final class WildexEntityFactory {
         return null;
     }
 
-    private static @Nullable Object invoke(@Nullable Method method, Object instance, Object... args) {
+    private static @Nullable Object invoke(@Nullable Method method, Object instance) {
         if (method == null || instance == null) return null;
         try {
-            return method.invoke(instance, args);
-        } catch (ReflectiveOperationException ignored) {
+            return WildexReflectiveAccess.of(method).invoke(instance);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    private static @Nullable Object invoke(@Nullable Method method, Object instance, Object arg) {
+        if (method == null || instance == null) return null;
+        try {
+            return WildexReflectiveAccess.of(method).invoke(instance, arg);
+        } catch (Throwable ignored) {
             return null;
         }
     }
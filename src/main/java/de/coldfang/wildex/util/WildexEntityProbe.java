@@ -0,0 +1,126 @@
+package de.coldfang.wildex.util;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityDimensions;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.NeutralMob;
+import net.minecraft.world.entity.OwnableEntity;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeMap;
+import net.minecraft.world.level.Level;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Instantiates each entity type at most once per session and side, and keeps what the UI and the server
+ * checks need from it. Failed probes are retried after a while, since some entities only fail while the
+ * world is still loading.
+ */
+public final class WildexEntityProbe {
+
+    private static final long FAILED_RETRY_TICKS = 200L;
+
+    private static final ConcurrentMap<EntityType<?>, Snapshot> CLIENT_SNAPSHOTS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<EntityType<?>, Snapshot> SERVER_SNAPSHOTS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<EntityType<?>, Long> CLIENT_RETRY_AT = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<EntityType<?>, Long> SERVER_RETRY_AT = new ConcurrentHashMap<>();
+
+    private WildexEntityProbe() {
+    }
+
+    public static Snapshot of(EntityType<?> type, Level level) {
+        if (type == null || level == null) return Snapshot.UNAVAILABLE;
+
+        ConcurrentMap<EntityType<?>, Snapshot> snapshots = level.isClientSide() ? CLIENT_SNAPSHOTS : SERVER_SNAPSHOTS;
+        Snapshot cached = snapshots.get(type);
+        if (cached != null) return cached;
+
+        ConcurrentMap<EntityType<?>, Long> retryAt = level.isClientSide() ? CLIENT_RETRY_AT : SERVER_RETRY_AT;
+        long now = level.getGameTime();
+        Long nextTry = retryAt.get(type);
+        if (nextTry != null && now < nextTry) return Snapshot.UNAVAILABLE;
+
+        Snapshot probed = probe(type, level);
+        if (!probed.available()) {
+            retryAt.put(type, now + FAILED_RETRY_TICKS);
+            return probed;
+        }
+        retryAt.remove(type);
+        Snapshot previous = snapshots.putIfAbsent(type, probed);
+        return previous == null ? probed : previous;
+    }
+
+    public static void clearClient() {
+        CLIENT_SNAPSHOTS.clear();
+        CLIENT_RETRY_AT.clear();
+    }
+
+    public static void clearServer() {
+        SERVER_SNAPSHOTS.clear();
+        SERVER_RETRY_AT.clear();
+    }
+
+    private static Snapshot probe(EntityType<?> type, Level level) {
+        Entity entity = WildexEntityFactory.tryCreate(type, level);
+        if (entity == null) return Snapshot.UNAVAILABLE;
+
+        try {
+            Map<Holder<Attribute>, Double> attributes = Map.of();
+            if (entity instanceof LivingEntity living) {
+                attributes = readAttributes(living.getAttributes());
+            }
+            EntityDimensions dimensions = entity.getDimensions(entity.getPose());
+            return new Snapshot(
+                    true,
+                    entity.getClass(),
+                    entity instanceof Mob,
+                    entity instanceof LivingEntity,
+                    entity instanceof OwnableEntity,
+                    entity instanceof NeutralMob,
+                    dimensions.width(),
+                    dimensions.height(),
+                    attributes
+            );
+        } catch (Throwable ignored) {
+            return Snapshot.UNAVAILABLE;
+        } finally {
+            WildexEntityFactory.discardQuietly(entity);
+        }
+    }
+
+    private static Map<Holder<Attribute>, Double> readAttributes(AttributeMap attrs) {
+        HashMap<Holder<Attribute>, Double> out = new HashMap<>();
+        for (Holder<Attribute> attribute : BuiltInRegistries.ATTRIBUTE.holders().toList()) {
+            if (!attrs.hasAttribute(attribute)) continue;
+            out.put(attribute, attrs.getValue(attribute));
+        }
+        return Map.copyOf(out);
+    }
+
+    public record Snapshot(
+            boolean available,
+            Class<? extends Entity> entityClass,
+            boolean mob,
+            boolean living,
+            boolean ownable,
+            boolean neutral,
+            float width,
+            float height,
+            Map<Holder<Attribute>, Double> attributes
+    ) {
+        public static final Snapshot UNAVAILABLE = new Snapshot(false, null, false, false, false, false, 0f, 0f, Map.of());
+
+        public OptionalDouble attribute(Holder<Attribute> attribute) {
+            Double value = attribute == null ? null : attributes.get(attribute);
+            return value == null ? OptionalDouble.empty() : OptionalDouble.of(value);
+        }
+    }
+}
@@ -5,36 +5,90 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.EntityType;
 
+import java.util.BitSet;
 import java.util.List;
 
 public final class WildexMobFilters {
 
     private static final String EXCLUDED_NAMESPACE_DEFAULT = "cobblehelper";
 
+    private static volatile TrackabilityTable table = null;
+    private static int tableGeneration = 0;
+
     private WildexMobFilters() {
     }
 
     public static boolean isTrackable(ResourceLocation id) {
-        return isTrackableId(id);
+        if (id == null || !BuiltInRegistries.ENTITY_TYPE.containsKey(id)) return false;
+        return currentTable().isTrackable(BuiltInRegistries.ENTITY_TYPE.get(id));
     }
 
     public static boolean isTrackable(EntityType<?> type) {
         if (type == null) return false;
         if (type == EntityType.PLAYER) return false;
-        ResourceLocation id = EntityType.getKey(type);
-        return isTrackableId(id);
+        return currentTable().isTrackable(type);
+    }
+
+    /**
+     * Drops the precomputed table; the next check rebuilds it. Called when the exclusion config is (re)loaded.
+     */
+    public static void invalidate() {
+        table = null;
+    }
+
+    /**
+     * Changes whenever the trackability table is rebuilt. Lets derived counters revalidate only after a config
+     * or registry change instead of rescanning on every read.
+     */
+    public static int generation() {
+        return currentTable().generation();
     }
 
-    private static boolean isTrackableId(ResourceLocation id) {
+    private static TrackabilityTable currentTable() {
+        TrackabilityTable current = table;
+        List<? extends String> cfg = CommonConfig.INSTANCE.excludedModIds.get();
+        int registrySize = BuiltInRegistries.ENTITY_TYPE.size();
+        // Cheap guards for config writes and late registry changes that happen without a reload event.
+        if (current != null && current.excludedIds() == cfg && current.registrySize() == registrySize) {
+            return current;
+        }
+
+        synchronized (WildexMobFilters.class) {
+            current = table;
+            if (current != null && current.excludedIds() == cfg && current.registrySize() == registrySize) {
+                return current;
+            }
+            TrackabilityTable rebuilt = TrackabilityTable.build(cfg, registrySize, ++tableGeneration);
+            table = rebuilt;
+            return rebuilt;
+        }
+    }
+
+    private static boolean isTrackableId(ResourceLocation id, List<? extends String> cfg) {
         if (id == null) return false;
         if (!WildexMobIdCanonicalizer.isCanonical(id)) return false;
-        EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(id).orElse(null);
-        if (type == null) return false;
 
         String ns = id.getNamespace();
         if (EXCLUDED_NAMESPACE_DEFAULT.equals(ns)) return false;
 
-        List<? extends String> cfg = CommonConfig.INSTANCE.excludedModIds.get();
         return !WildexIdFilterMatcher.matches(id, cfg);
     }
+
+    private record TrackabilityTable(List<? extends String> excludedIds, int registrySize, int generation, BitSet trackable) {
+
+        static TrackabilityTable build(List<? extends String> cfg, int registrySize, int generation) {
+            BitSet trackable = new BitSet(registrySize);
+            for (EntityType<?> type : BuiltInRegistries.ENTITY_TYPE) {
+                if (isTrackableId(BuiltInRegistries.ENTITY_TYPE.getKey(type), cfg)) {
+                    trackable.set(BuiltInRegistries.ENTITY_TYPE.getId(type));
+                }
+            }
+            return new TrackabilityTable(cfg, registrySize, generation, trackable);
+        }
+
+        boolean isTrackable(EntityType<?> type) {
+            int rawId = BuiltInRegistries.ENTITY_TYPE.getId(type);
+            return rawId >= 0 && trackable.get(rawId);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package de.coldfang.wildex.util;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.EntityType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dense int index over every mob that can be trackable, sorted by id. It is built once from the entity registry
+ * and does not depend on the exclusion config, so arrays indexed by it stay valid when the config changes; callers
+ * still filter with {@link WildexMobFilters}. Indices follow id order and are stable for a given mod set, but files
+ * should store ids rather than raw indices.
+ */
+public final class WildexMobIndex {
+
+    private static volatile Table table = null;
+
+    private WildexMobIndex() {
+    }
+
+    /**
+     * Returns the index of {@code id}, or -1 if it is not an indexed mob.
+     */
+    public static int find(ResourceLocation id) {
+        if (id == null) return -1;
+        Integer index = current().indices().get(id);
+        return index == null ? -1 : index;
+    }
+
+    public static ResourceLocation id(int index) {
+        List<ResourceLocation> ids = current().ids();
+        if (index < 0 || index >= ids.size()) return null;
+        return ids.get(index);
+    }
+
+    public static int size() {
+        return current().ids().size();
+    }
+
+    private static Table current() {
+        Table current = table;
+        int registrySize = BuiltInRegistries.ENTITY_TYPE.size();
+        if (current != null && current.registrySize() == registrySize) return current;
+
+        synchronized (WildexMobIndex.class) {
+            current = table;
+            if (current != null && current.registrySize() == registrySize) return current;
+            Table built = Table.build(registrySize);
+            table = built;
+            return built;
+        }
+    }
+
+    private record Table(int registrySize, List<ResourceLocation> ids, Map<ResourceLocation, Integer> indices) {
+
+        static Table build(int registrySize) {
+            ArrayList<ResourceLocation> ids = new ArrayList<>();
+            for (EntityType<?> type : BuiltInRegistries.ENTITY_TYPE) {
+                if (type == EntityType.PLAYER) continue;
+                ResourceLocation id = BuiltInRegistries.ENTITY_TYPE.getKey(type);
+                if (WildexMobIdCanonicalizer.isCanonical(id)) ids.add(id);
+            }
+            ids.sort(null);
+
+            Map<ResourceLocation, Integer> indices = new HashMap<>(ids.size() * 2);
+            for (int i = 0; i < ids.size(); i++) {
+                indices.put(ids.get(i), i);
+            }
+            return new Table(registrySize, List.copyOf(ids), Map.copyOf(indices));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package de.coldfang.wildex.util;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles reflectively discovered methods into cached method handles with an erased {@code Object} signature,
+ * so repeated calls skip the per-call access checks and argument array of {@link Method#invoke}.
+ */
+public final class WildexReflectiveAccess {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Map<Method, Invoker> INVOKERS = new ConcurrentHashMap<>();
+    private static final ClassValue<Map<String, Optional<Invoker>>> NO_ARG_METHODS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<Invoker>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private WildexReflectiveAccess() {
+    }
+
+    public static Invoker of(Method method) {
+        Invoker cached = INVOKERS.get(method);
+        if (cached != null) return cached;
+
+        Invoker compiled = new Invoker(method, compile(method));
+        Invoker previous = INVOKERS.putIfAbsent(method, compiled);
+        return previous == null ? compiled : previous;
+    }
+
+    /**
+     * Calls the public no-argument method {@code methodName} on {@code target}; the lookup is cached per class,
+     * including misses. Returns null when the method is missing or throws.
+     */
+    public static @Nullable Object invokeNoArgs(@Nullable Object target, @Nullable String methodName) {
+        if (target == null || methodName == null || methodName.isBlank()) return null;
+
+        Optional<Invoker> invoker = NO_ARG_METHODS.get(target.getClass())
+                .computeIfAbsent(methodName, name -> findNoArg(target.getClass(), name));
+        if (invoker.isEmpty()) return null;
+        try {
+            return invoker.get().invoke(target);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    private static Optional<Invoker> findNoArg(Class<?> owner, String name) {
+        try {
+            Method method = owner.getMethod(name);
+            trySetAccessible(method);
+            return Optional.of(of(method));
+        } catch (Throwable ignored) {
+            return Optional.empty();
+        }
+    }
+
+    private static @Nullable MethodHandle compile(Method method) {
+        try {
+            trySetAccessible(method);
+            MethodHandle handle = LOOKUP.unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                // Static methods take an ignored receiver so every invoker has the same shape.
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+        } catch (Throwable ignored) {
+            // Methods the lookup cannot see keep using plain reflection.
+            return null;
+        }
+    }
+
+    private static void trySetAccessible(Method method) {
+        try {
+            method.setAccessible(true);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    public static final class Invoker {
+
+        private final Method method;
+        private final @Nullable MethodHandle handle;
+
+        private Invoker(Method method, @Nullable MethodHandle handle) {
+            this.method = method;
+            this.handle = handle;
+        }
+
+        public Method method() {
+            return method;
+        }
+
+        public Object invoke(@Nullable Object target) throws Throwable {
+            if (handle == null) return method.invoke(target);
+            return (Object) handle.invokeExact(target);
+        }
+
+        public Object invoke(@Nullable Object target, @Nullable Object arg) throws Throwable {
+            if (handle == null) return method.invoke(target, arg);
+            return (Object) handle.invokeExact(target, arg);
+        }
+    }
+}
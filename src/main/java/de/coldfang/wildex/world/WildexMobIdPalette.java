@@ -0,0 +1,51 @@
+package de.coldfang.wildex.world;
+
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only mapping between mob ids and dense int indices used by compact SavedData formats.
+ * Indices are only stable within one palette; files store the palette next to the data that refers to it.
+ */
+final class WildexMobIdPalette {
+
+    private final List<ResourceLocation> ids = new ArrayList<>();
+    private final Map<ResourceLocation, Integer> indices = new HashMap<>();
+
+    int getOrAdd(ResourceLocation id) {
+        Integer index = indices.get(id);
+        if (index != null) return index;
+
+        int next = ids.size();
+        ids.add(id);
+        indices.put(id, next);
+        return next;
+    }
+
+    ListTag save() {
+        ListTag list = new ListTag();
+        for (ResourceLocation id : ids) {
+            list.add(StringTag.valueOf(id.toString()));
+        }
+        return list;
+    }
+
+    /**
+     * Reads a stored palette as a plain list; entries that no longer parse stay in place as {@code null}
+     * so that stored indices keep pointing at the right slot.
+     */
+    static List<ResourceLocation> read(ListTag list) {
+        List<ResourceLocation> out = new ArrayList<>(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            out.add(list.get(i).getId() == Tag.TAG_STRING ? ResourceLocation.tryParse(list.getString(i)) : null);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,261 @@
+package de.coldfang.wildex.world;
+
+import de.coldfang.wildex.Wildex;
+import de.coldfang.wildex.config.CommonConfig;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Optional storage backend that keeps per-player Wildex data in one file per player
+ * ({@code data/wildex_players/<uuid>.dat}, one section per data kind). Only players that changed are written
+ * on save, online players stay loaded, and offline players are loaded on demand and dropped after the next save.
+ */
+public final class WildexPlayerShardStore {
+
+    private static final String DIRECTORY = "wildex_players";
+    private static final String FILE_SUFFIX = ".dat";
+
+    private static final List<WildexPlayerShardedData> KINDS = new ArrayList<>();
+    private static final Set<UUID> LOADED = new HashSet<>();
+    private static final Set<UUID> DIRTY = new LinkedHashSet<>();
+
+    private static MinecraftServer server = null;
+    private static Path directory = null;
+    private static boolean active = false;
+
+    private WildexPlayerShardStore() {
+    }
+
+    public static void open(MinecraftServer minecraftServer) {
+        close();
+        if (minecraftServer == null) return;
+
+        ServerLevel overworld = minecraftServer.overworld();
+        server = minecraftServer;
+        directory = minecraftServer.getWorldPath(LevelResource.ROOT).resolve("data").resolve(DIRECTORY);
+        KINDS.add(WildexWorldPlayerDiscoveryData.get(overworld));
+        KINDS.add(WildexWorldPlayerDiscoveryDetailsData.get(overworld));
+        KINDS.add(WildexWorldPlayerKillData.get(overworld));
+        KINDS.add(WildexWorldPlayerViewedEntriesData.get(overworld));
+        KINDS.add(WildexWorldPlayerFavoriteEntriesData.get(overworld));
+        KINDS.add(WildexWorldPlayerUiStateData.get(overworld));
+        KINDS.add(WildexWorldPlayerCooldownData.get(overworld));
+        KINDS.add(WildexWorldPlayerSharePayoutData.get(overworld));
+        KINDS.add(WildexWorldPlayerSharePrefsData.get(overworld));
+
+        if (CommonConfig.INSTANCE.shardedPlayerData.get()) {
+            moveBlobPlayersToShards();
+            active = true;
+        } else {
+            moveShardPlayersToBlobs();
+        }
+    }
+
+    public static void close() {
+        if (active) {
+            flush();
+        }
+        KINDS.clear();
+        LOADED.clear();
+        DIRTY.clear();
+        server = null;
+        directory = null;
+        active = false;
+    }
+
+    static boolean isActive() {
+        return active;
+    }
+
+    static void markDirty(UUID playerId) {
+        if (!active || playerId == null) return;
+        ensureLoaded(playerId);
+        DIRTY.add(playerId);
+    }
+
+    static void ensureLoaded(UUID playerId) {
+        if (!active || playerId == null || LOADED.contains(playerId)) return;
+        // Mark first so section reads that touch accessors do not recurse into another load.
+        LOADED.add(playerId);
+
+        CompoundTag root = readShard(playerId);
+        for (WildexPlayerShardedData kind : KINDS) {
+            if (!kind.playersInShards()) continue;
+            kind.forgetPlayer(playerId);
+            kind.readPlayer(playerId, root.getCompound(kind.dataName()));
+        }
+    }
+
+    public static void onPlayerLoggedIn(UUID playerId) {
+        ensureLoaded(playerId);
+    }
+
+    public static void onPlayerLoggedOut(UUID playerId) {
+        if (!active || playerId == null) return;
+        if (DIRTY.remove(playerId)) {
+            writeShard(playerId);
+        }
+        unload(playerId);
+    }
+
+    /**
+     * Writes every player changed since the last flush and drops offline players that were only loaded on demand.
+     */
+    public static void flush() {
+        if (!active) return;
+
+        for (UUID playerId : DIRTY) {
+            writeShard(playerId);
+        }
+        DIRTY.clear();
+
+        for (UUID playerId : List.copyOf(LOADED)) {
+            if (server != null && server.getPlayerList().getPlayer(playerId) != null) continue;
+            unload(playerId);
+        }
+    }
+
+    private static void unload(UUID playerId) {
+        if (!LOADED.remove(playerId)) return;
+        for (WildexPlayerShardedData kind : KINDS) {
+            if (kind.playersInShards()) kind.forgetPlayer(playerId);
+        }
+    }
+
+    private static void moveBlobPlayersToShards() {
+        List<WildexPlayerShardedData> moving = new ArrayList<>();
+        Set<UUID> players = new HashSet<>();
+        for (WildexPlayerShardedData kind : KINDS) {
+            if (kind.playersInShards()) continue;
+            moving.add(kind);
+            players.addAll(kind.playerIds());
+        }
+        if (moving.isEmpty()) return;
+
+        // Shards are written right away so the blobs can drop their player sections on the next save.
+        for (UUID playerId : players) {
+            CompoundTag root = readShard(playerId);
+            for (WildexPlayerShardedData kind : moving) {
+                CompoundTag section = new CompoundTag();
+                kind.writePlayer(playerId, section);
+                if (section.isEmpty()) {
+                    root.remove(kind.dataName());
+                } else {
+                    root.put(kind.dataName(), section);
+                }
+            }
+            if (!writeRoot(playerId, root)) {
+                Wildex.LOGGER.warn("Wildex could not move player data to shard files; keeping shared storage");
+                return;
+            }
+        }
+
+        for (WildexPlayerShardedData kind : moving) {
+            for (UUID playerId : List.copyOf(kind.playerIds())) {
+                kind.forgetPlayer(playerId);
+            }
+            kind.setPlayersInShards(true);
+        }
+    }
+
+    private static void moveShardPlayersToBlobs() {
+        List<WildexPlayerShardedData> moving = new ArrayList<>();
+        for (WildexPlayerShardedData kind : KINDS) {
+            if (kind.playersInShards()) moving.add(kind);
+        }
+        if (moving.isEmpty() || directory == null || !Files.isDirectory(directory)) {
+            for (WildexPlayerShardedData kind : moving) {
+                kind.setPlayersInShards(false);
+            }
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                UUID playerId;
+                try {
+                    playerId = UUID.fromString(name.substring(0, name.length() - FILE_SUFFIX.length()));
+                } catch (Exception ignored) {
+                    continue;
+                }
+
+                CompoundTag root = readShard(playerId);
+                for (WildexPlayerShardedData kind : moving) {
+                    kind.readPlayer(playerId, root.getCompound(kind.dataName()));
+                }
+            }
+        } catch (IOException e) {
+            Wildex.LOGGER.warn("Wildex could not read player shard files from {}", directory, e);
+            return;
+        }
+
+        for (WildexPlayerShardedData kind : moving) {
+            kind.setPlayersInShards(false);
+        }
+    }
+
+    private static void writeShard(UUID playerId) {
+        CompoundTag root = new CompoundTag();
+        for (WildexPlayerShardedData kind : KINDS) {
+            if (!kind.playersInShards()) continue;
+            CompoundTag section = new CompoundTag();
+            kind.writePlayer(playerId, section);
+            if (!section.isEmpty()) root.put(kind.dataName(), section);
+        }
+        writeRoot(playerId, root);
+    }
+
+    private static boolean writeRoot(UUID playerId, CompoundTag root) {
+        if (directory == null) return false;
+        Path file = shardFile(playerId);
+        try {
+            if (root.isEmpty()) {
+                Files.deleteIfExists(file);
+                return true;
+            }
+
+            Files.createDirectories(directory);
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            NbtIo.writeCompressed(root, tmp);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            Wildex.LOGGER.warn("Wildex failed to write player shard {}", file, e);
+            return false;
+        }
+    }
+
+    private static CompoundTag readShard(UUID playerId) {
+        if (directory == null) return new CompoundTag();
+        Path file = shardFile(playerId);
+        if (!Files.isRegularFile(file)) return new CompoundTag();
+
+        try {
+            return NbtIo.readCompressed(file, NbtAccounter.unlimitedHeap());
+        } catch (IOException e) {
+            Wildex.LOGGER.warn("Wildex failed to read player shard {}", file, e);
+            return new CompoundTag();
+        }
+    }
+
+    private static Path shardFile(UUID playerId) {
+        return directory.resolve(playerId + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,62 @@
+package de.coldfang.wildex.world;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.saveddata.SavedData;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * SavedData whose per-player state can live in per-player shard files instead of the shared blob.
+ * See {@link WildexPlayerShardStore}.
+ */
+abstract class WildexPlayerShardedData extends SavedData {
+
+    private static final String PLAYERS_IN_SHARDS_KEY = "__players_in_shards";
+
+    private boolean playersInShards;
+
+    abstract String dataName();
+
+    abstract Collection<UUID> playerIds();
+
+    abstract void writePlayer(UUID playerId, CompoundTag out);
+
+    abstract void readPlayer(UUID playerId, CompoundTag in);
+
+    abstract void forgetPlayer(UUID playerId);
+
+    final boolean playersInShards() {
+        return playersInShards;
+    }
+
+    final void setPlayersInShards(boolean value) {
+        if (playersInShards == value) return;
+        playersInShards = value;
+        setDirty();
+    }
+
+    final void readShardState(CompoundTag tag) {
+        playersInShards = tag.getBoolean(PLAYERS_IN_SHARDS_KEY);
+    }
+
+    final void writeShardState(CompoundTag tag) {
+        if (playersInShards) {
+            tag.putBoolean(PLAYERS_IN_SHARDS_KEY, true);
+        }
+    }
+
+    final void markPlayerDirty(UUID playerId) {
+        if (playersInShards && WildexPlayerShardStore.isActive()) {
+            WildexPlayerShardStore.markDirty(playerId);
+        } else {
+            setDirty();
+        }
+    }
+
+    final void ensurePlayer(UUID playerId) {
+        if (playersInShards && playerId != null) {
+            WildexPlayerShardStore.ensureLoaded(playerId);
+        }
+    }
+}
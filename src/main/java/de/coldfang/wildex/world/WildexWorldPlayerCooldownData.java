@@ -6,15 +6,15 @@ import net.minecraft.nbt.LongTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
-public final class WildexWorldPlayerCooldownData extends SavedData {
+public final class WildexWorldPlayerCooldownData extends WildexPlayerShardedData {
 
     private static final String DATA_NAME = "wildex_player_cooldowns";
     private static final String SPYGLASS_PULSE_KEY = "spyglass_pulse";
@@ -74,24 +74,54 @@ public final class WildexWorldPlayerCooldownData extends SavedData {
 
     public long getSpyglassPulseCooldownEnd(UUID playerId) {
         if (playerId == null) return 0L;
+        ensurePlayer(playerId);
         return spyglassPulseCooldownEnd.getOrDefault(playerId, 0L);
     }
 
     public void setSpyglassPulseCooldownEnd(UUID playerId, long endGameTime) {
         if (playerId == null) return;
 
+        ensurePlayer(playerId);
         if (endGameTime <= 0L) {
-            if (spyglassPulseCooldownEnd.remove(playerId) != null) setDirty();
+            if (spyglassPulseCooldownEnd.remove(playerId) != null) markPlayerDirty(playerId);
             return;
         }
 
         Long prev = spyglassPulseCooldownEnd.put(playerId, endGameTime);
-        if (prev == null || prev != endGameTime) setDirty();
+        if (prev == null || prev != endGameTime) markPlayerDirty(playerId);
+    }
+
+    @Override
+    String dataName() {
+        return DATA_NAME;
+    }
+
+    @Override
+    Collection<UUID> playerIds() {
+        return spyglassPulseCooldownEnd.keySet();
+    }
+
+    @Override
+    void writePlayer(UUID playerId, CompoundTag out) {
+        Long end = spyglassPulseCooldownEnd.get(playerId);
+        if (end != null && end > 0L) out.putLong(SPYGLASS_PULSE_KEY, end);
+    }
+
+    @Override
+    void readPlayer(UUID playerId, CompoundTag in) {
+        long end = in.getLong(SPYGLASS_PULSE_KEY);
+        if (end > 0L) spyglassPulseCooldownEnd.put(playerId, end);
+    }
+
+    @Override
+    void forgetPlayer(UUID playerId) {
+        spyglassPulseCooldownEnd.remove(playerId);
     }
 
     private static WildexWorldPlayerCooldownData load(CompoundTag tag, HolderLookup.Provider provider) {
         WildexWorldPlayerCooldownData data = new WildexWorldPlayerCooldownData();
         data.migratedToOverworldStorage = tag.getBoolean(MIGRATED_KEY);
+        data.readShardState(tag);
 
         if (!tag.contains(SPYGLASS_PULSE_KEY, Tag.TAG_COMPOUND)) return data;
 
@@ -116,7 +146,8 @@ public final class WildexWorldPlayerCooldownData extends SavedData {
     @Override
     @NotNull
     public CompoundTag save(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
-        if (!spyglassPulseCooldownEnd.isEmpty()) {
+        writeShardState(tag);
+        if (!playersInShards() && !spyglassPulseCooldownEnd.isEmpty()) {
             CompoundTag root = new CompoundTag();
             for (var e : spyglassPulseCooldownEnd.entrySet()) {
                 root.put(e.getKey().toString(), LongTag.valueOf(e.getValue()));
@@ -1,6 +1,7 @@
 package de.coldfang.wildex.world;
 
 import de.coldfang.wildex.util.WildexMobFilters;
+import de.coldfang.wildex.util.WildexMobIndex;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -9,29 +10,45 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
-public final class WildexWorldPlayerDiscoveryData extends SavedData {
+public final class WildexWorldPlayerDiscoveryData extends WildexPlayerShardedData {
 
     private static final String DATA_NAME = "wildex_player_discovery";
     private static final String RECEIVED_BOOK_KEY = "__received_book";
     private static final String COMPLETE_KEY = "__wildex_complete";
     private static final String MIGRATED_KEY = "__migrated_to_overworld_storage";
+    private static final String FORMAT_KEY = "__format";
+    private static final String PALETTE_KEY = "__palette";
+    private static final String PLAYERS_KEY = "__players";
+    private static final int FORMAT_PALETTE_BITSET = 2;
+    private static final String SHARD_MOBS_KEY = "mobs";
+    private static final String SHARD_RECEIVED_BOOK_KEY = "received_book";
+    private static final String SHARD_COMPLETE_KEY = "complete";
 
     private static final Factory<WildexWorldPlayerDiscoveryData> FACTORY =
             new Factory<>(WildexWorldPlayerDiscoveryData::new, WildexWorldPlayerDiscoveryData::load);
 
-    private final Map<UUID, Set<ResourceLocation>> discovered = new HashMap<>();
+    // Discoveries are bits over WildexMobIndex; files store them against their own palette. Excluded mobs are kept
+    // but filtered on read, and ids of removed mobs are carried along unindexed, so progress survives a mod being
+    // temporarily removed.
+    private final Map<UUID, BitSet> discovered = new HashMap<>();
+    private final Map<UUID, Set<ResourceLocation>> unindexed = new HashMap<>();
     private final Set<UUID> receivedBook = new HashSet<>();
     private final Set<UUID> complete = new HashSet<>();
+    private final Map<UUID, Integer> filteredCounts = new HashMap<>();
+    private int filteredCountsGeneration = -1;
     private boolean migratedToOverworldStorage;
 
     public static WildexWorldPlayerDiscoveryData get(ServerLevel level) {
@@ -64,34 +81,51 @@ public final class WildexWorldPlayerDiscoveryData extends SavedData {
     private void mergeFromLegacy(WildexWorldPlayerDiscoveryData legacy) {
         if (legacy == this) return;
 
-        for (Map.Entry<UUID, Set<ResourceLocation>> entry : legacy.discovered.entrySet()) {
+        for (Map.Entry<UUID, BitSet> entry : legacy.discovered.entrySet()) {
             UUID playerId = entry.getKey();
             if (playerId == null || entry.getValue() == null || entry.getValue().isEmpty()) continue;
 
-            Set<ResourceLocation> target = discovered.computeIfAbsent(playerId, ignored -> new HashSet<>());
-            for (ResourceLocation mobId : entry.getValue()) {
-                if (!WildexMobFilters.isTrackable(mobId)) continue;
-                target.add(mobId);
+            BitSet source = entry.getValue();
+            BitSet target = discovered.computeIfAbsent(playerId, ignored -> new BitSet());
+            for (int i = source.nextSetBit(0); i >= 0; i = source.nextSetBit(i + 1)) {
+                if (WildexMobFilters.isTrackable(WildexMobIndex.id(i))) target.set(i);
             }
+            if (target.isEmpty()) discovered.remove(playerId);
+        }
+
+        for (Map.Entry<UUID, Set<ResourceLocation>> entry : legacy.unindexed.entrySet()) {
+            unindexed.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(entry.getValue());
         }
 
         receivedBook.addAll(legacy.receivedBook);
         complete.addAll(legacy.complete);
+        filteredCountsGeneration = -1;
     }
 
     public boolean isDiscovered(UUID player, ResourceLocation mobId) {
         if (player == null || mobId == null) return false;
         if (!WildexMobFilters.isTrackable(mobId)) return false;
-        return discovered.getOrDefault(player, Set.of()).contains(mobId);
+        ensurePlayer(player);
+        BitSet bits = discovered.get(player);
+        int index = WildexMobIndex.find(mobId);
+        return bits != null && index >= 0 && bits.get(index);
     }
 
     public boolean markDiscovered(UUID player, ResourceLocation mobId) {
         if (player == null || mobId == null) return false;
         if (!WildexMobFilters.isTrackable(mobId)) return false;
 
-        Set<ResourceLocation> set = discovered.computeIfAbsent(player, k -> new HashSet<>());
-        boolean added = set.add(mobId);
-        if (added) setDirty();
+        int index = WildexMobIndex.find(mobId);
+        if (index < 0) return false;
+
+        ensurePlayer(player);
+        BitSet bits = discovered.computeIfAbsent(player, k -> new BitSet());
+        boolean added = !bits.get(index);
+        bits.set(index);
+        if (added) {
+            filteredCounts.merge(player, 1, Integer::sum);
+            markPlayerDirty(player);
+        }
         return added;
     }
 
@@ -99,26 +133,31 @@ public final class WildexWorldPlayerDiscoveryData extends SavedData {
         if (player == null || mobId == null) return false;
         if (!WildexMobFilters.isTrackable(mobId)) return false;
 
-        Set<ResourceLocation> set = discovered.get(player);
-        if (set == null || set.isEmpty()) return false;
-
-        boolean removed = set.remove(mobId);
-        if (!removed) return false;
+        ensurePlayer(player);
+        BitSet bits = discovered.get(player);
+        int index = WildexMobIndex.find(mobId);
+        if (bits == null || index < 0 || !bits.get(index)) return false;
 
-        if (set.isEmpty()) {
+        bits.clear(index);
+        if (bits.isEmpty()) {
             discovered.remove(player);
+            filteredCounts.remove(player);
+        } else {
+            filteredCounts.computeIfPresent(player, (k, v) -> v > 1 ? v - 1 : null);
         }
-        setDirty();
+        markPlayerDirty(player);
         return true;
     }
 
     public Set<ResourceLocation> getDiscovered(UUID player) {
         if (player == null) return Set.of();
-        Set<ResourceLocation> set = discovered.get(player);
-        if (set == null || set.isEmpty()) return Set.of();
+        ensurePlayer(player);
+        BitSet bits = discovered.get(player);
+        if (bits == null || bits.isEmpty()) return Set.of();
 
         Set<ResourceLocation> out = new HashSet<>();
-        for (ResourceLocation rl : set) {
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            ResourceLocation rl = WildexMobIndex.id(i);
             if (WildexMobFilters.isTrackable(rl)) out.add(rl);
         }
 
@@ -126,47 +165,124 @@ public final class WildexWorldPlayerDiscoveryData extends SavedData {
         return Set.copyOf(out);
     }
 
+    /**
+     * Visits the trackable discovered mobs of {@code player} without copying them into a set.
+     */
+    public void forEachDiscovered(UUID player, Consumer<ResourceLocation> action) {
+        if (player == null || action == null) return;
+        ensurePlayer(player);
+        BitSet bits = discovered.get(player);
+        if (bits == null) return;
+
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            ResourceLocation rl = WildexMobIndex.id(i);
+            if (WildexMobFilters.isTrackable(rl)) action.accept(rl);
+        }
+    }
+
     public int getFilteredDiscoveredCount(UUID player) {
         if (player == null) return 0;
+        ensurePlayer(player);
+        revalidateFilteredCounts();
+        return filteredCounts.getOrDefault(player, 0);
+    }
 
-        Set<ResourceLocation> set = discovered.get(player);
-        if (set == null || set.isEmpty()) return 0;
+    private void revalidateFilteredCounts() {
+        int generation = WildexMobFilters.generation();
+        if (generation == filteredCountsGeneration) return;
 
-        int count = 0;
-        for (ResourceLocation rl : set) {
-            if (WildexMobFilters.isTrackable(rl)) count++;
+        // Stored bits can point at ids excluded after load; recount them once per filter change.
+        filteredCounts.clear();
+        int size = WildexMobIndex.size();
+        BitSet trackable = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (WildexMobFilters.isTrackable(WildexMobIndex.id(i))) trackable.set(i);
+        }
+        for (Map.Entry<UUID, BitSet> e : discovered.entrySet()) {
+            BitSet counted = (BitSet) e.getValue().clone();
+            counted.and(trackable);
+            int count = counted.cardinality();
+            if (count > 0) filteredCounts.put(e.getKey(), count);
         }
-        return Math.max(0, count);
+        filteredCountsGeneration = generation;
     }
 
     public boolean isComplete(UUID player) {
         if (player == null) return false;
+        ensurePlayer(player);
         return complete.contains(player);
     }
 
     public void markComplete(UUID player) {
         if (player == null) return;
+        ensurePlayer(player);
         if (complete.add(player)) {
-            setDirty();
+            markPlayerDirty(player);
         }
     }
 
     public void unmarkComplete(UUID player) {
         if (player == null) return;
+        ensurePlayer(player);
         if (complete.remove(player)) {
-            setDirty();
+            markPlayerDirty(player);
         }
     }
 
     public boolean hasReceivedBook(UUID player) {
         if (player == null) return false;
+        ensurePlayer(player);
         return receivedBook.contains(player);
     }
 
     public void markReceivedBook(UUID player) {
         if (player == null) return;
+        ensurePlayer(player);
         boolean added = receivedBook.add(player);
-        if (added) setDirty();
+        if (added) markPlayerDirty(player);
+    }
+
+    @Override
+    String dataName() {
+        return DATA_NAME;
+    }
+
+    @Override
+    Collection<UUID> playerIds() {
+        Set<UUID> out = new HashSet<>(discovered.keySet());
+        out.addAll(unindexed.keySet());
+        out.addAll(receivedBook);
+        out.addAll(complete);
+        return out;
+    }
+
+    @Override
+    void writePlayer(UUID playerId, CompoundTag out) {
+        ListTag mobs = new ListTag();
+        forEachStored(playerId, rl -> mobs.add(StringTag.valueOf(rl.toString())));
+        if (!mobs.isEmpty()) out.put(SHARD_MOBS_KEY, mobs);
+        if (receivedBook.contains(playerId)) out.putBoolean(SHARD_RECEIVED_BOOK_KEY, true);
+        if (complete.contains(playerId)) out.putBoolean(SHARD_COMPLETE_KEY, true);
+    }
+
+    @Override
+    void readPlayer(UUID playerId, CompoundTag in) {
+        ListTag mobs = in.getList(SHARD_MOBS_KEY, Tag.TAG_STRING);
+        for (int i = 0; i < mobs.size(); i++) {
+            store(playerId, ResourceLocation.tryParse(mobs.getString(i)));
+        }
+        if (in.getBoolean(SHARD_RECEIVED_BOOK_KEY)) receivedBook.add(playerId);
+        if (in.getBoolean(SHARD_COMPLETE_KEY)) complete.add(playerId);
+        filteredCountsGeneration = -1;
+    }
+
+    @Override
+    void forgetPlayer(UUID playerId) {
+        discovered.remove(playerId);
+        unindexed.remove(playerId);
+        receivedBook.remove(playerId);
+        complete.remove(playerId);
+        filteredCounts.remove(playerId);
     }
 
     private static WildexWorldPlayerDiscoveryData load(CompoundTag tag, HolderLookup.Provider provider) {
@@ -193,7 +309,37 @@ public final class WildexWorldPlayerDiscoveryData extends SavedData {
         }
 
         data.migratedToOverworldStorage = tag.getBoolean(MIGRATED_KEY);
+        data.readShardState(tag);
 
+        if (tag.getInt(FORMAT_KEY) >= FORMAT_PALETTE_BITSET) {
+            data.loadPaletteFormat(tag);
+        } else {
+            data.loadLegacyFormat(tag);
+        }
+
+        return data;
+    }
+
+    private void loadPaletteFormat(CompoundTag tag) {
+        List<ResourceLocation> storedPalette = WildexMobIdPalette.read(tag.getList(PALETTE_KEY, Tag.TAG_STRING));
+        CompoundTag players = tag.getCompound(PLAYERS_KEY);
+
+        for (String playerKey : players.getAllKeys()) {
+            UUID playerId;
+            try {
+                playerId = UUID.fromString(playerKey);
+            } catch (Exception ignored) {
+                continue;
+            }
+
+            BitSet stored = BitSet.valueOf(players.getLongArray(playerKey));
+            for (int i = stored.nextSetBit(0); i >= 0 && i < storedPalette.size(); i = stored.nextSetBit(i + 1)) {
+                store(playerId, storedPalette.get(i));
+            }
+        }
+    }
+
+    private void loadLegacyFormat(CompoundTag tag) {
         for (String playerKey : tag.getAllKeys()) {
             if (RECEIVED_BOOK_KEY.equals(playerKey)) continue;
             if (COMPLETE_KEY.equals(playerKey)) continue;
@@ -206,33 +352,62 @@ public final class WildexWorldPlayerDiscoveryData extends SavedData {
             }
 
             ListTag list = tag.getList(playerKey, StringTag.TAG_STRING);
-            Set<ResourceLocation> set = new HashSet<>();
-
             for (int i = 0; i < list.size(); i++) {
-                ResourceLocation rl = ResourceLocation.tryParse(list.getString(i));
-                if (WildexMobFilters.isTrackable(rl)) set.add(rl);
+                store(playerId, ResourceLocation.tryParse(list.getString(i)));
             }
+        }
+    }
 
-            if (!set.isEmpty()) {
-                data.discovered.put(playerId, set);
-            }
+    private void store(UUID playerId, ResourceLocation mobId) {
+        if (mobId == null) return;
+        int index = WildexMobIndex.find(mobId);
+        if (index >= 0) {
+            discovered.computeIfAbsent(playerId, k -> new BitSet()).set(index);
+        } else {
+            unindexed.computeIfAbsent(playerId, k -> new HashSet<>()).add(mobId);
         }
+    }
 
-        return data;
+    // Every stored id of the player, unfiltered; used when writing files.
+    private void forEachStored(UUID playerId, Consumer<ResourceLocation> action) {
+        BitSet bits = discovered.get(playerId);
+        if (bits != null) {
+            for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                ResourceLocation rl = WildexMobIndex.id(i);
+                if (rl != null) action.accept(rl);
+            }
+        }
+        Set<ResourceLocation> extra = unindexed.get(playerId);
+        if (extra != null) extra.forEach(action);
     }
 
     @Override
     @NotNull
     public CompoundTag save(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
-        for (Map.Entry<UUID, Set<ResourceLocation>> e : discovered.entrySet()) {
-            ListTag list = new ListTag();
-            for (ResourceLocation rl : e.getValue()) {
-                if (!WildexMobFilters.isTrackable(rl)) continue;
-                list.add(StringTag.valueOf(rl.toString()));
-            }
-            if (!list.isEmpty()) tag.put(e.getKey().toString(), list);
+        writeShardState(tag);
+        if (!playersInShards()) {
+            writePlayers(tag);
         }
 
+        if (migratedToOverworldStorage) {
+            tag.putBoolean(MIGRATED_KEY, true);
+        }
+
+        return tag;
+    }
+
+    private void writePlayers(CompoundTag tag) {
+        WildexMobIdPalette palette = new WildexMobIdPalette();
+        CompoundTag players = new CompoundTag();
+        for (UUID playerId : playerIds()) {
+            BitSet bits = new BitSet();
+            forEachStored(playerId, rl -> bits.set(palette.getOrAdd(rl)));
+            if (!bits.isEmpty()) players.putLongArray(playerId.toString(), bits.toLongArray());
+        }
+        tag.putInt(FORMAT_KEY, FORMAT_PALETTE_BITSET);
+        tag.put(PALETTE_KEY, palette.save());
+        tag.put(PLAYERS_KEY, players);
+
         if (!receivedBook.isEmpty()) {
             ListTag list = new ListTag();
             for (UUID id : receivedBook) {
@@ -248,11 +423,5 @@ public final class WildexWorldPlayerDiscoveryData extends SavedData {
             }
             tag.put(COMPLETE_KEY, list);
         }
-
-        if (migratedToOverworldStorage) {
-            tag.putBoolean(MIGRATED_KEY, true);
-        }
-
-        return tag;
     }
 }
@@ -6,15 +6,15 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
-public final class WildexWorldPlayerDiscoveryDetailsData extends SavedData {
+public final class WildexWorldPlayerDiscoveryDetailsData extends WildexPlayerShardedData {
 
     private static final String DATA_NAME = "wildex_player_discovery_details";
     private static final String MIGRATED_KEY = "__migrated_to_overworld_storage";
@@ -80,6 +80,7 @@ public final class WildexWorldPlayerDiscoveryDetailsData extends SavedData {
     public DiscoveryDetails getDetails(UUID playerId, ResourceLocation mobId) {
         if (playerId == null || mobId == null) return null;
         if (!WildexMobFilters.isTrackable(mobId)) return null;
+        ensurePlayer(playerId);
         Map<ResourceLocation, DiscoveryDetails> details = detailsByPlayer.get(playerId);
         if (details == null || details.isEmpty()) return null;
         return details.get(mobId);
@@ -93,9 +94,10 @@ public final class WildexWorldPlayerDiscoveryDetailsData extends SavedData {
         if (playerId == null || mobId == null || details == null) return;
         if (!WildexMobFilters.isTrackable(mobId)) return;
 
+        ensurePlayer(playerId);
         Map<ResourceLocation, DiscoveryDetails> byMob = detailsByPlayer.computeIfAbsent(playerId, ignored -> new HashMap<>());
         if (byMob.putIfAbsent(mobId, details) == null) {
-            setDirty();
+            markPlayerDirty(playerId);
         }
     }
 
@@ -103,6 +105,7 @@ public final class WildexWorldPlayerDiscoveryDetailsData extends SavedData {
         if (playerId == null || mobId == null) return;
         if (!WildexMobFilters.isTrackable(mobId)) return;
 
+        ensurePlayer(playerId);
         Map<ResourceLocation, DiscoveryDetails> byMob = detailsByPlayer.get(playerId);
         if (byMob == null || byMob.isEmpty()) return;
 
@@ -110,12 +113,69 @@ public final class WildexWorldPlayerDiscoveryDetailsData extends SavedData {
         if (byMob.isEmpty()) {
             detailsByPlayer.remove(playerId);
         }
-        setDirty();
+        markPlayerDirty(playerId);
+    }
+
+    @Override
+    String dataName() {
+        return DATA_NAME;
+    }
+
+    @Override
+    Collection<UUID> playerIds() {
+        return detailsByPlayer.keySet();
+    }
+
+    @Override
+    void writePlayer(UUID playerId, CompoundTag out) {
+        Map<ResourceLocation, DiscoveryDetails> details = detailsByPlayer.get(playerId);
+        if (details == null || details.isEmpty()) return;
+
+        for (Map.Entry<ResourceLocation, DiscoveryDetails> detailEntry : details.entrySet()) {
+            ResourceLocation mobId = detailEntry.getKey();
+            DiscoveryDetails value = detailEntry.getValue();
+            if (!WildexMobFilters.isTrackable(mobId) || value == null) continue;
+
+            CompoundTag detailTag = new CompoundTag();
+            detailTag.putString(TAG_SOURCE, value.sourceId());
+            if (!value.sourceDetail().isBlank()) {
+                detailTag.putString(TAG_SOURCE_DETAIL, value.sourceDetail());
+            }
+            detailTag.putString(TAG_DIMENSION, value.dimensionId().toString());
+            detailTag.putInt(TAG_X, value.x());
+            detailTag.putInt(TAG_Y, value.y());
+            detailTag.putInt(TAG_Z, value.z());
+            detailTag.putLong(TAG_DISCOVERED_AT, value.discoveredAtEpochMillis());
+            out.put(mobId.toString(), detailTag);
+        }
+    }
+
+    @Override
+    void readPlayer(UUID playerId, CompoundTag in) {
+        Map<ResourceLocation, DiscoveryDetails> detailsByMob = new HashMap<>();
+        for (String mobKey : in.getAllKeys()) {
+            ResourceLocation mobId = ResourceLocation.tryParse(mobKey);
+            if (!WildexMobFilters.isTrackable(mobId)) continue;
+
+            DiscoveryDetails details = readDetails(in.getCompound(mobKey));
+            if (details == null) continue;
+            detailsByMob.put(mobId, details);
+        }
+
+        if (!detailsByMob.isEmpty()) {
+            detailsByPlayer.put(playerId, detailsByMob);
+        }
+    }
+
+    @Override
+    void forgetPlayer(UUID playerId) {
+        detailsByPlayer.remove(playerId);
     }
 
     private static WildexWorldPlayerDiscoveryDetailsData load(CompoundTag tag, HolderLookup.Provider provider) {
         WildexWorldPlayerDiscoveryDetailsData data = new WildexWorldPlayerDiscoveryDetailsData();
         data.migratedToOverworldStorage = tag.getBoolean(MIGRATED_KEY);
+        data.readShardState(tag);
 
         for (String playerKey : tag.getAllKeys()) {
             if (MIGRATED_KEY.equals(playerKey)) continue;
@@ -127,21 +187,7 @@ public final class WildexWorldPlayerDiscoveryDetailsData extends SavedData {
                 continue;
             }
 
-            CompoundTag playerTag = tag.getCompound(playerKey);
-            Map<ResourceLocation, DiscoveryDetails> detailsByMob = new HashMap<>();
-            for (String mobKey : playerTag.getAllKeys()) {
-                ResourceLocation mobId = ResourceLocation.tryParse(mobKey);
-                if (!WildexMobFilters.isTrackable(mobId)) continue;
-
-                CompoundTag detailTag = playerTag.getCompound(mobKey);
-                DiscoveryDetails details = readDetails(detailTag);
-                if (details == null) continue;
-                detailsByMob.put(mobId, details);
-            }
-
-            if (!detailsByMob.isEmpty()) {
-                data.detailsByPlayer.put(playerId, detailsByMob);
-            }
+            data.readPlayer(playerId, tag.getCompound(playerKey));
         }
 
         return data;
@@ -171,32 +217,16 @@ public final class WildexWorldPlayerDiscoveryDetailsData extends SavedData {
 
     @Override
     public @NotNull CompoundTag save(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
-        for (Map.Entry<UUID, Map<ResourceLocation, DiscoveryDetails>> entry : detailsByPlayer.entrySet()) {
-            UUID playerId = entry.getKey();
-            Map<ResourceLocation, DiscoveryDetails> details = entry.getValue();
-            if (playerId == null || details == null || details.isEmpty()) continue;
-
-            CompoundTag playerTag = new CompoundTag();
-            for (Map.Entry<ResourceLocation, DiscoveryDetails> detailEntry : details.entrySet()) {
-                ResourceLocation mobId = detailEntry.getKey();
-                DiscoveryDetails value = detailEntry.getValue();
-                if (!WildexMobFilters.isTrackable(mobId) || value == null) continue;
-
-                CompoundTag detailTag = new CompoundTag();
-                detailTag.putString(TAG_SOURCE, value.sourceId());
-                if (!value.sourceDetail().isBlank()) {
-                    detailTag.putString(TAG_SOURCE_DETAIL, value.sourceDetail());
+        writeShardState(tag);
+        if (!playersInShards()) {
+            for (UUID playerId : detailsByPlayer.keySet()) {
+                if (playerId == null) continue;
+
+                CompoundTag playerTag = new CompoundTag();
+                writePlayer(playerId, playerTag);
+                if (!playerTag.isEmpty()) {
+                    tag.put(playerId.toString(), playerTag);
                 }
-                detailTag.putString(TAG_DIMENSION, value.dimensionId().toString());
-                detailTag.putInt(TAG_X, value.x());
-                detailTag.putInt(TAG_Y, value.y());
-                detailTag.putInt(TAG_Z, value.z());
-                detailTag.putLong(TAG_DISCOVERED_AT, value.discoveredAtEpochMillis());
-                playerTag.put(mobId.toString(), detailTag);
-            }
-
-            if (!playerTag.isEmpty()) {
-                tag.put(playerId.toString(), playerTag);
             }
         }
 
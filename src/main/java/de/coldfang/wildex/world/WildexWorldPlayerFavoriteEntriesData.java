@@ -9,9 +9,9 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -19,10 +19,11 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
-public final class WildexWorldPlayerFavoriteEntriesData extends SavedData {
+public final class WildexWorldPlayerFavoriteEntriesData extends WildexPlayerShardedData {
 
     private static final String DATA_NAME = "wildex_player_favorite_entries";
     private static final String MIGRATED_KEY = "__migrated_to_overworld_storage";
+    private static final String SHARD_MOBS_KEY = "mobs";
 
     private static final Factory<WildexWorldPlayerFavoriteEntriesData> FACTORY =
             new Factory<>(WildexWorldPlayerFavoriteEntriesData::new, WildexWorldPlayerFavoriteEntriesData::load);
@@ -75,18 +76,20 @@ public final class WildexWorldPlayerFavoriteEntriesData extends SavedData {
         if (playerId == null || mobId == null) return;
         if (!WildexMobFilters.isTrackable(mobId)) return;
 
+        ensurePlayer(playerId);
         Set<ResourceLocation> set = favoritesByPlayer.computeIfAbsent(playerId, ignored -> new HashSet<>());
         boolean changed = favorite ? set.add(mobId) : set.remove(mobId);
         if (changed) {
             if (set.isEmpty()) {
                 favoritesByPlayer.remove(playerId);
             }
-            setDirty();
+            markPlayerDirty(playerId);
         }
     }
 
     public Set<ResourceLocation> getFavorites(UUID playerId) {
         if (playerId == null) return Set.of();
+        ensurePlayer(playerId);
         Set<ResourceLocation> set = favoritesByPlayer.get(playerId);
         if (set == null || set.isEmpty()) return Set.of();
 
@@ -98,9 +101,36 @@ public final class WildexWorldPlayerFavoriteEntriesData extends SavedData {
         return Set.copyOf(filtered);
     }
 
+    @Override
+    String dataName() {
+        return DATA_NAME;
+    }
+
+    @Override
+    Collection<UUID> playerIds() {
+        return favoritesByPlayer.keySet();
+    }
+
+    @Override
+    void writePlayer(UUID playerId, CompoundTag out) {
+        ListTag list = writeMobList(favoritesByPlayer.get(playerId));
+        if (!list.isEmpty()) out.put(SHARD_MOBS_KEY, list);
+    }
+
+    @Override
+    void readPlayer(UUID playerId, CompoundTag in) {
+        readMobList(playerId, in.getList(SHARD_MOBS_KEY, Tag.TAG_STRING));
+    }
+
+    @Override
+    void forgetPlayer(UUID playerId) {
+        favoritesByPlayer.remove(playerId);
+    }
+
     private static WildexWorldPlayerFavoriteEntriesData load(CompoundTag tag, HolderLookup.Provider provider) {
         WildexWorldPlayerFavoriteEntriesData data = new WildexWorldPlayerFavoriteEntriesData();
         data.migratedToOverworldStorage = tag.getBoolean(MIGRATED_KEY);
+        data.readShardState(tag);
 
         for (String playerKey : tag.getAllKeys()) {
             if (MIGRATED_KEY.equals(playerKey)) continue;
@@ -112,32 +142,43 @@ public final class WildexWorldPlayerFavoriteEntriesData extends SavedData {
                 continue;
             }
 
-            ListTag list = tag.getList(playerKey, Tag.TAG_STRING);
-            Set<ResourceLocation> favorites = new HashSet<>();
-            for (int i = 0; i < list.size(); i++) {
-                ResourceLocation mobId = ResourceLocation.tryParse(list.getString(i));
-                if (!WildexMobFilters.isTrackable(mobId)) continue;
-                favorites.add(mobId);
-            }
-            if (!favorites.isEmpty()) data.favoritesByPlayer.put(playerId, favorites);
+            data.readMobList(playerId, tag.getList(playerKey, Tag.TAG_STRING));
         }
 
         return data;
     }
 
+    private void readMobList(UUID playerId, ListTag list) {
+        Set<ResourceLocation> favorites = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            ResourceLocation mobId = ResourceLocation.tryParse(list.getString(i));
+            if (!WildexMobFilters.isTrackable(mobId)) continue;
+            favorites.add(mobId);
+        }
+        if (!favorites.isEmpty()) favoritesByPlayer.put(playerId, favorites);
+    }
+
+    private static ListTag writeMobList(Set<ResourceLocation> favorites) {
+        ListTag list = new ListTag();
+        if (favorites == null) return list;
+        for (ResourceLocation mobId : favorites) {
+            if (!WildexMobFilters.isTrackable(mobId)) continue;
+            list.add(StringTag.valueOf(mobId.toString()));
+        }
+        return list;
+    }
+
     @Override
     public @NotNull CompoundTag save(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
-        for (Map.Entry<UUID, Set<ResourceLocation>> e : favoritesByPlayer.entrySet()) {
-            UUID playerId = e.getKey();
-            Set<ResourceLocation> favorites = e.getValue();
-            if (playerId == null || favorites == null || favorites.isEmpty()) continue;
-
-            ListTag list = new ListTag();
-            for (ResourceLocation mobId : favorites) {
-                if (!WildexMobFilters.isTrackable(mobId)) continue;
-                list.add(StringTag.valueOf(mobId.toString()));
+        writeShardState(tag);
+        if (!playersInShards()) {
+            for (Map.Entry<UUID, Set<ResourceLocation>> e : favoritesByPlayer.entrySet()) {
+                UUID playerId = e.getKey();
+                if (playerId == null) continue;
+
+                ListTag list = writeMobList(e.getValue());
+                if (!list.isEmpty()) tag.put(playerId.toString(), list);
             }
-            if (!list.isEmpty()) tag.put(playerId.toString(), list);
         }
 
         if (migratedToOverworldStorage) {
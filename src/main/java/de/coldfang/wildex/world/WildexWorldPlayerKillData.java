@@ -1,27 +1,43 @@
 package de.coldfang.wildex.world;
 
+import de.coldfang.wildex.util.WildexMobIndex;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
-public final class WildexWorldPlayerKillData extends SavedData {
+public final class WildexWorldPlayerKillData extends WildexPlayerShardedData {
 
     private static final String DATA_NAME = "wildex_player_kills";
     private static final String MIGRATED_KEY = "__migrated_to_overworld_storage";
+    private static final String FORMAT_KEY = "__format";
+    private static final String PALETTE_KEY = "__palette";
+    private static final String PLAYERS_KEY = "__players";
+    private static final int FORMAT_PALETTE_COUNTS = 2;
+    private static final String SHARD_MOBS_KEY = "mobs";
+    private static final String SHARD_COUNTS_KEY = "counts";
+    private static final int[] NO_KILLS = new int[0];
 
     private static final Factory<WildexWorldPlayerKillData> FACTORY =
             new Factory<>(WildexWorldPlayerKillData::new, WildexWorldPlayerKillData::load);
 
-    private final Map<UUID, Map<ResourceLocation, Integer>> kills = new HashMap<>();
+    // Per-player counters indexed by WildexMobIndex; files store them against their own palette. Counts for ids
+    // outside the index (mods removed since) are only carried along so they survive the next save.
+    private final Map<UUID, int[]> kills = new HashMap<>();
+    private final Map<UUID, Map<ResourceLocation, Integer>> unindexed = new HashMap<>();
     private boolean migratedToOverworldStorage;
 
     public static WildexWorldPlayerKillData get(ServerLevel level) {
@@ -54,95 +70,210 @@ public final class WildexWorldPlayerKillData extends SavedData {
     private void mergeFromLegacy(WildexWorldPlayerKillData legacy) {
         if (legacy == this) return;
 
-        for (Map.Entry<UUID, Map<ResourceLocation, Integer>> playerEntry : legacy.kills.entrySet()) {
+        for (Map.Entry<UUID, int[]> playerEntry : legacy.kills.entrySet()) {
             UUID playerId = playerEntry.getKey();
-            if (playerId == null || playerEntry.getValue() == null || playerEntry.getValue().isEmpty()) continue;
+            int[] incoming = playerEntry.getValue();
+            if (playerId == null || incoming == null) continue;
 
-            Map<ResourceLocation, Integer> target = kills.computeIfAbsent(playerId, ignored -> new HashMap<>());
-            for (Map.Entry<ResourceLocation, Integer> mobEntry : playerEntry.getValue().entrySet()) {
-                ResourceLocation mobId = mobEntry.getKey();
-                if (mobId == null) continue;
-
-                int incoming = Math.max(0, mobEntry.getValue() == null ? 0 : mobEntry.getValue());
-                if (incoming <= 0) continue;
-
-                int existing = Math.max(0, target.getOrDefault(mobId, 0));
-                long merged = (long) existing + (long) incoming;
-                int next = merged > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) merged;
-
-                if (next != existing) {
-                    target.put(mobId, next);
-                }
+            for (int ordinal = 0; ordinal < incoming.length; ordinal++) {
+                if (incoming[ordinal] > 0) add(playerId, ordinal, incoming[ordinal]);
+            }
+        }
+        for (Map.Entry<UUID, Map<ResourceLocation, Integer>> playerEntry : legacy.unindexed.entrySet()) {
+            for (Map.Entry<ResourceLocation, Integer> e : playerEntry.getValue().entrySet()) {
+                add(playerEntry.getKey(), e.getKey(), e.getValue());
             }
         }
     }
 
     public int getKills(UUID player, ResourceLocation mobId) {
         if (player == null || mobId == null) return 0;
-        return kills.getOrDefault(player, Map.of()).getOrDefault(mobId, 0);
+        ensurePlayer(player);
+        int[] counts = kills.get(player);
+        int ordinal = WildexMobIndex.find(mobId);
+        if (counts == null || ordinal < 0 || ordinal >= counts.length) return 0;
+        return counts[ordinal];
     }
 
     public int increment(UUID player, ResourceLocation mobId) {
         if (player == null || mobId == null) return 0;
 
-        Map<ResourceLocation, Integer> map = kills.computeIfAbsent(player, k -> new HashMap<>());
-        int existing = Math.max(0, map.getOrDefault(mobId, 0));
-        int next = existing >= Integer.MAX_VALUE ? Integer.MAX_VALUE : existing + 1;
-        map.put(mobId, next);
-
-        setDirty();
+        ensurePlayer(player);
+        int next = add(player, mobId, 1);
+        markPlayerDirty(player);
         return next;
     }
 
     @SuppressWarnings("unused")
     public Map<ResourceLocation, Integer> getMobKillCounts(UUID player) {
         if (player == null) return Map.of();
-        Map<ResourceLocation, Integer> map = kills.get(player);
-        if (map == null || map.isEmpty()) return Map.of();
-        return Map.copyOf(map);
+        ensurePlayer(player);
+        int[] counts = kills.get(player);
+        if (counts == null) return Map.of();
+
+        Map<ResourceLocation, Integer> out = new HashMap<>();
+        for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+            if (counts[ordinal] > 0) out.put(WildexMobIndex.id(ordinal), counts[ordinal]);
+        }
+        if (out.isEmpty()) return Map.of();
+        return Map.copyOf(out);
     }
 
-    private static WildexWorldPlayerKillData load(CompoundTag tag, HolderLookup.Provider provider) {
-        WildexWorldPlayerKillData data = new WildexWorldPlayerKillData();
-        data.migratedToOverworldStorage = tag.getBoolean(MIGRATED_KEY);
+    private int add(UUID player, ResourceLocation mobId, int amount) {
+        int ordinal = WildexMobIndex.find(mobId);
+        if (ordinal >= 0) return add(player, ordinal, amount);
 
-        for (String playerKey : tag.getAllKeys()) {
-            if (MIGRATED_KEY.equals(playerKey)) continue;
+        Map<ResourceLocation, Integer> counts = unindexed.computeIfAbsent(player, k -> new HashMap<>());
+        return counts.merge(mobId, amount, (a, b) -> a > Integer.MAX_VALUE - b ? Integer.MAX_VALUE : a + b);
+    }
 
-            UUID playerId;
-            try {
-                playerId = UUID.fromString(playerKey);
-            } catch (Exception ignored) {
-                continue;
-            }
+    private int add(UUID player, int ordinal, int amount) {
+        int[] counts = kills.getOrDefault(player, NO_KILLS);
+        if (ordinal >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(ordinal + 1, WildexMobIndex.size()));
+            kills.put(player, counts);
+        }
+
+        int existing = counts[ordinal];
+        int next = existing > Integer.MAX_VALUE - amount ? Integer.MAX_VALUE : existing + amount;
+        counts[ordinal] = next;
+        return next;
+    }
+
+    @Override
+    String dataName() {
+        return DATA_NAME;
+    }
+
+    @Override
+    Collection<UUID> playerIds() {
+        if (unindexed.isEmpty()) return kills.keySet();
+        Set<UUID> out = new HashSet<>(kills.keySet());
+        out.addAll(unindexed.keySet());
+        return out;
+    }
+
+    @Override
+    void writePlayer(UUID playerId, CompoundTag out) {
+        WildexMobIdPalette palette = new WildexMobIdPalette();
+        int[] packed = pack(playerId, palette);
+        if (packed.length == 0) return;
+        out.put(SHARD_MOBS_KEY, palette.save());
+        out.putIntArray(SHARD_COUNTS_KEY, packed);
+    }
+
+    @Override
+    void readPlayer(UUID playerId, CompoundTag in) {
+        if (in.contains(SHARD_COUNTS_KEY, Tag.TAG_INT_ARRAY)) {
+            List<ResourceLocation> palette = WildexMobIdPalette.read(in.getList(SHARD_MOBS_KEY, Tag.TAG_STRING));
+            readPacked(playerId, palette, in.getIntArray(SHARD_COUNTS_KEY));
+        } else {
+            readLegacyPlayer(playerId, in);
+        }
+    }
+
+    @Override
+    void forgetPlayer(UUID playerId) {
+        kills.remove(playerId);
+        unindexed.remove(playerId);
+    }
 
-            CompoundTag playerTag = tag.getCompound(playerKey);
-            Map<ResourceLocation, Integer> mobMap = new HashMap<>();
+    private int[] pack(UUID playerId, WildexMobIdPalette palette) {
+        int[] counts = kills.getOrDefault(playerId, NO_KILLS);
+        int[] packed = NO_KILLS;
+        int length = 0;
+        for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+            ResourceLocation mobId = WildexMobIndex.id(ordinal);
+            if (counts[ordinal] <= 0 || mobId == null) continue;
+
+            int index = palette.getOrAdd(mobId);
+            packed = put(packed, index, counts[ordinal]);
+            length = Math.max(length, index + 1);
+        }
+        for (Map.Entry<ResourceLocation, Integer> e : unindexed.getOrDefault(playerId, Map.of()).entrySet()) {
+            if (e.getValue() <= 0) continue;
 
-            for (String mobKey : playerTag.getAllKeys()) {
-                ResourceLocation mobId = ResourceLocation.tryParse(mobKey);
-                if (mobId == null) continue;
+            int index = palette.getOrAdd(e.getKey());
+            packed = put(packed, index, e.getValue());
+            length = Math.max(length, index + 1);
+        }
+        return length == packed.length ? packed : Arrays.copyOf(packed, length);
+    }
+
+    private static int[] put(int[] packed, int index, int count) {
+        if (index >= packed.length) {
+            packed = Arrays.copyOf(packed, Math.max(index + 1, packed.length * 2));
+        }
+        packed[index] = count;
+        return packed;
+    }
+
+    private void readPacked(UUID playerId, List<ResourceLocation> palette, int[] packed) {
+        for (int i = 0; i < packed.length && i < palette.size(); i++) {
+            ResourceLocation mobId = palette.get(i);
+            if (mobId == null || packed[i] <= 0) continue;
+            add(playerId, mobId, packed[i]);
+        }
+    }
 
-                mobMap.put(mobId, Math.max(0, playerTag.getInt(mobKey)));
+    private void readLegacyPlayer(UUID playerId, CompoundTag playerTag) {
+        for (String mobKey : playerTag.getAllKeys()) {
+            ResourceLocation mobId = ResourceLocation.tryParse(mobKey);
+            if (mobId == null) continue;
+
+            int count = playerTag.getInt(mobKey);
+            if (count > 0) add(playerId, mobId, count);
+        }
+    }
+
+    private static WildexWorldPlayerKillData load(CompoundTag tag, HolderLookup.Provider provider) {
+        WildexWorldPlayerKillData data = new WildexWorldPlayerKillData();
+        data.migratedToOverworldStorage = tag.getBoolean(MIGRATED_KEY);
+        data.readShardState(tag);
+
+        if (tag.getInt(FORMAT_KEY) >= FORMAT_PALETTE_COUNTS) {
+            List<ResourceLocation> palette = WildexMobIdPalette.read(tag.getList(PALETTE_KEY, Tag.TAG_STRING));
+            CompoundTag players = tag.getCompound(PLAYERS_KEY);
+            for (String playerKey : players.getAllKeys()) {
+                UUID playerId = parsePlayerId(playerKey);
+                if (playerId == null) continue;
+                data.readPacked(playerId, palette, players.getIntArray(playerKey));
             }
+            return data;
+        }
 
-            data.kills.put(playerId, mobMap);
+        // Files written before the packed format keep one compound of mob id -> count per player.
+        for (String playerKey : tag.getAllKeys()) {
+            UUID playerId = parsePlayerId(playerKey);
+            if (playerId == null) continue;
+            data.readLegacyPlayer(playerId, tag.getCompound(playerKey));
         }
 
         return data;
     }
 
+    private static UUID parsePlayerId(String key) {
+        try {
+            return UUID.fromString(key);
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
     @Override
     @NotNull
     public CompoundTag save(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
-        for (Map.Entry<UUID, Map<ResourceLocation, Integer>> playerEntry : kills.entrySet()) {
-            CompoundTag playerTag = new CompoundTag();
-
-            for (Map.Entry<ResourceLocation, Integer> mobEntry : playerEntry.getValue().entrySet()) {
-                playerTag.putInt(mobEntry.getKey().toString(), Math.max(0, mobEntry.getValue()));
+        writeShardState(tag);
+        if (!playersInShards()) {
+            WildexMobIdPalette palette = new WildexMobIdPalette();
+            CompoundTag players = new CompoundTag();
+            for (UUID playerId : playerIds()) {
+                int[] packed = pack(playerId, palette);
+                if (packed.length > 0) players.putIntArray(playerId.toString(), packed);
             }
-
-            tag.put(playerEntry.getKey().toString(), playerTag);
+            tag.putInt(FORMAT_KEY, FORMAT_PALETTE_COUNTS);
+            tag.put(PALETTE_KEY, palette.save());
+            tag.put(PLAYERS_KEY, players);
         }
 
         if (migratedToOverworldStorage) {
@@ -5,15 +5,15 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
-public final class WildexWorldPlayerSharePayoutData extends SavedData {
+public final class WildexWorldPlayerSharePayoutData extends WildexPlayerShardedData {
 
     private static final String DATA_NAME = "wildex_player_share_payouts";
     private static final String MIGRATED_KEY = "__migrated_to_overworld_storage";
@@ -65,13 +65,15 @@ public final class WildexWorldPlayerSharePayoutData extends SavedData {
 
     public void add(UUID playerId, ResourceLocation itemId, int amount) {
         if (playerId == null || itemId == null || amount <= 0) return;
+        ensurePlayer(playerId);
         Map<ResourceLocation, Integer> map = byPlayer.computeIfAbsent(playerId, ignored -> new HashMap<>());
         map.merge(itemId, amount, Integer::sum);
-        setDirty();
+        markPlayerDirty(playerId);
     }
 
     public int total(UUID playerId) {
         if (playerId == null) return 0;
+        ensurePlayer(playerId);
         Map<ResourceLocation, Integer> map = byPlayer.get(playerId);
         if (map == null || map.isEmpty()) return 0;
         int sum = 0;
@@ -83,15 +85,59 @@ public final class WildexWorldPlayerSharePayoutData extends SavedData {
 
     public Map<ResourceLocation, Integer> takeAll(UUID playerId) {
         if (playerId == null) return Map.of();
+        ensurePlayer(playerId);
         Map<ResourceLocation, Integer> map = byPlayer.remove(playerId);
         if (map == null || map.isEmpty()) return Map.of();
-        setDirty();
+        markPlayerDirty(playerId);
         return Map.copyOf(map);
     }
 
+    @Override
+    String dataName() {
+        return DATA_NAME;
+    }
+
+    @Override
+    Collection<UUID> playerIds() {
+        return byPlayer.keySet();
+    }
+
+    @Override
+    void writePlayer(UUID playerId, CompoundTag out) {
+        Map<ResourceLocation, Integer> map = byPlayer.get(playerId);
+        if (map == null) return;
+        for (Map.Entry<ResourceLocation, Integer> m : map.entrySet()) {
+            if (m.getKey() == null) continue;
+            int amount = Math.max(0, m.getValue() == null ? 0 : m.getValue());
+            if (amount <= 0) continue;
+            out.putInt(m.getKey().toString(), amount);
+        }
+    }
+
+    @Override
+    void readPlayer(UUID playerId, CompoundTag in) {
+        Map<ResourceLocation, Integer> map = new HashMap<>();
+        for (String itemKey : in.getAllKeys()) {
+            ResourceLocation itemId = ResourceLocation.tryParse(itemKey);
+            if (itemId == null) continue;
+            int amount = Math.max(0, in.getInt(itemKey));
+            if (amount <= 0) continue;
+            map.put(itemId, amount);
+        }
+        if (!map.isEmpty()) {
+            byPlayer.put(playerId, map);
+        }
+    }
+
+    @Override
+    void forgetPlayer(UUID playerId) {
+        byPlayer.remove(playerId);
+    }
+
     private static WildexWorldPlayerSharePayoutData load(CompoundTag tag, HolderLookup.Provider provider) {
         WildexWorldPlayerSharePayoutData data = new WildexWorldPlayerSharePayoutData();
         data.migratedToOverworldStorage = tag.getBoolean(MIGRATED_KEY);
+        data.readShardState(tag);
         for (String key : tag.getAllKeys()) {
             if (MIGRATED_KEY.equals(key)) continue;
             UUID playerId;
@@ -100,37 +146,22 @@ public final class WildexWorldPlayerSharePayoutData extends SavedData {
             } catch (Exception ignored) {
                 continue;
             }
-            CompoundTag payoutTag = tag.getCompound(key);
-            Map<ResourceLocation, Integer> map = new HashMap<>();
-            for (String itemKey : payoutTag.getAllKeys()) {
-                ResourceLocation itemId = ResourceLocation.tryParse(itemKey);
-                if (itemId == null) continue;
-                int amount = Math.max(0, payoutTag.getInt(itemKey));
-                if (amount <= 0) continue;
-                map.put(itemId, amount);
-            }
-            if (!map.isEmpty()) {
-                data.byPlayer.put(playerId, map);
-            }
+            data.readPlayer(playerId, tag.getCompound(key));
         }
         return data;
     }
 
     @Override
     public @NotNull CompoundTag save(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
-        for (Map.Entry<UUID, Map<ResourceLocation, Integer>> e : byPlayer.entrySet()) {
-            UUID playerId = e.getKey();
-            Map<ResourceLocation, Integer> map = e.getValue();
-            if (playerId == null || map == null || map.isEmpty()) continue;
-            CompoundTag payoutTag = new CompoundTag();
-            for (Map.Entry<ResourceLocation, Integer> m : map.entrySet()) {
-                if (m.getKey() == null) continue;
-                int amount = Math.max(0, m.getValue() == null ? 0 : m.getValue());
-                if (amount <= 0) continue;
-                payoutTag.putInt(m.getKey().toString(), amount);
-            }
-            if (!payoutTag.isEmpty()) {
-                tag.put(playerId.toString(), payoutTag);
+        writeShardState(tag);
+        if (!playersInShards()) {
+            for (UUID playerId : byPlayer.keySet()) {
+                if (playerId == null) continue;
+                CompoundTag payoutTag = new CompoundTag();
+                writePlayer(playerId, payoutTag);
+                if (!payoutTag.isEmpty()) {
+                    tag.put(playerId.toString(), payoutTag);
+                }
             }
         }
         if (migratedToOverworldStorage) {
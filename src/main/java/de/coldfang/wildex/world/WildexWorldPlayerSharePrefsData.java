@@ -7,15 +7,15 @@ import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
-public final class WildexWorldPlayerSharePrefsData extends SavedData {
+public final class WildexWorldPlayerSharePrefsData extends WildexPlayerShardedData {
 
     private static final String DATA_NAME = "wildex_player_share_prefs";
     private static final String ACCEPT_OFFERS_KEY = "accept_offers";
@@ -59,18 +59,45 @@ public final class WildexWorldPlayerSharePrefsData extends SavedData {
 
     public boolean isAcceptingOffers(UUID playerId) {
         if (playerId == null) return false;
+        ensurePlayer(playerId);
         return acceptingOffers.contains(playerId);
     }
 
     public void setAcceptingOffers(UUID playerId, boolean accepting) {
         if (playerId == null) return;
+        ensurePlayer(playerId);
         boolean changed;
         if (accepting) {
             changed = acceptingOffers.add(playerId);
         } else {
             changed = acceptingOffers.remove(playerId);
         }
-        if (changed) setDirty();
+        if (changed) markPlayerDirty(playerId);
+    }
+
+    @Override
+    String dataName() {
+        return DATA_NAME;
+    }
+
+    @Override
+    Collection<UUID> playerIds() {
+        return acceptingOffers;
+    }
+
+    @Override
+    void writePlayer(UUID playerId, CompoundTag out) {
+        if (acceptingOffers.contains(playerId)) out.putBoolean(ACCEPT_OFFERS_KEY, true);
+    }
+
+    @Override
+    void readPlayer(UUID playerId, CompoundTag in) {
+        if (in.getBoolean(ACCEPT_OFFERS_KEY)) acceptingOffers.add(playerId);
+    }
+
+    @Override
+    void forgetPlayer(UUID playerId) {
+        acceptingOffers.remove(playerId);
     }
 
     private static WildexWorldPlayerSharePrefsData load(CompoundTag tag, HolderLookup.Provider provider) {
@@ -85,12 +112,14 @@ public final class WildexWorldPlayerSharePrefsData extends SavedData {
             }
         }
         data.migratedToOverworldStorage = tag.getBoolean(MIGRATED_KEY);
+        data.readShardState(tag);
         return data;
     }
 
     @Override
     public @NotNull CompoundTag save(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
-        if (!acceptingOffers.isEmpty()) {
+        writeShardState(tag);
+        if (!playersInShards() && !acceptingOffers.isEmpty()) {
             ListTag list = new ListTag();
             for (UUID id : acceptingOffers) {
                 list.add(StringTag.valueOf(id.toString()));
@@ -5,15 +5,15 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
-public final class WildexWorldPlayerUiStateData extends SavedData {
+public final class WildexWorldPlayerUiStateData extends WildexPlayerShardedData {
 
     private static final String DATA_NAME = "wildex_player_ui_state";
     private static final String MIGRATED_KEY = "__migrated_to_overworld_storage";
@@ -74,6 +74,7 @@ public final class WildexWorldPlayerUiStateData extends SavedData {
 
     public UiState getState(UUID playerId) {
         if (playerId == null) return UiState.DEFAULT;
+        ensurePlayer(playerId);
         UiState state = byPlayer.get(playerId);
         return state == null ? UiState.DEFAULT : state;
     }
@@ -91,12 +92,64 @@ public final class WildexWorldPlayerUiStateData extends SavedData {
     ) {
         if (playerId == null) return;
 
+        ensurePlayer(playerId);
         UiState next = sanitize(new UiState(tabId, mobId, discoveredOnly, friendlyEnabled, neutralEnabled, hostileEnabled, tameableEnabled, favoritesEnabled));
         UiState prev = byPlayer.get(playerId);
         if (next.equals(prev)) return;
 
         byPlayer.put(playerId, next);
-        setDirty();
+        markPlayerDirty(playerId);
+    }
+
+    @Override
+    String dataName() {
+        return DATA_NAME;
+    }
+
+    @Override
+    Collection<UUID> playerIds() {
+        return byPlayer.keySet();
+    }
+
+    @Override
+    void writePlayer(UUID playerId, CompoundTag out) {
+        UiState state = byPlayer.get(playerId);
+        if (state == null) return;
+
+        out.putString(TAB_KEY, sanitizeTab(state.tabId()));
+        out.putString(MOB_KEY, sanitizeMob(state.mobId()));
+        out.putBoolean(DISCOVERED_ONLY_KEY, state.discoveredOnly());
+        out.putBoolean(FRIENDLY_FILTER_KEY, state.friendlyEnabled());
+        out.putBoolean(NEUTRAL_FILTER_KEY, state.neutralEnabled());
+        out.putBoolean(HOSTILE_FILTER_KEY, state.hostileEnabled());
+        out.putBoolean(TAMEABLE_FILTER_KEY, state.tameableEnabled());
+        out.putBoolean(FAVORITES_FILTER_KEY, state.favoritesEnabled());
+        out.putBoolean(FILTER_MENU_V2_KEY, true);
+        out.putBoolean(FILTER_MENU_V3_KEY, true);
+    }
+
+    @Override
+    void readPlayer(UUID playerId, CompoundTag t) {
+        if (t.isEmpty()) return;
+
+        String tab = t.getString(TAB_KEY);
+        String mob = t.getString(MOB_KEY);
+        boolean discoveredOnly = t.getBoolean(DISCOVERED_ONLY_KEY);
+        boolean hasFilterMenuV2 = t.getBoolean(FILTER_MENU_V2_KEY);
+        boolean friendlyEnabled = hasFilterMenuV2 && t.getBoolean(FRIENDLY_FILTER_KEY);
+        boolean neutralEnabled = hasFilterMenuV2 && t.getBoolean(NEUTRAL_FILTER_KEY);
+        boolean hostileEnabled = hasFilterMenuV2 && t.getBoolean(HOSTILE_FILTER_KEY);
+        boolean tameableEnabled = hasFilterMenuV2 && t.getBoolean(TAMEABLE_FILTER_KEY);
+        boolean favoritesEnabled = t.getBoolean(FILTER_MENU_V3_KEY) && t.getBoolean(FAVORITES_FILTER_KEY);
+        byPlayer.put(
+                playerId,
+                sanitize(new UiState(tab, mob, discoveredOnly, friendlyEnabled, neutralEnabled, hostileEnabled, tameableEnabled, favoritesEnabled))
+        );
+    }
+
+    @Override
+    void forgetPlayer(UUID playerId) {
+        byPlayer.remove(playerId);
     }
 
     private static UiState sanitize(UiState in) {
@@ -121,6 +174,7 @@ public final class WildexWorldPlayerUiStateData extends SavedData {
     private static WildexWorldPlayerUiStateData load(CompoundTag tag, HolderLookup.Provider provider) {
         WildexWorldPlayerUiStateData data = new WildexWorldPlayerUiStateData();
         data.migratedToOverworldStorage = tag.getBoolean(MIGRATED_KEY);
+        data.readShardState(tag);
 
         for (String playerKey : tag.getAllKeys()) {
             if (MIGRATED_KEY.equals(playerKey)) continue;
@@ -132,40 +186,21 @@ public final class WildexWorldPlayerUiStateData extends SavedData {
                 continue;
             }
 
-            CompoundTag t = tag.getCompound(playerKey);
-            String tab = t.getString(TAB_KEY);
-            String mob = t.getString(MOB_KEY);
-            boolean discoveredOnly = t.getBoolean(DISCOVERED_ONLY_KEY);
-            boolean hasFilterMenuV2 = t.getBoolean(FILTER_MENU_V2_KEY);
-            boolean friendlyEnabled = hasFilterMenuV2 && t.getBoolean(FRIENDLY_FILTER_KEY);
-            boolean neutralEnabled = hasFilterMenuV2 && t.getBoolean(NEUTRAL_FILTER_KEY);
-            boolean hostileEnabled = hasFilterMenuV2 && t.getBoolean(HOSTILE_FILTER_KEY);
-            boolean tameableEnabled = hasFilterMenuV2 && t.getBoolean(TAMEABLE_FILTER_KEY);
-            boolean favoritesEnabled = t.getBoolean(FILTER_MENU_V3_KEY) && t.getBoolean(FAVORITES_FILTER_KEY);
-            data.byPlayer.put(
-                    playerId,
-                    sanitize(new UiState(tab, mob, discoveredOnly, friendlyEnabled, neutralEnabled, hostileEnabled, tameableEnabled, favoritesEnabled))
-            );
+            data.readPlayer(playerId, tag.getCompound(playerKey));
         }
         return data;
     }
 
     @Override
     public @NotNull CompoundTag save(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
-        for (Map.Entry<UUID, UiState> e : byPlayer.entrySet()) {
-            if (e.getKey() == null || e.getValue() == null) continue;
-            CompoundTag t = new CompoundTag();
-            t.putString(TAB_KEY, sanitizeTab(e.getValue().tabId()));
-            t.putString(MOB_KEY, sanitizeMob(e.getValue().mobId()));
-            t.putBoolean(DISCOVERED_ONLY_KEY, e.getValue().discoveredOnly());
-            t.putBoolean(FRIENDLY_FILTER_KEY, e.getValue().friendlyEnabled());
-            t.putBoolean(NEUTRAL_FILTER_KEY, e.getValue().neutralEnabled());
-            t.putBoolean(HOSTILE_FILTER_KEY, e.getValue().hostileEnabled());
-            t.putBoolean(TAMEABLE_FILTER_KEY, e.getValue().tameableEnabled());
-            t.putBoolean(FAVORITES_FILTER_KEY, e.getValue().favoritesEnabled());
-            t.putBoolean(FILTER_MENU_V2_KEY, true);
-            t.putBoolean(FILTER_MENU_V3_KEY, true);
-            tag.put(e.getKey().toString(), t);
+        writeShardState(tag);
+        if (!playersInShards()) {
+            for (Map.Entry<UUID, UiState> e : byPlayer.entrySet()) {
+                if (e.getKey() == null || e.getValue() == null) continue;
+                CompoundTag t = new CompoundTag();
+                writePlayer(e.getKey(), t);
+                tag.put(e.getKey().toString(), t);
+            }
         }
         if (migratedToOverworldStorage) {
             tag.putBoolean(MIGRATED_KEY, true);
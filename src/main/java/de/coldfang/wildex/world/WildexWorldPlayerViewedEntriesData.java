@@ -9,9 +9,9 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -19,10 +19,11 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
-public final class WildexWorldPlayerViewedEntriesData extends SavedData {
+public final class WildexWorldPlayerViewedEntriesData extends WildexPlayerShardedData {
 
     private static final String DATA_NAME = "wildex_player_viewed_entries";
     private static final String MIGRATED_KEY = "__migrated_to_overworld_storage";
+    private static final String SHARD_MOBS_KEY = "mobs";
 
     private static final Factory<WildexWorldPlayerViewedEntriesData> FACTORY =
             new Factory<>(WildexWorldPlayerViewedEntriesData::new, WildexWorldPlayerViewedEntriesData::load);
@@ -75,14 +76,16 @@ public final class WildexWorldPlayerViewedEntriesData extends SavedData {
         if (playerId == null || mobId == null) return false;
         if (!WildexMobFilters.isTrackable(mobId)) return false;
 
+        ensurePlayer(playerId);
         Set<ResourceLocation> set = viewedByPlayer.computeIfAbsent(playerId, ignored -> new HashSet<>());
         boolean added = set.add(mobId);
-        if (added) setDirty();
+        if (added) markPlayerDirty(playerId);
         return added;
     }
 
     public Set<ResourceLocation> getViewed(UUID playerId) {
         if (playerId == null) return Set.of();
+        ensurePlayer(playerId);
         Set<ResourceLocation> set = viewedByPlayer.get(playerId);
         if (set == null || set.isEmpty()) return Set.of();
 
@@ -94,9 +97,36 @@ public final class WildexWorldPlayerViewedEntriesData extends SavedData {
         return Set.copyOf(filtered);
     }
 
+    @Override
+    String dataName() {
+        return DATA_NAME;
+    }
+
+    @Override
+    Collection<UUID> playerIds() {
+        return viewedByPlayer.keySet();
+    }
+
+    @Override
+    void writePlayer(UUID playerId, CompoundTag out) {
+        ListTag list = writeMobList(viewedByPlayer.get(playerId));
+        if (!list.isEmpty()) out.put(SHARD_MOBS_KEY, list);
+    }
+
+    @Override
+    void readPlayer(UUID playerId, CompoundTag in) {
+        readMobList(playerId, in.getList(SHARD_MOBS_KEY, Tag.TAG_STRING));
+    }
+
+    @Override
+    void forgetPlayer(UUID playerId) {
+        viewedByPlayer.remove(playerId);
+    }
+
     private static WildexWorldPlayerViewedEntriesData load(CompoundTag tag, HolderLookup.Provider provider) {
         WildexWorldPlayerViewedEntriesData data = new WildexWorldPlayerViewedEntriesData();
         data.migratedToOverworldStorage = tag.getBoolean(MIGRATED_KEY);
+        data.readShardState(tag);
 
         for (String playerKey : tag.getAllKeys()) {
             if (MIGRATED_KEY.equals(playerKey)) continue;
@@ -108,32 +138,43 @@ public final class WildexWorldPlayerViewedEntriesData extends SavedData {
                 continue;
             }
 
-            ListTag list = tag.getList(playerKey, Tag.TAG_STRING);
-            Set<ResourceLocation> viewed = new HashSet<>();
-            for (int i = 0; i < list.size(); i++) {
-                ResourceLocation mobId = ResourceLocation.tryParse(list.getString(i));
-                if (!WildexMobFilters.isTrackable(mobId)) continue;
-                viewed.add(mobId);
-            }
-            if (!viewed.isEmpty()) data.viewedByPlayer.put(playerId, viewed);
+            data.readMobList(playerId, tag.getList(playerKey, Tag.TAG_STRING));
         }
 
         return data;
     }
 
+    private void readMobList(UUID playerId, ListTag list) {
+        Set<ResourceLocation> viewed = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            ResourceLocation mobId = ResourceLocation.tryParse(list.getString(i));
+            if (!WildexMobFilters.isTrackable(mobId)) continue;
+            viewed.add(mobId);
+        }
+        if (!viewed.isEmpty()) viewedByPlayer.put(playerId, viewed);
+    }
+
+    private static ListTag writeMobList(Set<ResourceLocation> viewed) {
+        ListTag list = new ListTag();
+        if (viewed == null) return list;
+        for (ResourceLocation mobId : viewed) {
+            if (!WildexMobFilters.isTrackable(mobId)) continue;
+            list.add(StringTag.valueOf(mobId.toString()));
+        }
+        return list;
+    }
+
     @Override
     public @NotNull CompoundTag save(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
-        for (Map.Entry<UUID, Set<ResourceLocation>> e : viewedByPlayer.entrySet()) {
-            UUID playerId = e.getKey();
-            Set<ResourceLocation> viewed = e.getValue();
-            if (playerId == null || viewed == null || viewed.isEmpty()) continue;
-
-            ListTag list = new ListTag();
-            for (ResourceLocation mobId : viewed) {
-                if (!WildexMobFilters.isTrackable(mobId)) continue;
-                list.add(StringTag.valueOf(mobId.toString()));
+        writeShardState(tag);
+        if (!playersInShards()) {
+            for (Map.Entry<UUID, Set<ResourceLocation>> e : viewedByPlayer.entrySet()) {
+                UUID playerId = e.getKey();
+                if (playerId == null) continue;
+
+                ListTag list = writeMobList(e.getValue());
+                if (!list.isEmpty()) tag.put(playerId.toString(), list);
             }
-            if (!list.isEmpty()) tag.put(playerId.toString(), list);
         }
 
         if (migratedToOverworldStorage) {
@@ -42,10 +42,9 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
     private static final String TAG_ANALYZING = "Analyzing";
     private static final String TAG_ANALYSIS_TICKS = "AnalysisTicks";
     private static final String TAG_WAS_POWERED = "WasPowered";
+    private static final String TAG_AWAITING_INDEX = "AwaitingIndex";
 
     private static final int ANALYSIS_DURATION_TICKS = 10 * 20;
-    private static final int ANALYSIS_SCAN_BUDGET_PER_TICK = 3;
-    private static final int ANALYSIS_SCAN_BUDGET_ON_FINISH = 120;
 
     private ItemStack storedItem = ItemStack.EMPTY;
     @Nullable
@@ -53,6 +52,8 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
     private boolean analyzing = false;
     private int analysisTicks = 0;
     private boolean wasPoweredLastTick = false;
+    // The analysis time is over, but the item index is still being completed; the item stays until it is.
+    private boolean awaitingIndex = false;
 
     public WildexAnalyzerBlockEntity(BlockPos pos, BlockState blockState) {
         super(de.coldfang.wildex.registry.ModBlockEntities.WILDEX_ANALYZER.get(), pos, blockState);
@@ -95,6 +96,7 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
         this.ownerId = null;
         this.analyzing = false;
         this.analysisTicks = 0;
+        this.awaitingIndex = false;
     }
 
     public boolean tryInsertFromPlayer(ServerLevel level, Player player, ItemStack heldStack) {
@@ -106,6 +108,7 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
         this.ownerId = player.getUUID();
         this.analysisTicks = 0;
         this.analyzing = false;
+        this.awaitingIndex = false;
         this.wasPoweredLastTick = level.hasNeighborSignal(this.worldPosition);
 
         if (this.wasPoweredLastTick) {
@@ -126,6 +129,7 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
         ownerId = null;
         analysisTicks = 0;
         analyzing = false;
+        awaitingIndex = false;
         syncNow();
         return extracted;
     }
@@ -146,6 +150,7 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
         ownerId = null;
         analysisTicks = 0;
         analyzing = false;
+        awaitingIndex = false;
         syncNow();
     }
 
@@ -157,6 +162,7 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
             if (analyzing || analysisTicks != 0) {
                 analyzing = false;
                 analysisTicks = 0;
+                awaitingIndex = false;
                 syncNow();
             }
             wasPoweredLastTick = powered;
@@ -177,9 +183,8 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
         if (!analyzing) return;
 
         analysisTicks++;
-        ResourceLocation itemId = getStoredItemId();
-        if (itemId != null) {
-            WildexAnalyzerLootIndex.process(level, ANALYSIS_SCAN_BUDGET_PER_TICK);
+        if (getStoredItemId() != null) {
+            WildexAnalyzerLootIndex.requestScan();
         }
 
         if ((analysisTicks % 6) == 0) {
@@ -196,9 +201,16 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
             );
         }
 
-        if (analysisTicks >= ANALYSIS_DURATION_TICKS) {
-            finishAnalysis(level);
+        if (!awaitingIndex && analysisTicks < ANALYSIS_DURATION_TICKS) return;
+
+        if (getStoredItemId() != null && !WildexAnalyzerLootIndex.isComplete()) {
+            if (!awaitingIndex) {
+                awaitingIndex = true;
+                setChanged();
+            }
+            return;
         }
+        finishAnalysis(level);
     }
 
     private void startAnalysis(ServerLevel level) {
@@ -206,6 +218,7 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
 
         analyzing = true;
         analysisTicks = 0;
+        awaitingIndex = false;
 
         level.playSound(
                 null,
@@ -222,6 +235,7 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
     private void finishAnalysis(ServerLevel level) {
         analyzing = false;
         analysisTicks = 0;
+        awaitingIndex = false;
 
         ResourceLocation itemId = getStoredItemId();
         if (itemId == null) {
@@ -237,12 +251,7 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
             return;
         }
 
-        WildexAnalyzerLootIndex.Resolution resolution = WildexAnalyzerLootIndex.resolve(
-                level,
-                itemId,
-                ANALYSIS_SCAN_BUDGET_ON_FINISH
-        );
-        List<ResourceLocation> candidates = resolution.mobIds();
+        List<ResourceLocation> candidates = WildexAnalyzerLootIndex.resolve(itemId).mobIds();
 
         ResourceLocation target = pickUndiscoveredCandidate(level, candidates);
         if (target != null && tryDiscover(level, target)) {
@@ -289,6 +298,7 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
 
         analyzing = false;
         analysisTicks = 0;
+        awaitingIndex = false;
 
         ItemStack returned = storedItem.copy();
         storedItem = ItemStack.EMPTY;
@@ -442,6 +452,9 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
         if (wasPoweredLastTick) {
             tag.putBoolean(TAG_WAS_POWERED, true);
         }
+        if (awaitingIndex) {
+            tag.putBoolean(TAG_AWAITING_INDEX, true);
+        }
     }
 
     @Override
@@ -457,11 +470,13 @@ public final class WildexAnalyzerBlockEntity extends BlockEntity {
         analyzing = tag.getBoolean(TAG_ANALYZING);
         analysisTicks = Math.max(0, tag.getInt(TAG_ANALYSIS_TICKS));
         wasPoweredLastTick = tag.getBoolean(TAG_WAS_POWERED);
+        awaitingIndex = analyzing && tag.getBoolean(TAG_AWAITING_INDEX);
 
         if (storedItem.isEmpty()) {
             ownerId = null;
             analyzing = false;
             analysisTicks = 0;
+            awaitingIndex = false;
         }
     }
 
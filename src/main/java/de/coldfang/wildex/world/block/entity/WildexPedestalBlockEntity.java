@@ -1,22 +1,24 @@
 package de.coldfang.wildex.world.block.entity;
 
 import de.coldfang.wildex.registry.ModItems;
-import de.coldfang.wildex.util.WildexEntityFactory;
+import de.coldfang.wildex.util.WildexEntityProbe;
 import de.coldfang.wildex.util.WildexMobFilters;
+import de.coldfang.wildex.util.WildexMobIndex;
 import de.coldfang.wildex.world.WildexWorldPlayerDiscoveryData;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.entity.Entity;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.EntityType;
-import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -27,8 +29,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,39 +41,23 @@ public final class WildexPedestalBlockEntity extends BlockEntity {
 
     private static final String TAG_BOOK = "Book";
     private static final String TAG_OWNER = "Owner";
-    private static final String TAG_DISPLAY_MOB = "DisplayMob";
+    private static final String TAG_CANDIDATES = "Candidates";
     private static final int MOB_SWITCH_INTERVAL_TICKS = 40;
-    private static final int DISCOVERY_REFRESH_INTERVAL_TICKS = 100;
-    private static final int DISCOVERY_SNAPSHOT_CACHE_TTL_TICKS = 200;
-    private static final int MAX_DISCOVERY_SNAPSHOT_CACHE_ENTRIES = 512;
-    private static final int NEGATIVE_MOB_TYPE_CACHE_TTL_TICKS = 200;
-    private static final Map<ResourceLocation, MobTypeCacheEntry> MOB_TYPE_VALIDATION_CACHE = new ConcurrentHashMap<>();
-    private static final Map<UUID, DiscoverySnapshotCacheEntry> DISCOVERY_SNAPSHOT_CACHE = Collections.synchronizedMap(
-            new LinkedHashMap<>(64, 0.75f, true) {
-                @Override
-                protected boolean removeEldestEntry(Map.Entry<UUID, DiscoverySnapshotCacheEntry> eldest) {
-                    return size() > MAX_DISCOVERY_SNAPSHOT_CACHE_ENTRIES;
-                }
-            }
-    );
+    // Pedestals subscribe per owner; discovery changes mark them dirty instead of being polled for.
+    private static final Map<UUID, Set<WildexPedestalBlockEntity>> SUBSCRIBERS = new ConcurrentHashMap<>();
+    private static final Map<UUID, DiscoverySnapshot> DISCOVERY_SNAPSHOTS = new ConcurrentHashMap<>();
+    private static int snapshotFilterGeneration = Integer.MIN_VALUE;
 
     private ItemStack storedBook = ItemStack.EMPTY;
     @Nullable
     private UUID ownerId = null;
-    @Nullable
-    private ResourceLocation displayMobId = null;
 
-    private int ticksUntilSwitch = MOB_SWITCH_INTERVAL_TICKS;
-    private int displayIndex = -1;
-    private long lastDiscoveryRefreshTick = Long.MIN_VALUE;
+    @Nullable
+    private UUID subscribedOwnerId = null;
+    private boolean candidatesDirty = true;
     private List<ResourceLocation> cachedDiscoveredMobs = List.of();
     private int lastRawDiscoveredCount = 0;
 
-    @Nullable
-    private Entity cachedClientRenderEntity = null;
-    @Nullable
-    private ResourceLocation cachedClientRenderEntityId = null;
-
     public WildexPedestalBlockEntity(BlockPos pos, BlockState blockState) {
         super(de.coldfang.wildex.registry.ModBlockEntities.WILDEX_PEDESTAL.get(), pos, blockState);
     }
@@ -88,59 +73,71 @@ public final class WildexPedestalBlockEntity extends BlockEntity {
     }
 
     public static void clearMobTypeValidationCache() {
-        MOB_TYPE_VALIDATION_CACHE.clear();
-        DISCOVERY_SNAPSHOT_CACHE.clear();
+        DISCOVERY_SNAPSHOTS.clear();
+        for (Set<WildexPedestalBlockEntity> pedestals : SUBSCRIBERS.values()) {
+            for (WildexPedestalBlockEntity pedestal : pedestals) {
+                pedestal.candidatesDirty = true;
+            }
+        }
+    }
+
+    /**
+     * Forgets every subscription when the server stops. Shutdown does not remove loaded block entities, so without
+     * this the registry would keep the previous world alive.
+     */
+    public static void clearSubscriptions() {
+        for (Set<WildexPedestalBlockEntity> pedestals : SUBSCRIBERS.values()) {
+            for (WildexPedestalBlockEntity pedestal : pedestals) {
+                pedestal.subscribedOwnerId = null;
+                pedestal.candidatesDirty = true;
+            }
+        }
+        SUBSCRIBERS.clear();
+        DISCOVERY_SNAPSHOTS.clear();
+    }
+
+    /**
+     * Refreshes every subscribed pedestal once after the mob exclusion filters change. Called once per server tick.
+     */
+    public static void revalidateFilters() {
+        if (SUBSCRIBERS.isEmpty()) return;
+        int generation = WildexMobFilters.generation();
+        if (generation == snapshotFilterGeneration) return;
+        snapshotFilterGeneration = generation;
+        clearMobTypeValidationCache();
     }
 
     public static void invalidateDiscoverySnapshot(@Nullable UUID ownerId) {
         if (ownerId == null) return;
-        DISCOVERY_SNAPSHOT_CACHE.remove(ownerId);
+        DISCOVERY_SNAPSHOTS.remove(ownerId);
+        Set<WildexPedestalBlockEntity> pedestals = SUBSCRIBERS.get(ownerId);
+        if (pedestals == null) return;
+        for (WildexPedestalBlockEntity pedestal : pedestals) {
+            pedestal.candidatesDirty = true;
+        }
     }
 
     private void tickServer(ServerLevel level) {
-        if (!pedestalEnabled()) {
-            clearDisplayMob();
-            resetRotationCache();
+        if (!pedestalEnabled() || !hasBook() || ownerId == null) {
+            if (subscribedOwnerId != null || !cachedDiscoveredMobs.isEmpty()) {
+                unsubscribe();
+                clearCandidates();
+            }
             return;
         }
 
-        if (!hasBook() || ownerId == null) {
-            clearDisplayMob();
-            resetRotationCache();
-            return;
+        if (!Objects.equals(subscribedOwnerId, ownerId)) {
+            subscribe(ownerId);
         }
+        // The rotation itself is derived from game time on both sides; only candidate changes are synced.
+        if (!candidatesDirty) return;
 
         // Redstone pauses pedestal hologram logic while keeping the inserted book/state.
         if (level.hasNeighborSignal(this.worldPosition)) {
             return;
         }
 
-        long gameTime = level.getGameTime();
-        if (lastDiscoveryRefreshTick == Long.MIN_VALUE || (gameTime - lastDiscoveryRefreshTick) >= DISCOVERY_REFRESH_INTERVAL_TICKS) {
-            refreshDiscoveredMobCandidates(level, false);
-            lastDiscoveryRefreshTick = gameTime;
-        }
-
-        if (cachedDiscoveredMobs.isEmpty()) {
-            clearDisplayMob();
-            return;
-        }
-
-        boolean currentIndexValid = displayIndex >= 0
-                && displayIndex < cachedDiscoveredMobs.size()
-                && Objects.equals(cachedDiscoveredMobs.get(displayIndex), displayMobId);
-        if (!currentIndexValid) {
-            displayIndex = resolveDisplayIndex(cachedDiscoveredMobs);
-            ticksUntilSwitch = 0;
-        }
-
-        ticksUntilSwitch--;
-        if (ticksUntilSwitch > 0) return;
-
-        displayIndex = (displayIndex + 1) % cachedDiscoveredMobs.size();
-        ResourceLocation next = cachedDiscoveredMobs.get(displayIndex);
-        setDisplayMobId(next);
-        ticksUntilSwitch = MOB_SWITCH_INTERVAL_TICKS;
+        refreshDiscoveredMobCandidates(level);
     }
 
     public boolean hasBook() {
@@ -160,9 +157,7 @@ public final class WildexPedestalBlockEntity extends BlockEntity {
         if (this.level == null || !this.level.isClientSide) return;
         this.storedBook = ItemStack.EMPTY;
         this.ownerId = null;
-        this.displayMobId = null;
         resetRotationCache();
-        clearClientRenderEntity();
     }
 
     public boolean isOwner(@Nullable UUID playerId) {
@@ -182,10 +177,8 @@ public final class WildexPedestalBlockEntity extends BlockEntity {
 
         this.storedBook = heldStack.copyWithCount(1);
         this.ownerId = player.getUUID();
-        this.displayIndex = -1;
-        this.ticksUntilSwitch = 0;
-        this.lastDiscoveryRefreshTick = Long.MIN_VALUE;
-        refreshAndSelectNow(level);
+        subscribe(this.ownerId);
+        refreshDiscoveredMobCandidates(level);
         syncNow();
         return true;
     }
@@ -197,7 +190,7 @@ public final class WildexPedestalBlockEntity extends BlockEntity {
         ItemStack extracted = storedBook.copy();
         storedBook = ItemStack.EMPTY;
         ownerId = null;
-        clearDisplayMob();
+        unsubscribe();
         resetRotationCache();
         syncNow();
         return extracted;
@@ -215,50 +208,29 @@ public final class WildexPedestalBlockEntity extends BlockEntity {
         );
         storedBook = ItemStack.EMPTY;
         ownerId = null;
-        clearDisplayMob();
+        unsubscribe();
         resetRotationCache();
         syncNow();
     }
 
+    /**
+     * The mob currently shown. Every pedestal steps through its candidates on the same game-time schedule,
+     * offset by its position, so server and clients agree without syncing each switch.
+     */
     @Nullable
     public ResourceLocation getDisplayMobId() {
-        return displayMobId;
+        List<ResourceLocation> candidates = cachedDiscoveredMobs;
+        Level level = this.level;
+        if (candidates.isEmpty() || level == null) return null;
+
+        long slot = Math.floorDiv(level.getGameTime(), MOB_SWITCH_INTERVAL_TICKS) + Mth.getSeed(this.worldPosition);
+        return candidates.get((int) Math.floorMod(slot, (long) candidates.size()));
     }
 
     public DebugCounts getLastDebugCounts() {
         return new DebugCounts(lastRawDiscoveredCount, cachedDiscoveredMobs.size());
     }
 
-    @SuppressWarnings("resource")
-    @Nullable
-    public Entity getOrCreateClientRenderEntity() {
-        Level level = this.level;
-        if (level == null || !level.isClientSide) return null;
-        if (displayMobId == null) {
-            clearClientRenderEntity();
-            return null;
-        }
-
-        if (cachedClientRenderEntity != null
-                && Objects.equals(cachedClientRenderEntityId, displayMobId)
-                && !cachedClientRenderEntity.isRemoved()
-                && cachedClientRenderEntity.level() == level) {
-            return cachedClientRenderEntity;
-        }
-
-        clearClientRenderEntity();
-
-        EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(displayMobId).orElse(null);
-        if (type == null) return null;
-
-        Entity created = WildexEntityFactory.tryCreate(type, level);
-        if (created == null) return null;
-
-        cachedClientRenderEntity = created;
-        cachedClientRenderEntityId = displayMobId;
-        return created;
-    }
-
     @Override
     protected void saveAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider registries) {
         super.saveAdditional(tag, registries);
@@ -268,9 +240,6 @@ public final class WildexPedestalBlockEntity extends BlockEntity {
         if (ownerId != null) {
             tag.putUUID(TAG_OWNER, ownerId);
         }
-        if (displayMobId != null) {
-            tag.putString(TAG_DISPLAY_MOB, displayMobId.toString());
-        }
     }
 
     @Override
@@ -288,23 +257,32 @@ public final class WildexPedestalBlockEntity extends BlockEntity {
             ownerId = null;
         }
 
-        ResourceLocation loadedDisplayId = null;
-        if (tag.contains(TAG_DISPLAY_MOB, Tag.TAG_STRING)) {
-            ResourceLocation parsed = ResourceLocation.tryParse(tag.getString(TAG_DISPLAY_MOB));
-            if (WildexMobFilters.isTrackable(parsed)
-                    && BuiltInRegistries.ENTITY_TYPE.containsKey(parsed)) {
-                loadedDisplayId = parsed;
+        resetRotationCache();
+        // Candidates only arrive with update packets; the server rebuilds its own on the next tick.
+        if (tag.contains(TAG_CANDIDATES, Tag.TAG_LIST)) {
+            ListTag list = tag.getList(TAG_CANDIDATES, Tag.TAG_STRING);
+            ArrayList<ResourceLocation> loaded = new ArrayList<>(list.size());
+            for (int i = 0; i < list.size(); i++) {
+                ResourceLocation parsed = ResourceLocation.tryParse(list.getString(i));
+                if (!WildexMobFilters.isTrackable(parsed)) continue;
+                if (!BuiltInRegistries.ENTITY_TYPE.containsKey(parsed)) continue;
+                loaded.add(parsed);
             }
+            cachedDiscoveredMobs = List.copyOf(loaded);
         }
-        displayMobId = loadedDisplayId;
-
-        resetRotationCache();
-        clearClientRenderEntity();
     }
 
     @Override
     public @NotNull CompoundTag getUpdateTag(@NotNull HolderLookup.Provider registries) {
-        return this.saveWithoutMetadata(registries);
+        CompoundTag tag = this.saveWithoutMetadata(registries);
+        if (!cachedDiscoveredMobs.isEmpty()) {
+            ListTag list = new ListTag();
+            for (ResourceLocation id : cachedDiscoveredMobs) {
+                list.add(StringTag.valueOf(id.toString()));
+            }
+            tag.put(TAG_CANDIDATES, list);
+        }
+        return tag;
     }
 
     @Override
@@ -315,73 +293,57 @@ public final class WildexPedestalBlockEntity extends BlockEntity {
     @Override
     public void setRemoved() {
         super.setRemoved();
-        clearClientRenderEntity();
-    }
-
-    @Override
-    public void setLevel(@NotNull Level level) {
-        Level previousLevel = this.level;
-        super.setLevel(level);
-        if (previousLevel != level) {
-            clearClientRenderEntity();
-        }
+        unsubscribe();
     }
 
-    private void refreshDiscoveredMobCandidates(ServerLevel level, boolean forceRefresh) {
+    private void refreshDiscoveredMobCandidates(ServerLevel level) {
+        candidatesDirty = false;
         if (ownerId == null) {
-            cachedDiscoveredMobs = List.of();
-            displayIndex = -1;
-            lastRawDiscoveredCount = 0;
+            clearCandidates();
             return;
         }
 
-        DiscoverySnapshotCacheEntry snapshot = resolveSnapshot(level, ownerId, forceRefresh);
+        DiscoverySnapshot snapshot = resolveSnapshot(level, ownerId);
         lastRawDiscoveredCount = snapshot.discoveredCount();
-        List<ResourceLocation> next = snapshot.candidateIds();
-
-        if (next.isEmpty()) {
-            cachedDiscoveredMobs = List.of();
-            displayIndex = -1;
-            return;
-        }
-
-        if (!next.equals(cachedDiscoveredMobs)) {
-            cachedDiscoveredMobs = next;
-            displayIndex = resolveDisplayIndex(cachedDiscoveredMobs);
-            ticksUntilSwitch = 0;
-        }
-    }
-
-    private int resolveDisplayIndex(List<ResourceLocation> candidates) {
-        if (displayMobId == null || candidates == null || candidates.isEmpty()) return -1;
-        return candidates.indexOf(displayMobId);
+        setCandidates(snapshot.candidateIds());
     }
 
-    private void clearDisplayMob() {
-        setDisplayMobId(null);
+    private void clearCandidates() {
+        lastRawDiscoveredCount = 0;
+        setCandidates(List.of());
     }
 
-    private void setDisplayMobId(@Nullable ResourceLocation id) {
-        if (Objects.equals(this.displayMobId, id)) return;
-        this.displayMobId = id;
-        clearClientRenderEntity();
+    private void setCandidates(List<ResourceLocation> next) {
+        if (next.equals(cachedDiscoveredMobs)) return;
+        cachedDiscoveredMobs = next;
         syncNow();
     }
 
     private void resetRotationCache() {
         this.cachedDiscoveredMobs = List.of();
-        this.displayIndex = -1;
-        this.ticksUntilSwitch = MOB_SWITCH_INTERVAL_TICKS;
-        this.lastDiscoveryRefreshTick = Long.MIN_VALUE;
+        this.candidatesDirty = true;
         this.lastRawDiscoveredCount = 0;
     }
 
-    private void clearClientRenderEntity() {
-        if (cachedClientRenderEntity != null) {
-            WildexEntityFactory.discardQuietly(cachedClientRenderEntity);
+    private void subscribe(UUID owner) {
+        unsubscribe();
+        SUBSCRIBERS.computeIfAbsent(owner, ignored -> ConcurrentHashMap.newKeySet()).add(this);
+        subscribedOwnerId = owner;
+        candidatesDirty = true;
+    }
+
+    private void unsubscribe() {
+        UUID owner = subscribedOwnerId;
+        if (owner == null) return;
+        subscribedOwnerId = null;
+
+        Set<WildexPedestalBlockEntity> remaining = SUBSCRIBERS.computeIfPresent(owner, (key, pedestals) -> {
+            pedestals.remove(this);
+            return pedestals.isEmpty() ? null : pedestals;
+        });
+        if (remaining == null) {
+            DISCOVERY_SNAPSHOTS.remove(owner);
         }
-        cachedClientRenderEntity = null;
-        cachedClientRenderEntityId = null;
     }
 
     private void syncNow() {
@@ -393,120 +355,44 @@ public final class WildexPedestalBlockEntity extends BlockEntity {
 
     private static boolean isMobTypeInLevel(ServerLevel level, ResourceLocation id) {
         if (level == null || id == null) return false;
-        long nowTick = level.getGameTime();
-        MobTypeCacheEntry cached = MOB_TYPE_VALIDATION_CACHE.get(id);
-        if (cached != null) {
-            if (cached.mob()) return true;
-            if (nowTick < cached.retryAfterTick()) return false;
-            MOB_TYPE_VALIDATION_CACHE.remove(id);
-        }
-
         EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(id).orElse(null);
-        if (type == null) {
-            putNegativeMobCache(id, nowTick);
-            return false;
-        }
-
-        Entity e;
-        try {
-            e = type.create(level);
-        } catch (RuntimeException ignored) {
-            putNegativeMobCache(id, nowTick);
-            return false;
-        }
-        if (e == null) {
-            putNegativeMobCache(id, nowTick);
-            return false;
-        }
-
-        boolean mob = e instanceof Mob;
-        WildexEntityFactory.discardQuietly(e);
-        if (mob) {
-            MOB_TYPE_VALIDATION_CACHE.put(id, new MobTypeCacheEntry(true, Long.MAX_VALUE));
-        } else {
-            putNegativeMobCache(id, nowTick);
-        }
-        return mob;
+        if (type == null) return false;
+        return WildexEntityProbe.of(type, level).mob();
     }
 
-    private void refreshAndSelectNow(ServerLevel level) {
-        refreshDiscoveredMobCandidates(level, true);
-        if (!cachedDiscoveredMobs.isEmpty()) {
-            this.displayIndex = 0;
-            this.ticksUntilSwitch = MOB_SWITCH_INTERVAL_TICKS;
-            setDisplayMobId(cachedDiscoveredMobs.getFirst());
-        } else {
-            clearDisplayMob();
-        }
-    }
+    private static DiscoverySnapshot resolveSnapshot(ServerLevel level, UUID owner) {
+        if (level == null || owner == null) return DiscoverySnapshot.EMPTY;
 
-    private static void putNegativeMobCache(ResourceLocation id, long nowTick) {
-        MOB_TYPE_VALIDATION_CACHE.put(id, new MobTypeCacheEntry(false, nowTick + NEGATIVE_MOB_TYPE_CACHE_TTL_TICKS));
-    }
-
-    private static DiscoverySnapshotCacheEntry resolveSnapshot(ServerLevel level, UUID owner, boolean forceRefresh) {
-        if (level == null || owner == null) return DiscoverySnapshotCacheEntry.EMPTY;
-
-        long nowTick = level.getGameTime();
-        if (!forceRefresh) {
-            DiscoverySnapshotCacheEntry cached = snapshotGet(owner);
-            if (cached != null && nowTick < cached.nextRefreshTick()) {
-                return cached;
-            }
-        }
+        DiscoverySnapshot cached = DISCOVERY_SNAPSHOTS.get(owner);
+        if (cached != null) return cached;
 
-        Set<ResourceLocation> discovered = WildexWorldPlayerDiscoveryData.get(level).getDiscovered(owner);
-        int discoveredCount = discovered.size();
-        if (discovered.isEmpty()) {
-            DiscoverySnapshotCacheEntry empty = new DiscoverySnapshotCacheEntry(List.of(), 0, nowTick + DISCOVERY_SNAPSHOT_CACHE_TTL_TICKS);
-            snapshotPut(owner, empty);
-            return empty;
-        }
+        // Collect into the shared mob index; its bit order is id order, so nothing is sorted.
+        BitSet ordinals = new BitSet(WildexMobIndex.size());
+        int[] discoveredCount = {0};
+        WildexWorldPlayerDiscoveryData.get(level).forEachDiscovered(owner, id -> {
+            discoveredCount[0]++;
+            int ordinal = WildexMobIndex.find(id);
+            if (ordinal < 0 || !isMobTypeInLevel(level, id)) return;
+            ordinals.set(ordinal);
+        });
 
-        ArrayList<ResourceLocation> next = new ArrayList<>();
-        for (ResourceLocation id : discovered) {
-            if (id == null) continue;
-            if (!WildexMobFilters.isTrackable(id)) continue;
-            if (!BuiltInRegistries.ENTITY_TYPE.containsKey(id)) continue;
-            if (!isMobTypeInLevel(level, id)) continue;
-            next.add(id);
+        ArrayList<ResourceLocation> candidates = new ArrayList<>(ordinals.cardinality());
+        for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+            candidates.add(WildexMobIndex.id(i));
         }
 
-        if (next.isEmpty()) {
-            DiscoverySnapshotCacheEntry empty = new DiscoverySnapshotCacheEntry(List.of(), discoveredCount, nowTick + DISCOVERY_SNAPSHOT_CACHE_TTL_TICKS);
-            snapshotPut(owner, empty);
-            return empty;
+        DiscoverySnapshot built = new DiscoverySnapshot(List.copyOf(candidates), discoveredCount[0]);
+        // Only owners with a pedestal keep a snapshot; the last pedestal to leave drops it.
+        if (SUBSCRIBERS.containsKey(owner)) {
+            DISCOVERY_SNAPSHOTS.put(owner, built);
         }
-
-        Collections.sort(next);
-        DiscoverySnapshotCacheEntry built = new DiscoverySnapshotCacheEntry(
-                List.copyOf(next),
-                discoveredCount,
-                nowTick + DISCOVERY_SNAPSHOT_CACHE_TTL_TICKS
-        );
-        snapshotPut(owner, built);
         return built;
     }
 
-    private static @Nullable DiscoverySnapshotCacheEntry snapshotGet(UUID owner) {
-        synchronized (DISCOVERY_SNAPSHOT_CACHE) {
-            return DISCOVERY_SNAPSHOT_CACHE.get(owner);
-        }
-    }
-
-    private static void snapshotPut(UUID owner, DiscoverySnapshotCacheEntry entry) {
-        synchronized (DISCOVERY_SNAPSHOT_CACHE) {
-            DISCOVERY_SNAPSHOT_CACHE.put(owner, entry);
-        }
-    }
-
     public record DebugCounts(int discoveredCount, int candidateCount) {
     }
 
-    private record MobTypeCacheEntry(boolean mob, long retryAfterTick) {
-    }
-
-    private record DiscoverySnapshotCacheEntry(List<ResourceLocation> candidateIds, int discoveredCount, long nextRefreshTick) {
-        private static final DiscoverySnapshotCacheEntry EMPTY = new DiscoverySnapshotCacheEntry(List.of(), 0, Long.MIN_VALUE);
+    private record DiscoverySnapshot(List<ResourceLocation> candidateIds, int discoveredCount) {
+        private static final DiscoverySnapshot EMPTY = new DiscoverySnapshot(List.of(), 0);
     }
 }